@@ -0,0 +1,21 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// benchmarks.jar 진입점 - JMH 명령행 옵션을 그대로 받고 gc 프로파일러를 항상 추가
+// (처리량과 함께 연산당 할당량 gc.alloc.rate.norm 이 보고됨)
+//   java -jar benchmarks/target/benchmarks.jar                  전체 실행
+//   java -jar benchmarks/target/benchmarks.jar SearchSql -f 1   이름에 SearchSql이 들어간 벤치마크만
+public class BenchmarkMain {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
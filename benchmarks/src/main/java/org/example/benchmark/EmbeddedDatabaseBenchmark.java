@@ -0,0 +1,396 @@
+package org.example.benchmark;
+
+import org.example.dao.EmployeeAggregator;
+import org.example.dao.EmployeeCriteria;
+import org.example.dao.EmployeeCriteria.Field;
+import org.example.dao.EmployeeDAO;
+import org.example.dao.EmployeePage;
+import org.example.dao.EmployeeSnapshotCache;
+import org.example.dao.JDBCConnection;
+import org.example.dao.QueryHandle;
+import org.example.dao.SqlTrace;
+import org.example.model.Employee;
+import org.example.model.EmployeeSnapshot;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// 내장 H2(MySQL 호환 모드)에 COMPANY 스키마와 가상 직원을 채우고 실제 EmployeeDAO/EmployeeAggregator 경로를 측정
+//   java -cp benchmarks/target/benchmarks.jar org.example.benchmark.EmbeddedDatabaseBenchmark <직원 수> [반복 횟수] [결과 파일]
+// - 검색 조건은 DBConditionSearch가 만드는 것과 같은 EmployeeCriteria로 전달 (화면 없이 같은 DAO 호출)
+// - 시나리오별 지연 시간 백분위를 출력하고 결과 파일(JSON Lines, 기본 embedded-benchmark.jsonl)에 한 줄씩 추가
+// - 측정 중 실행된 SQL 유형(SqlTrace)을 총 시간 순으로 함께 출력 (DB_SQL_TRACE=false면 생략)
+// - 기본은 메모리 DB, 1M 이상은 -DDB_URL=jdbc:h2:file:/tmp/company;MODE=MySQL 처럼 파일 DB와 충분한 -Xmx 권장
+//   (파일 DB에 같은 직원 수가 이미 있으면 다시 채우지 않음)
+// H2에서 지원하지 않는 WITH ROLLUP, FULLTEXT 색인, 요약 테이블 경로는 측정하지 않음
+public class EmbeddedDatabaseBenchmark {
+    private static final String DEFAULT_URL = "jdbc:h2:mem:company;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_SIZE = 50_000;
+    private static final int DEEP_PAGE = 10;
+    private static final int ALL_EMPLOYEES_LIMIT = 100_000;   // 이보다 많으면 전체 목록 조회는 건너뜀
+
+    // 측정 대상 호출 - 결과 행 수를 반환
+    private interface Scenario {
+        int run(QueryHandle handle) throws SQLException;
+    }
+
+    private record Result(String name, int resultRows, long[] nanos) {
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * nanos.length) - 1;
+            return nanos[Math.max(0, Math.min(nanos.length - 1, index))] / 1_000_000.0;
+        }
+
+        double meanMillis() {
+            return Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("usage: <employees> [iterations] [results.jsonl]");
+            return;
+        }
+        int employees = Integer.parseInt(args[0]);
+        int iterations = args.length >= 2 ? Integer.parseInt(args[1]) : 50;
+        Path output = Path.of(args.length >= 3 ? args[2] : "embedded-benchmark.jsonl");
+
+        // JDBCConnection이 처음 사용되기 전에 설정 (.env보다 우선)
+        defaultProperty("DB_URL", DEFAULT_URL);
+        defaultProperty("DB_USER", "sa");
+        defaultProperty("DB_PASSWORD", "");
+        defaultProperty("DB_TEXT_SEARCH", "like");
+
+        try {
+            createSchema();
+            seed(employees);
+            SqlTrace trace = JDBCConnection.getSqlTrace();
+            if (trace != null) {
+                trace.reset();   // 스키마 생성/데이터 채우기는 집계에서 제외
+            }
+            List<Result> results = measure(employees, iterations);
+            print(results);
+            if (trace != null) {
+                printDigests(trace.getDigests());
+            }
+            write(output, employees, iterations, results);
+        } finally {
+            JDBCConnection.closeConnection();
+        }
+    }
+
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static void createSchema() throws IOException, SQLException {
+        String script;
+        try (InputStream in = EmbeddedDatabaseBenchmark.class.getResourceAsStream("/h2/company_schema.sql")) {
+            if (in == null) {
+                throw new IOException("h2/company_schema.sql not found on classpath");
+            }
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+        try (Connection conn = JDBCConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : withoutComments.toString().split(";")) {
+                if (!sql.isBlank()) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static void seed(int employees) throws SQLException {
+        try (Connection conn = JDBCConnection.getConnection()) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM EMPLOYEE")) {
+                rs.next();
+                long existing = rs.getLong(1);
+                if (existing == employees) {
+                    System.out.println("using existing " + existing + " employees");
+                    return;
+                }
+            }
+
+            long start = System.nanoTime();
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                for (String table : new String[]{"ADMIN", "DEPENDENT", "WORKS_ON", "EMPLOYEE", "DEPARTMENT"}) {
+                    stmt.executeUpdate("DELETE FROM " + table);
+                }
+                for (int i = 0; i < EmployeeFixtures.DEPARTMENT_NUMBERS.length; i++) {
+                    stmt.executeUpdate("INSERT INTO DEPARTMENT (Dname, Dnumber) VALUES ('"
+                            + EmployeeFixtures.DEPARTMENT_NAMES[i] + "', " + EmployeeFixtures.DEPARTMENT_NUMBERS[i] + ")");
+                }
+                stmt.executeUpdate("INSERT INTO ADMIN (ssn) VALUES ('500000000')");
+            }
+
+            Random random = new Random(42);
+            try (PreparedStatement employee = conn.prepareStatement("""
+                    INSERT INTO EMPLOYEE (Fname, Minit, Lname, Ssn, Bdate, Address, Sex, Salary, Super_ssn, Dno,
+                                          created, modified)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """);
+                 PreparedStatement worksOn = conn.prepareStatement(
+                         "INSERT INTO WORKS_ON (Essn, Pno, Hours) VALUES (?, ?, ?)");
+                 PreparedStatement dependent = conn.prepareStatement(
+                         "INSERT INTO DEPENDENT (Essn, Dependent_name, Sex, Relationship) VALUES (?, ?, ?, ?)")) {
+                for (int i = 0; i < employees; i++) {
+                    Employee e = EmployeeFixtures.employee(random, i);
+                    employee.setString(1, e.getFirstName());
+                    employee.setString(2, String.valueOf(e.getMinit()));
+                    employee.setString(3, e.getLastName());
+                    employee.setString(4, e.getSsn());
+                    employee.setDate(5, new Date(e.getBirthDate().getTime()));
+                    employee.setString(6, e.getAddress());
+                    employee.setString(7, String.valueOf(e.getSex()));
+                    employee.setDouble(8, e.getSalary());
+                    employee.setString(9, e.getSupervisorSsn());
+                    employee.setInt(10, e.getDepartmentNumber());
+                    employee.setTimestamp(11, e.getModified());
+                    employee.setTimestamp(12, e.getModified());
+                    employee.addBatch();
+
+                    // 절반은 프로젝트 참여, 다섯 명 중 한 명은 부양가족 (삭제 시 종속성 확인 대상)
+                    if (i % 2 == 0) {
+                        worksOn.setString(1, e.getSsn());
+                        worksOn.setInt(2, 1 + random.nextInt(30));
+                        worksOn.setDouble(3, 5 + random.nextInt(35));
+                        worksOn.addBatch();
+                    }
+                    if (i % 5 == 0) {
+                        dependent.setString(1, e.getSsn());
+                        dependent.setString(2, "Dependent" + (i % 100));
+                        dependent.setString(3, random.nextBoolean() ? "M" : "F");
+                        dependent.setString(4, "Child");
+                        dependent.addBatch();
+                    }
+
+                    if ((i + 1) % BATCH_SIZE == 0 || i == employees - 1) {
+                        employee.executeBatch();
+                        worksOn.executeBatch();
+                        dependent.executeBatch();
+                    }
+                    if ((i + 1) % COMMIT_SIZE == 0) {
+                        conn.commit();
+                    }
+                    if ((i + 1) % 1_000_000 == 0) {
+                        System.out.println((i + 1) + " employees inserted");
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            System.out.printf("seeded %d employees in %.1fs%n", employees, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    private static List<Result> measure(int employees, int iterations) throws SQLException, IOException {
+        EmployeeDAO dao = new EmployeeDAO();
+        EmployeeAggregator aggregator = new EmployeeAggregator();
+        int pageSize = EmployeeDAO.DEFAULT_PAGE_SIZE;
+
+        // 깊은 페이지 시작 위치 (스크롤을 DEEP_PAGE번 내린 상태)
+        EmployeePage page = dao.getEmployeePage(null, pageSize, new QueryHandle());
+        EmployeePage.Cursor firstPageEnd = page.next();
+        for (int i = 1; i < DEEP_PAGE && page.next() != null; i++) {
+            page = dao.getEmployeePage(page.next(), pageSize, new QueryHandle());
+        }
+        EmployeePage.Cursor deepCursor = page.next();
+        Timestamp watermark = dao.getModifiedWatermark();
+        String middleSsn = String.valueOf(500_000_000 + employees / 2);
+
+        List<String> scenarioNames = new ArrayList<>();
+        List<Scenario> scenarios = new ArrayList<>();
+        add(scenarioNames, scenarios, "page.first",
+                h -> dao.getEmployeePage(null, pageSize, h).employees().size());
+        if (deepCursor != null) {
+            add(scenarioNames, scenarios, "page.deep" + DEEP_PAGE,
+                    h -> dao.getEmployeePage(deepCursor, pageSize, h).employees().size());
+        }
+        add(scenarioNames, scenarios, "search.name",
+                h -> dao.searchEmployeesPage(EmployeeCriteria.contains(Field.NAME, "Wong"), null, pageSize, h)
+                        .employees().size());
+        add(scenarioNames, scenarios, "search.name.prefix",
+                h -> dao.searchEmployeesPage(EmployeeCriteria.startsWith(Field.NAME, "Jo"), null, pageSize, h)
+                        .employees().size());
+        add(scenarioNames, scenarios, "search.address",
+                h -> dao.searchEmployeesPage(EmployeeCriteria.contains(Field.ADDRESS, "Houston"), null, pageSize, h)
+                        .employees().size());
+        add(scenarioNames, scenarios, "search.department+sex",
+                h -> dao.searchEmployeesPage(EmployeeCriteria.and(
+                        EmployeeCriteria.equalTo(Field.DEPARTMENT, "Research"),
+                        EmployeeCriteria.equalTo(Field.SEX, "M")), null, pageSize, h).employees().size());
+        add(scenarioNames, scenarios, "search.salary",
+                h -> dao.searchEmployeesPage(EmployeeCriteria.atLeast(Field.SALARY, "95000"), null, pageSize, h)
+                        .employees().size());
+        add(scenarioNames, scenarios, "search.salary+bdate.between",
+                h -> dao.searchEmployeesPage(filtered(), null, pageSize, h).employees().size());
+        add(scenarioNames, scenarios, "search.ssn",
+                h -> dao.searchEmployees(EmployeeCriteria.equalTo(Field.SSN, middleSsn), h).size());
+        add(scenarioNames, scenarios, "group.department",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.DEPARTMENT),
+                        null, 0), h).size());
+        add(scenarioNames, scenarios, "group.sex+birthYear",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.SEX,
+                        EmployeeAggregator.Dimension.BIRTH_YEAR), null, 0), h).size());
+        add(scenarioNames, scenarios, "group.supervisor.top10",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.SUPERVISOR),
+                        EmployeeAggregator.Metric.COUNT, 10), h).size());
+        add(scenarioNames, scenarios, "group.department.filtered",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.DEPARTMENT),
+                        null, 0, filtered()), h).size());
+        add(scenarioNames, scenarios, "refresh.changes",
+                h -> dao.getChangesSince(watermark, firstPageEnd, h).liveSsns().size());
+        if (employees <= ALL_EMPLOYEES_LIMIT) {
+            add(scenarioNames, scenarios, "all.employees", h -> dao.getAllEmployees(h).size());
+        }
+        // 전체 직원 스냅샷 (힙 밖 컬럼) - 읽기와, 불러온 스냅샷에서의 그룹 통계 (같은 요청을 DB 대신 메모리에서)
+        add(scenarioNames, scenarios, "snapshot.load", h -> dao.loadSnapshot(h).size());
+        EmployeeSnapshot snapshot = dao.loadSnapshot(new QueryHandle());
+        add(scenarioNames, scenarios, "snapshot.group.department",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.DEPARTMENT),
+                        null, 0), snapshot, h).size());
+        add(scenarioNames, scenarios, "snapshot.group.sex+birthYear",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.SEX,
+                        EmployeeAggregator.Dimension.BIRTH_YEAR), null, 0), snapshot, h).size());
+        add(scenarioNames, scenarios, "snapshot.group.supervisor.top10",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.SUPERVISOR),
+                        EmployeeAggregator.Metric.COUNT, 10), snapshot, h).size());
+        add(scenarioNames, scenarios, "snapshot.group.department.filtered",
+                h -> aggregator.aggregate(request(List.of(EmployeeAggregator.Dimension.DEPARTMENT),
+                        null, 0, filtered()), snapshot, h).size());
+        // 시작 시 스냅샷 파일 경로 - 파일 매핑(첫 화면)과 DB의 Ssn/modified와 비교(백그라운드 확인)
+        Path snapshotFile = Files.createTempFile("employees", ".snapshot");
+        snapshotFile.toFile().deleteOnExit();
+        EmployeeSnapshotCache snapshotCache = new EmployeeSnapshotCache(snapshotFile, "benchmark");
+        snapshotCache.load(new QueryHandle());
+        add(scenarioNames, scenarios, "snapshot.file.open", h -> snapshotCache.open().size());
+        EmployeeSnapshot mapped = snapshotCache.open();
+        add(scenarioNames, scenarios, "snapshot.file.revalidate", h -> snapshotCache.revalidate(mapped, h).size());
+
+        List<Result> results = new ArrayList<>();
+        int warmup = Math.max(3, iterations / 5);
+        for (int s = 0; s < scenarios.size(); s++) {
+            Scenario scenario = scenarios.get(s);
+            int rows = 0;
+            for (int i = 0; i < warmup; i++) {
+                rows = scenario.run(new QueryHandle());
+            }
+            long[] nanos = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                scenario.run(new QueryHandle());
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            results.add(new Result(scenarioNames.get(s), rows, nanos));
+        }
+        return results;
+    }
+
+    private static void add(List<String> names, List<Scenario> scenarios, String name, Scenario scenario) {
+        names.add(name);
+        scenarios.add(scenario);
+    }
+
+    // 검색 조건 없는 그룹 통계 (H2는 WITH ROLLUP을 지원하지 않으므로 소계 없음)
+    private static EmployeeAggregator.Request request(List<EmployeeAggregator.Dimension> dimensions,
+                                                      EmployeeAggregator.Metric sortBy, int topK) {
+        return request(dimensions, sortBy, topK, EmployeeCriteria.all());
+    }
+
+    private static EmployeeAggregator.Request request(List<EmployeeAggregator.Dimension> dimensions,
+                                                      EmployeeAggregator.Metric sortBy, int topK,
+                                                      EmployeeCriteria filter) {
+        return new EmployeeAggregator.Request(dimensions, false, sortBy, topK, filter, 10);
+    }
+
+    // 범위/OR/NOT을 함께 쓰는 검색 조건 (급여 구간, 1960년대생, J로 시작하는 이름, 본사 제외)
+    private static EmployeeCriteria filtered() {
+        return EmployeeCriteria.and(
+                EmployeeCriteria.between(Field.SALARY, "40000", "70000"),
+                EmployeeCriteria.between(Field.BDATE, "1960-01-01", "1969-12-31"),
+                EmployeeCriteria.or(
+                        EmployeeCriteria.startsWith(Field.NAME, "Jo"),
+                        EmployeeCriteria.startsWith(Field.NAME, "Ja")),
+                EmployeeCriteria.not(EmployeeCriteria.equalTo(Field.DEPARTMENT, "Headquarters")));
+    }
+
+    private static void print(List<Result> results) {
+        System.out.printf("%-36s %8s %10s %10s %10s %10s%n", "scenario", "rows", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            System.out.printf("%-36s %8d %10.2f %10.2f %10.2f %10.2f%n", result.name(), result.resultRows(),
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(100));
+        }
+    }
+
+    private static void printDigests(List<SqlTrace.Digest> digests) {
+        System.out.printf("%n%8s %10s %10s %10s %10s  %s%n", "calls", "rows", "total(ms)", "p95(ms)", "max(ms)", "sql");
+        for (SqlTrace.Digest digest : digests.subList(0, Math.min(10, digests.size()))) {
+            String fingerprint = digest.fingerprint();
+            System.out.printf("%8d %10d %10.1f %10.2f %10.2f  %s%n", digest.calls(), digest.rows(),
+                    digest.totalMicros() / 1000.0, digest.p95Micros() / 1000.0, digest.maxMicros() / 1000.0,
+                    fingerprint.length() > 120 ? fingerprint.substring(0, 117) + "..." : fingerprint);
+        }
+    }
+
+    // 실행마다 시나리오당 한 줄 - 실행 간 비교는 runAt과 employees로 묶어서 사용
+    private static void write(Path output, int employees, int iterations, List<Result> results)
+            throws IOException, SQLException {
+        String database;
+        try (Connection conn = JDBCConnection.getConnection()) {
+            database = conn.getMetaData().getDatabaseProductName() + " " + conn.getMetaData().getDatabaseProductVersion();
+        }
+        String runAt = Instant.now().toString();
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Result result : results) {
+                writer.write(String.format(Locale.ROOT,
+                        "{\"runAt\":\"%s\",\"database\":\"%s\",\"employees\":%d,\"scenario\":\"%s\",\"iterations\":%d,"
+                                + "\"resultRows\":%d,\"meanMs\":%.3f,\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f}",
+                        runAt, escape(database), employees, escape(result.name()), iterations, result.resultRows(),
+                        result.meanMillis(), result.percentileMillis(50), result.percentileMillis(90),
+                        result.percentileMillis(99), result.percentileMillis(100)));
+                writer.newLine();
+            }
+        }
+        System.out.println("results appended to " + output);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
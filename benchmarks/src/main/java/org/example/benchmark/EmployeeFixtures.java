@@ -0,0 +1,165 @@
+package org.example.benchmark;
+
+import org.example.model.Employee;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 벤치마크용 가상 직원 데이터 (시드 고정이라 실행할 때마다 같은 데이터)
+public final class EmployeeFixtures {
+    public static final int[] DEPARTMENT_NUMBERS = {1, 4, 5};
+    public static final String[] DEPARTMENT_NAMES = {"Headquarters", "Administration", "Research"};
+
+    // SELECT_EMPLOYEES_BASE의 컬럼 순서
+    private static final String[] COLUMNS = {
+            "Fname", "Minit", "Lname", "Ssn", "Bdate", "Address", "Sex", "Salary", "Super_ssn", "Dno", "modified"
+    };
+    private static final String[] FIRST_NAMES = {
+            "John", "Franklin", "Alicia", "Jennifer", "Ramesh", "Joyce", "Ahmad", "James", "Minji", "Jisoo"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Wong", "Zelaya", "Wallace", "Narayan", "English", "Jabbar", "Borg", "Kim", "Lee"
+    };
+    private static final String[] STREETS = {"Fondren", "Voss", "Castle", "Berry", "Fire Oak", "Rice", "Stone"};
+    private static final String[] CITIES = {"Houston, TX", "Bellaire, TX", "Spring, TX", "Seoul", "Busan"};
+    private static final long MODIFIED_BASE = Timestamp.valueOf("2024-01-01 09:00:00").getTime();
+
+    private EmployeeFixtures() {
+    }
+
+    public static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(random, i));
+        }
+        return employees;
+    }
+
+    // index번째 가상 직원 (SSN은 500000000 + index, 처음 10명이 나머지의 상급자)
+    public static Employee employee(Random random, int index) {
+        int department = random.nextInt(DEPARTMENT_NUMBERS.length);
+        Employee employee = new Employee(
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                (char) ('A' + random.nextInt(26)),
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                String.valueOf(500_000_000 + index),
+                Date.valueOf(LocalDate.of(1950 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28))),
+                (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)]
+                        + ", " + CITIES[random.nextInt(CITIES.length)],
+                random.nextBoolean() ? 'M' : 'F',
+                20_000 + random.nextInt(80_000),
+                index < 10 ? null : String.valueOf(500_000_000 + random.nextInt(10)),
+                DEPARTMENT_NUMBERS[department]);
+        employee.setDepartmentName(DEPARTMENT_NAMES[department]);
+        employee.setModified(new Timestamp(MODIFIED_BASE + random.nextInt(86_400) * 1000L));
+        return employee;
+    }
+
+    public static Map<Integer, String> departmentNames() {
+        Map<Integer, String> names = new HashMap<>();
+        for (int i = 0; i < DEPARTMENT_NUMBERS.length; i++) {
+            names.put(DEPARTMENT_NUMBERS[i], DEPARTMENT_NAMES[i]);
+        }
+        return names;
+    }
+
+    // 직원 목록을 SELECT_EMPLOYEES_BASE 결과처럼 돌려주는 메모리 결과셋
+    // next/beforeFirst/close/getMetaData, 컬럼 이름과 번호로 읽는 getString/getInt/getDouble/getDate/getTimestamp/getObject,
+    // wasNull만 지원 (getDate/getTimestamp는 실제 드라이버처럼 호출마다 새 객체를 돌려줌)
+    // (프록시 호출 비용은 매핑 방식과 상관없이 일정하므로 매핑 코드 간 비교에는 영향 없음)
+    public static ResultSet resultSet(List<Employee> employees) {
+        Object[][] rows = new Object[employees.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            Employee e = employees.get(i);
+            rows[i] = new Object[]{
+                    e.getFirstName(), String.valueOf(e.getMinit()), e.getLastName(), e.getSsn(),
+                    e.getBirthDate(), e.getAddress(), String.valueOf(e.getSex()), e.getSalary(),
+                    e.getSupervisorSsn(), e.getDepartmentNumber(), e.getModified()
+            };
+        }
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new RowsHandler(rows));
+    }
+
+    private static final class RowsHandler implements InvocationHandler {
+        private static final Map<String, Integer> INDEX_BY_LABEL = new HashMap<>();
+        private static final ResultSetMetaData METADATA = (ResultSetMetaData) Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> COLUMNS.length;
+                    case "getColumnLabel", "getColumnName" -> COLUMNS[(Integer) args[0] - 1];
+                    default -> throw new SQLException("Not supported by synthetic metadata: " + method.getName());
+                });
+
+        static {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                INDEX_BY_LABEL.put(COLUMNS[i].toLowerCase(), i);
+            }
+        }
+
+        private final Object[][] rows;
+        private int cursor = -1;
+        private boolean lastNull = false;
+
+        RowsHandler(Object[][] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            switch (method.getName()) {
+                case "next":
+                    return ++cursor < rows.length;
+                case "beforeFirst":
+                    cursor = -1;
+                    return null;
+                case "close":
+                    return null;
+                case "wasNull":
+                    return lastNull;
+                case "getMetaData":
+                    return METADATA;
+                default:
+                    break;
+            }
+            if (!method.getName().startsWith("get") || args == null || args.length != 1) {
+                throw new SQLException("Not supported by synthetic result set: " + method.getName());
+            }
+            Object value = rows[cursor][columnIndex(args[0])];
+            lastNull = value == null;
+            return switch (method.getName()) {
+                case "getString" -> value == null ? null : value.toString();
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getDouble" -> value == null ? 0.0 : ((Number) value).doubleValue();
+                case "getDate" -> value == null ? null : new Date(((Date) value).getTime());
+                case "getTimestamp" -> value == null ? null : new Timestamp(((Timestamp) value).getTime());
+                case "getObject" -> value;
+                default -> throw new SQLException("Not supported by synthetic result set: " + method.getName());
+            };
+        }
+
+        private static int columnIndex(Object column) throws SQLException {
+            if (column instanceof Integer index) {
+                return index - 1;
+            }
+            Integer index = INDEX_BY_LABEL.get(column.toString().toLowerCase());
+            if (index == null) {
+                throw new SQLException("Unknown column: " + column);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.benchmark;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeSnapshot;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+// 직원 목록을 들고 있을 때의 힙 사용량 비교 (GC 후 사용 중인 힙의 차이로 측정)
+//   java -Xmx4g -cp benchmarks/target/benchmarks.jar org.example.benchmark.HeapFootprint 1000000
+// - bean (행마다 문자열): 결과셋에서 읽은 문자열을 그대로 담은 Employee 목록 (이전 매핑 방식)
+// - bean (문자열 공유): EmployeeRowMapper처럼 이름/성/상급자 SSN을 공유한 Employee 목록
+// - column store: 테이블 모델이 쓰는 EmployeeColumnStore (SSN/날짜/급여는 원시 타입, 이름/부서명은 사전)
+// - snapshot: 전체 직원 스냅샷 EmployeeSnapshot (컬럼은 힙 밖 direct 버퍼 - off-heap 열에 따로 표시)
+// 다른 측정과 섞이지 않도록 이 프로그램만 단독으로 실행
+public final class HeapFootprint {
+
+    private HeapFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int employees = args.length >= 1 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        System.out.printf("%-28s %12s %14s %16s %14s%n", "representation", "heap(MB)", "bytes/employee", "MB per 1M",
+                "off-heap(MB)");
+        measure("bean (per-row strings)", employees, n -> beans(n, false));
+        measure("bean (shared strings)", employees, n -> beans(n, true));
+        measure("column store", employees, HeapFootprint::columnStore);
+        measure("snapshot", employees, HeapFootprint::snapshot);
+    }
+
+    private static void measure(String name, int employees, IntFunction<Object> builder) throws InterruptedException {
+        long before = usedHeapAfterGc();
+        long directBefore = usedDirectMemory();
+        Object retained = builder.apply(employees);
+        long after = usedHeapAfterGc();
+        long direct = usedDirectMemory() - directBefore;
+        Reference.reachabilityFence(retained);
+
+        long bytes = after - before;
+        System.out.printf("%-28s %12.1f %14.1f %16.1f %14.1f%n", name, bytes / 1e6, (double) bytes / employees,
+                (double) bytes / employees * 1_000_000 / 1e6, direct / 1e6);
+    }
+
+    private static List<Employee> beans(int employees, boolean shareStrings) {
+        Map<String, String> shared = shareStrings ? new HashMap<>() : null;
+        Random random = new Random(42);
+        List<Employee> list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            list.add(asReadFromDriver(EmployeeFixtures.employee(random, i), shared));
+        }
+        return list;
+    }
+
+    // 행마다 문자열이 새로 만들어진 Employee를 받아서 저장 (문자열 공유는 저장소가 직접 해야 함)
+    private static EmployeeColumnStore columnStore(int employees) {
+        Random random = new Random(42);
+        EmployeeColumnStore store = new EmployeeColumnStore(employees);
+        for (int i = 0; i < employees; i++) {
+            store.add(asReadFromDriver(EmployeeFixtures.employee(random, i), null));
+        }
+        return store;
+    }
+
+    // EmployeeRowMapper.appendTo와 같은 인코딩으로 채움 (드라이버가 만든 문자열은 저장 후 버려짐)
+    private static EmployeeSnapshot snapshot(int employees) {
+        Random random = new Random(42);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(EmployeeFixtures.departmentNames());
+        for (int i = 0; i < employees; i++) {
+            Employee e = asReadFromDriver(EmployeeFixtures.employee(random, i), null);
+            snapshot.append(e.getFirstName(), e.getMinit(), e.getLastName(), EmployeeColumnStore.encodeSsn(e.getSsn()),
+                    (int) ((Date) e.getBirthDate()).toLocalDate().toEpochDay(), e.getAddress(), e.getSex(),
+                    Math.round(e.getSalary() * 100), EmployeeColumnStore.encodeSsn(e.getSupervisorSsn()),
+                    e.getDepartmentNumber(), e.getModified().getTime());
+        }
+        return snapshot;
+    }
+
+    // JDBC 드라이버처럼 문자열 컬럼마다 새 String을 만듦 (shared가 있으면 이름/성/상급자 SSN은 공유)
+    // 부서명은 DepartmentCatalog의 것을 공유
+    private static Employee asReadFromDriver(Employee source, Map<String, String> shared) {
+        Employee employee = new Employee(
+                copy(source.getFirstName(), shared),
+                source.getMinit(),
+                copy(source.getLastName(), shared),
+                copy(source.getSsn(), null),
+                new Date(source.getBirthDate().getTime()),
+                copy(source.getAddress(), null),
+                source.getSex(),
+                source.getSalary(),
+                copy(source.getSupervisorSsn(), shared),
+                source.getDepartmentNumber());
+        employee.setDepartmentName(source.getDepartmentName());
+        employee.setModified(new Timestamp(source.getModified().getTime()));
+        return employee;
+    }
+
+    private static String copy(String value, Map<String, String> shared) {
+        if (value == null) {
+            return null;
+        }
+        String fresh = new String(value.toCharArray());
+        return shared == null ? fresh : shared.computeIfAbsent(fresh, v -> v);
+    }
+
+    private static long usedDirectMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
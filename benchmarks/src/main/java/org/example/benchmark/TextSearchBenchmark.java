@@ -0,0 +1,114 @@
+package org.example.benchmark;
+
+import org.example.dao.EmployeeCriteria;
+import org.example.dao.EmployeeCriteria.Field;
+import org.example.dao.EmployeeDAO;
+import org.example.dao.JDBCConnection;
+import org.example.dao.QueryHandle;
+import org.example.dao.TextSearchSupport;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Random;
+
+// Name/Address 검색의 LIKE 방식과 FULLTEXT 방식 비교
+//   generate <csv 경로> <행 수>   - 일괄 추가 화면으로 넣을 수 있는 가상 직원 CSV 생성 (예: 1000000)
+//   run <이름 검색어> <주소 검색어> [반복 횟수]
+//                                 - .env의 DB에 두 방식으로 같은 검색을 반복 실행해서 시간 비교
+// FULLTEXT 방식은 src/main/resources/db/employee_fulltext.sql을 적용한 DB에서만 의미가 있음
+public class TextSearchBenchmark {
+    private static final String[] FIRST_NAMES = {
+            "John", "Franklin", "Alicia", "Jennifer", "Ramesh", "Joyce", "Ahmad", "James",
+            "Minji", "Jisoo", "Hyunwoo", "Seoyeon", "Daniel", "Sophia", "Oliver", "Emma"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Wong", "Zelaya", "Wallace", "Narayan", "English", "Jabbar", "Borg",
+            "Kim", "Lee", "Park", "Choi", "Jung", "Kang", "Cho", "Yoon"
+    };
+    private static final String[] STREETS = {
+            "Fondren", "Voss", "Castle", "Berry", "Fire Oak", "Rice", "Stone", "Dallas"
+    };
+    private static final String[] CITIES = {
+            "Houston, TX", "Bellaire, TX", "Spring, TX", "Humble, TX", "Seoul", "Busan"
+    };
+    private static final int[] DEPARTMENTS = {1, 4, 5};   // 기본 COMPANY 스키마의 부서 번호
+
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 3 && args[0].equals("generate")) {
+            generate(Path.of(args[1]), Integer.parseInt(args[2]));
+        } else if (args.length >= 3 && args[0].equals("run")) {
+            int iterations = args.length >= 4 ? Integer.parseInt(args[3]) : 20;
+            try {
+                run(args[1], args[2], iterations);
+            } finally {
+                JDBCConnection.closeConnection();
+            }
+        } else {
+            System.out.println("usage: generate <csv> <rows> | run <name> <address> [iterations]");
+        }
+    }
+
+    private static void generate(Path csv, int rows) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("Fname,Minit,Lname,Ssn,Bdate,Address,Sex,Salary,Super_ssn,Dno");
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                String address = (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)]
+                        + ", " + CITIES[random.nextInt(CITIES.length)];
+                writer.write(String.join(",",
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                        String.valueOf((char) ('A' + random.nextInt(26))),
+                        LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (char) ('a' + random.nextInt(26)),
+                        String.valueOf(500_000_000 + i),   // 기존 직원과 겹치지 않는 SSN 범위
+                        String.format("19%02d-%02d-%02d", 50 + random.nextInt(50), 1 + random.nextInt(12),
+                                1 + random.nextInt(28)),
+                        "\"" + address + "\"",
+                        random.nextBoolean() ? "M" : "F",
+                        String.valueOf(20_000 + random.nextInt(80_000)),
+                        "",
+                        String.valueOf(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)])));
+                writer.newLine();
+            }
+        }
+        System.out.println(rows + " rows written to " + csv);
+    }
+
+    private static void run(String name, String address, int iterations) throws SQLException {
+        EmployeeDAO dao = new EmployeeDAO();
+        TextSearchSupport.Mode original = TextSearchSupport.getMode();
+        try {
+            for (TextSearchSupport.Mode mode : new TextSearchSupport.Mode[]{
+                    TextSearchSupport.Mode.LIKE, TextSearchSupport.Mode.FULLTEXT}) {
+                TextSearchSupport.setMode(mode);
+                measure(dao, mode + " Name", EmployeeCriteria.contains(Field.NAME, name), iterations);
+                measure(dao, mode + " Address", EmployeeCriteria.contains(Field.ADDRESS, address), iterations);
+            }
+        } finally {
+            TextSearchSupport.setMode(original);
+        }
+    }
+
+    private static void measure(EmployeeDAO dao, String label, EmployeeCriteria criteria,
+                                int iterations) throws SQLException {
+        int rows = 0;
+        for (int i = 0; i < 3; i++) {   // 워밍업 (문장 캐시, 버퍼 풀)
+            rows = dao.searchEmployees(criteria, new QueryHandle()).size();
+        }
+        long[] micros = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            dao.searchEmployees(criteria, new QueryHandle());
+            micros[i] = (System.nanoTime() - start) / 1000;
+        }
+        Arrays.sort(micros);
+        System.out.printf("%-18s rows=%-8d min=%8.2fms  p50=%8.2fms  p95=%8.2fms%n",
+                label, rows, micros[0] / 1000.0, micros[iterations / 2] / 1000.0,
+                micros[Math.min(iterations - 1, (int) Math.ceil(iterations * 0.95) - 1)] / 1000.0);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.dao;
+
+import org.example.benchmark.EmployeeFixtures;
+import org.example.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 그룹 통계에서 DB 밖(자바)에서 하는 일
+// - order: GROUP BY ... WITH ROLLUP 결과의 정렬/상위 K개 선택
+// - summaryDelta: 직원 추가/삭제 시 요약 테이블 변경분 누적 (EmployeeSummary.Delta, apply 제외)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AggregationBenchmark {
+
+    @Param({"50", "5000"})   // 그룹 수 (부서x성별 정도, 상급자x출생연도 정도)
+    public int groups;
+
+    private List<EmployeeAggregator.Row> rows;
+    private EmployeeAggregator.Request sortedTopK;
+    private List<EmployeeSummary.Member> members;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(groups + groups / 10 + 1);
+        for (int i = 0; i < groups; i++) {
+            long count = 1 + random.nextInt(200);
+            double avg = 20_000 + random.nextInt(80_000);
+            rows.add(new EmployeeAggregator.Row(List.of("g" + (i / 10), "s" + i), 0, count, avg * count, avg,
+                    avg - random.nextInt(10_000), avg + random.nextInt(10_000), random.nextInt(5_000)));
+            if (i % 10 == 9) {
+                // ROLLUP처럼 10개 그룹마다 상위 차원 소계 행
+                rows.add(new EmployeeAggregator.Row(Arrays.asList("g" + (i / 10), null), 1,
+                        count, avg * count, avg, avg, avg, 0));
+            }
+        }
+        rows.add(new EmployeeAggregator.Row(Collections.nCopies(2, null), 2, groups, 0, 0, 0, 0, 0));
+        sortedTopK = new EmployeeAggregator.Request(
+                List.of(EmployeeAggregator.Dimension.DEPARTMENT, EmployeeAggregator.Dimension.SUPERVISOR),
+                true, EmployeeAggregator.Metric.AVG, 10, EmployeeCriteria.all(), 10);
+
+        members = new ArrayList<>();
+        for (Employee employee : EmployeeFixtures.employees(1000)) {
+            members.add(EmployeeSummary.Member.of(employee));
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeAggregator.Row> order() {
+        // order는 전달된 목록을 바꾸지 않음
+        return EmployeeAggregator.order(rows, sortedTopK);
+    }
+
+    @Benchmark
+    public EmployeeSummary.Delta summaryDelta() {
+        EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+        for (EmployeeSummary.Member member : members) {
+            delta.add(member);
+        }
+        return delta;
+    }
+}
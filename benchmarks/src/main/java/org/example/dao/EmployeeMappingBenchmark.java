@@ -0,0 +1,93 @@
+package org.example.dao;
+
+import org.example.benchmark.EmployeeFixtures;
+import org.example.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+// EmployeeRowMapper - 결과셋 한 페이지를 Employee로 바꾸는 비용
+// - mapPage: 페이지마다 컬럼 번호를 한 번 찾고 행마다 번호로 읽음 (EmployeeDAO가 쓰는 방식)
+// - mapPageByLabel: 이전 방식 (행마다 컬럼 이름으로 찾고 Calendar로 +9시간) - 비교 기준
+// 행당 할당량은 BenchmarkMain의 GC 프로파일러 결과(gc.alloc.rate.norm / rows)로 비교
+// 부서 목록은 DB 대신 preload()로 채우므로 DB 연결은 필요 없음 (.env는 JDBCConnection 초기화에 필요)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EmployeeMappingBenchmark {
+
+    @Param({"500", "10000"})   // 기본 페이지 크기, 전체 목록 조회
+    public int rows;
+
+    private ResultSet resultSet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resultSet = EmployeeFixtures.resultSet(EmployeeFixtures.employees(rows));
+    }
+
+    // 측정 중에 부서 목록 TTL이 지나 DB를 읽으려 하지 않도록 반복마다 다시 채움
+    @Setup(Level.Iteration)
+    public void preloadDepartments() {
+        JDBCConnection.getDepartmentCatalog().preload(EmployeeFixtures.departmentNames());
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        EmployeeRowMapper mapper = EmployeeRowMapper.of(resultSet, JDBCConnection.getDepartmentCatalog().snapshot());
+        while (resultSet.next()) {
+            blackhole.consume(mapper.map(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void mapPageByLabel(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(mapByLabel(resultSet));
+        }
+    }
+
+    private static Employee mapByLabel(ResultSet rs) throws SQLException {
+        Employee employee = new Employee();
+        employee.setFirstName(rs.getString("Fname"));
+        employee.setMinit(rs.getString("Minit").charAt(0));
+        employee.setLastName(rs.getString("Lname"));
+        employee.setSsn(rs.getString("Ssn"));
+        employee.setBirthDate(rs.getDate("Bdate"));
+        employee.setAddress(rs.getString("Address"));
+        employee.setSex(rs.getString("Sex").charAt(0));
+        employee.setSalary(rs.getDouble("Salary"));
+        employee.setSupervisorSsn(rs.getString("Super_ssn"));
+        employee.setDepartmentNumber(rs.getInt("Dno"));
+        employee.setDepartmentName(JDBCConnection.getDepartmentCatalog().snapshot().name(employee.getDepartmentNumber()));
+        Timestamp timestamp = rs.getTimestamp("modified");
+        if (timestamp != null) {
+            Calendar cal = Calendar.getInstance();
+            cal.setTime(timestamp);
+            cal.add(Calendar.HOUR, 9);
+            employee.setModified(new Timestamp(cal.getTimeInMillis()));
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.dao;
+
+import org.example.benchmark.EmployeeFixtures;
+import org.example.dao.EmployeeCriteria.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// searchEmployees의 SQL 생성 (검색 조건 -> WHERE 절과 파라미터) - 검색 조건 형태별
+// Name/Address는 LIKE 방식으로 고정 (FULLTEXT 색인 확인 쿼리가 실행되지 않도록)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SearchSqlBenchmark {
+
+    @Param({"none", "name", "name+department+sex", "all", "ranges+or+not"})
+    public String shape;
+
+    private EmployeeCriteria criteria;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TextSearchSupport.setMode(TextSearchSupport.Mode.LIKE);
+        criteria = switch (shape) {
+            case "none" -> EmployeeCriteria.all();
+            case "name" -> EmployeeCriteria.contains(Field.NAME, "Wong");
+            case "name+department+sex" -> EmployeeCriteria.and(
+                    EmployeeCriteria.contains(Field.NAME, "Wong"),
+                    EmployeeCriteria.in(Field.DEPARTMENT, List.of("Research", "Headquarters")),
+                    EmployeeCriteria.equalTo(Field.SEX, "M"));
+            case "all" -> EmployeeCriteria.and(
+                    EmployeeCriteria.contains(Field.NAME, "Wong"),
+                    EmployeeCriteria.equalTo(Field.SSN, "500000001"),
+                    EmployeeCriteria.equalTo(Field.BDATE, "1965-01-09"),
+                    EmployeeCriteria.contains(Field.ADDRESS, "Houston"),
+                    EmployeeCriteria.equalTo(Field.SUPERVISOR, "500000002"),
+                    EmployeeCriteria.in(Field.DEPARTMENT, List.of("Research", "Headquarters", "Administration")),
+                    EmployeeCriteria.in(Field.SEX, List.of("M", "F")),
+                    EmployeeCriteria.atLeast(Field.SALARY, "30000"));
+            case "ranges+or+not" -> EmployeeCriteria.and(
+                    EmployeeCriteria.or(
+                            EmployeeCriteria.startsWith(Field.NAME, "Jo"),
+                            EmployeeCriteria.startsWith(Field.NAME, "Fr")),
+                    EmployeeCriteria.between(Field.SALARY, "30000", "60000"),
+                    EmployeeCriteria.between(Field.BDATE, "1960-01-01", "1969-12-31"),
+                    EmployeeCriteria.not(EmployeeCriteria.equalTo(Field.DEPARTMENT, "Headquarters")));
+            default -> throw new IllegalArgumentException(shape);
+        };
+    }
+
+    @Setup(Level.Iteration)
+    public void preloadDepartments() {
+        JDBCConnection.getDepartmentCatalog().preload(EmployeeFixtures.departmentNames());
+    }
+
+    @Benchmark
+    public void buildSearchSql(Blackhole blackhole) throws SQLException {
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        EmployeeDAO.appendSearchConditions(criteria, sql, params);
+        blackhole.consume(sql.toString());
+        blackhole.consume(params);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.view;
+
+import org.example.benchmark.EmployeeFixtures;
+import org.example.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// loadEmployeeData / DBConditionSearch.displayResults의 테이블 채우기
+// - populate: 새 모델을 만들고 조회한 페이지를 추가 (두 화면 모두 같은 경로)
+// - readAllCells: 채워진 모델의 모든 셀을 읽음 (JTable이 화면을 그릴 때 getValueAt 호출)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TableModelBenchmark {
+    private static final List<String> ALL_COLUMNS = List.of(
+            "Name", "Ssn", "Bdate", "Address", "Sex", "Salary", "Supervisor", "Department", "Modified");
+
+    @Param({"500", "10000"})
+    public int rows;
+
+    private List<Employee> employees;
+    private EmployeeTableModel populated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = EmployeeFixtures.employees(rows);
+        populated = new EmployeeTableModel(ALL_COLUMNS, ZoneId.of("Asia/Seoul"));
+        populated.addEmployees(employees);
+    }
+
+    @Benchmark
+    public EmployeeTableModel populate() {
+        EmployeeTableModel model = new EmployeeTableModel(ALL_COLUMNS, ZoneId.of("Asia/Seoul"));
+        model.addEmployees(employees);
+        return model;
+    }
+
+    @Benchmark
+    public void readAllCells(Blackhole blackhole) {
+        int columns = populated.getColumnCount();
+        for (int row = 0; row < populated.getRowCount(); row++) {
+            for (int column = 0; column < columns; column++) {
+                blackhole.consume(populated.getValueAt(row, column));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+-- EmbeddedDatabaseBenchmark가 H2(MODE=MySQL)에 만드는 COMPANY 스키마
+-- 애플리케이션이 사용하는 테이블/컬럼만 포함 (MySQL 운영 DB와 같은 이름, 비슷한 색인)
+
+CREATE TABLE IF NOT EXISTS DEPARTMENT (
+    Dname          VARCHAR(15) NOT NULL UNIQUE,
+    Dnumber        INT         NOT NULL PRIMARY KEY,
+    Mgr_ssn        CHAR(9),
+    Mgr_start_date DATE
+);
+
+CREATE TABLE IF NOT EXISTS EMPLOYEE (
+    Fname     VARCHAR(15)   NOT NULL,
+    Minit     CHAR(1),
+    Lname     VARCHAR(15)   NOT NULL,
+    Ssn       CHAR(9)       NOT NULL PRIMARY KEY,
+    Bdate     DATE,
+    Address   VARCHAR(60),
+    Sex       CHAR(1),
+    Salary    DECIMAL(10, 2),
+    Super_ssn CHAR(9),
+    Dno       INT           NOT NULL DEFAULT 1,
+    created   TIMESTAMP     DEFAULT CURRENT_TIMESTAMP,
+    modified  TIMESTAMP     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (Dno) REFERENCES DEPARTMENT (Dnumber)
+);
+
+-- 키셋 페이지 정렬 순서, 증분 새로고침, 외래 키 조회용
+CREATE INDEX IF NOT EXISTS idx_employee_name ON EMPLOYEE (Fname, Lname, Ssn);
+CREATE INDEX IF NOT EXISTS idx_employee_modified ON EMPLOYEE (modified);
+CREATE INDEX IF NOT EXISTS idx_employee_super_ssn ON EMPLOYEE (Super_ssn);
+
+CREATE TABLE IF NOT EXISTS WORKS_ON (
+    Essn  CHAR(9)       NOT NULL,
+    Pno   INT           NOT NULL,
+    Hours DECIMAL(3, 1),
+    PRIMARY KEY (Essn, Pno)
+);
+
+CREATE TABLE IF NOT EXISTS DEPENDENT (
+    Essn           CHAR(9)     NOT NULL,
+    Dependent_name VARCHAR(15) NOT NULL,
+    Sex            CHAR(1),
+    Bdate          DATE,
+    Relationship   VARCHAR(8),
+    PRIMARY KEY (Essn, Dependent_name)
+);
+
+CREATE TABLE IF NOT EXISTS ADMIN (
+    ssn CHAR(9) NOT NULL PRIMARY KEY
+);
@@ -1,19 +1,23 @@
 package org.example.component;
 
+import org.example.dao.EmployeeAggregator;
+import org.example.dao.EmployeeCriteria;
+import org.example.dao.EmployeeCriteria.Field;
 import org.example.dao.EmployeeDAO;
+import org.example.dao.EmployeePage;
 import org.example.dao.JDBCConnection;
-import org.example.model.Employee;
+import org.example.model.EmployeeSnapshot;
 import org.example.view.EmployeeReportView;
+import org.example.view.EmployeeTableModel;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
-import java.sql.Connection;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.*;
 
@@ -26,7 +30,12 @@ public class DBConditionSearch {
     private JComboBox<String> sexComboBox;         // 성별 선택 콤보박스
     private JTextField salaryField;                // 급여 입력 필드
     private JPanel inputPanel;                     // 입력 컴포넌트를 담을 패널
-    private JComboBox<String> groupByComboBox;       // 그룹화 기준 선택 콤보박스
+    private final EmployeeAggregator aggregator = new EmployeeAggregator();
+    private final List<JCheckBox> groupByCheckBoxes = new ArrayList<>();   // 그룹화 기준 (선택한 순서대로 적용)
+    private final List<EmployeeAggregator.Dimension> groupByOrder = new ArrayList<>();
+    private JCheckBox rollupCheckBox;                // 소계/전체 합계 포함 여부
+    private JComboBox<String> sortComboBox;          // 그룹 결과 정렬 기준
+    private JSpinner topKSpinner;                    // 상위 몇 개 그룹만 표시할지 (0이면 전체)
 
     private List<JPanel> conditionPanels = new ArrayList<>();  // 추가
     private JPanel conditionsPanel;  // 추가
@@ -66,15 +75,7 @@ public class DBConditionSearch {
         searchButton.addActionListener(e -> performSearch());
         buttonPanel.add(searchButton);
 
-        // 그룹별 평균 급여 패널 (기존 코드 유지)
-        JPanel groupPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        groupPanel.add(new JLabel("그룹별 평균급여:"));
-        groupByComboBox = new JComboBox<>(new String[]{
-                "그룹 없음", "성별", "부서", "상급자"
-        });
-        groupByComboBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
-        groupByComboBox.setPreferredSize(new Dimension(120, 25));
-        groupPanel.add(groupByComboBox);
+        JPanel groupPanel = createGroupPanel();
 
         // 전체 패널 구성
         JPanel topPanel = new JPanel(new BorderLayout());
@@ -86,14 +87,49 @@ public class DBConditionSearch {
         return searchPanel;
     }
 
+    // 그룹별 급여 통계 설정 - 그룹 기준을 하나라도 선택하면 검색 시 통계를 표시
+    private JPanel createGroupPanel() {
+        JPanel groupPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        groupPanel.add(new JLabel("그룹별 급여 통계:"));
+
+        for (EmployeeAggregator.Dimension dimension : EmployeeAggregator.Dimension.values()) {
+            JCheckBox checkBox = new JCheckBox(dimension.getLabel());
+            checkBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+            // 체크한 순서가 그룹화 순서 (예: 부서 -> 성별)
+            checkBox.addItemListener(e -> {
+                groupByOrder.remove(dimension);
+                if (checkBox.isSelected()) {
+                    groupByOrder.add(dimension);
+                }
+            });
+            groupByCheckBoxes.add(checkBox);
+            groupPanel.add(checkBox);
+        }
+
+        rollupCheckBox = new JCheckBox("소계");
+        rollupCheckBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        groupPanel.add(rollupCheckBox);
+
+        sortComboBox = new JComboBox<>(new String[]{"그룹순", "COUNT", "SUM", "AVG", "MIN", "MAX", "STDDEV"});
+        sortComboBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        sortComboBox.setToolTipText("선택한 값이 큰 그룹부터 표시");
+        groupPanel.add(sortComboBox);
+
+        groupPanel.add(new JLabel("상위"));
+        topKSpinner = new JSpinner(new SpinnerNumberModel(0, 0, 10000, 5));
+        topKSpinner.setToolTipText("0이면 전체 그룹 표시");
+        groupPanel.add(topKSpinner);
+        return groupPanel;
+    }
+
     private JPanel createConditionRow(boolean isFirst) {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
         panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
         // 검색 유형 콤보박스 생성
         String[] options = isFirst && conditionPanels.isEmpty() ?
-                new String[]{"전체", "Name", "Ssn", "Bdate", "Address", "부서", "성별", "Salary", "Supervisor"} :
-                new String[]{"Name", "Ssn", "Bdate", "Address", "부서", "성별", "Salary", "Supervisor"};
+                new String[]{"전체", "Name", "Ssn", "Bdate", "Address", "부서", "성별", "Salary", "Supervisor", "Modified"} :
+                new String[]{"Name", "Ssn", "Bdate", "Address", "부서", "성별", "Salary", "Supervisor", "Modified"};
 
         JComboBox<String> typeBox = new JComboBox<>(options);
         typeBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
@@ -110,22 +146,28 @@ public class DBConditionSearch {
         JTextField bdateField = new JTextField(20);
         JTextField addressField = new JTextField(20);
         JTextField supervisorField = new JTextField(20);
+        JTextField modifiedField = new JTextField(20);
 
         // 기존 컴포넌트
         JComboBox<String> deptBox = new JComboBox<>(getDepartmentList());
         JComboBox<String> sexBox = new JComboBox<>(new String[]{"F", "M"});
 
+        // 급여 범위 - 한쪽만 입력하면 그쪽만 적용
         JPanel salaryPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
-        JTextField salaryField = new JTextField(10);
+        JTextField salaryField = new JTextField(6);
+        JTextField salaryMaxField = new JTextField(6);
         salaryPanel.add(salaryField);
         salaryPanel.add(new JLabel("이상"));
+        salaryPanel.add(salaryMaxField);
+        salaryPanel.add(new JLabel("이하"));
 
         // 각 필드에 툴팁 추가
-        nameField.setToolTipText("예: John B. Smith");
-        ssnField.setToolTipText("예: 123456789");
-        bdateField.setToolTipText("예: 1965-01-09");
-        addressField.setToolTipText("예: 731 Fondren, Houston, TX");
+        nameField.setToolTipText("예: John B. Smith (앞부분 일치: John*)");
+        ssnField.setToolTipText("예: 123456789 (앞부분 일치: 1234*)");
+        bdateField.setToolTipText("예: 1965-01-09 또는 범위 1960-01-01~1969-12-31 (한쪽 생략 가능)");
+        addressField.setToolTipText("예: 731 Fondren, Houston, TX (앞부분 일치: 731*)");
         supervisorField.setToolTipText("관리자 SSN (예: 333445555)");
+        modifiedField.setToolTipText("수정일 (예: 2024-03-01 또는 범위 2024-03-01~2024-03-31, 화면 표시 시각 기준)");
 
         // 컴포넌트 추가
         inputPanel.add(new JPanel(), "empty");
@@ -137,9 +179,15 @@ public class DBConditionSearch {
         inputPanel.add(sexBox, "성별");
         inputPanel.add(salaryPanel, "Salary");
         inputPanel.add(supervisorField, "Supervisor");
+        inputPanel.add(modifiedField, "Modified");
 
         panel.add(inputPanel);
 
+        // 체크하면 이 조건에 해당하는 직원을 뺌
+        JCheckBox excludeBox = new JCheckBox("제외");
+        excludeBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        panel.add(excludeBox);
+
         // 삭제 버튼 (첫 번째 줄이 아닌 경우에만)
         if (!isFirst) {
             JButton removeButton = new JButton("X");
@@ -200,17 +248,10 @@ public class DBConditionSearch {
     }
 
 
-    // 데이터베이스에서 부서 목록을 가져오는 메서드
+    // 부서 목록 - 공유 DepartmentCatalog에서 가져오므로 조건 줄을 추가할 때마다 DB를 조회하지 않음
     private String[] getDepartmentList() {
-        try (Connection conn = JDBCConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT DISTINCT Dname FROM DEPARTMENT")) {
-
-            ArrayList<String> departments = new ArrayList<>();
-            while (rs.next()) {
-                departments.add(rs.getString("Dname"));
-            }
-            return departments.toArray(new String[0]);
+        try {
+            return JDBCConnection.getDepartmentCatalog().getDepartmentNames().toArray(new String[0]);
         } catch (SQLException e) {
             e.printStackTrace();
             return new String[]{"Error loading departments"};
@@ -220,152 +261,85 @@ public class DBConditionSearch {
     public void performSearch() {
         parentFrame.clearSelectedEmployees();
 
-        String groupBy = (String) groupByComboBox.getSelectedItem();
-
-        try {
-            // 체크박스 선택 검증
-            boolean anyCheckBoxSelected = false;
-            for (JCheckBox checkBox : parentFrame.getCheckBoxes()) {
-                if (checkBox.isSelected()) {
-                    anyCheckBoxSelected = true;
-                    break;
-                }
-            }
-
-            if (!anyCheckBoxSelected) {
-                JOptionPane.showMessageDialog(parentFrame,
-                        "검색할 항목을 하나 이상 선택해주세요.",
-                        "알림",
-                        JOptionPane.WARNING_MESSAGE);
-                return;
-            }
 
-            if (groupBy != null && !"그룹 없음".equals(groupBy)) {
-                Map<String, Double> avgSalaries = getAverageSalaryByGroup(groupBy);
-                displayGroupResults(avgSalaries, groupBy);
-            } else {
-                Map<String, List<Object>> searchCriteria = getAllConditions();
-                List<Employee> results = employeeDAO.searchEmployees(searchCriteria);
-                displayResults(results);
-            }
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(parentFrame,
-                    "검색 중 오류가 발생했습니다: " + e.getMessage(),
-                    "검색 오류",
-                    JOptionPane.ERROR_MESSAGE);
-        }
-    }
-
-    private void displayResults(List<Employee> employees) {
-        // 체크박스 열을 포함한 커스텀 테이블 모델 생성
-        DefaultTableModel model = new DefaultTableModel() {
-            @Override
-            public Class<?> getColumnClass(int column) {
-                // 첫 번째 열은 체크박스로 사용
-                return column == 0 ? Boolean.class : Object.class;
-            }
-
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                // 체크박스 열만 편집 가능하도록 설정
-                return column == 0;
-            }
-        };
-
-        // 체크박스 열 추가 (첫 번째 열)
-        model.addColumn("");
-
-        // 선택된 컬럼들의 순서를 보존하기 위한 리스트
-        List<String> selectedColumns = new ArrayList<>();
-
-        // 체크된 속성들을 사용자가 선택한 순서대로 컬럼 추가
+        // 체크박스 선택 검증
+        boolean anyCheckBoxSelected = false;
         for (JCheckBox checkBox : parentFrame.getCheckBoxes()) {
             if (checkBox.isSelected()) {
-                String columnName = checkBox.getText().toUpperCase();
-                selectedColumns.add(columnName);  // 선택된 컬럼 순서 저장
-                model.addColumn(columnName);      // 테이블에 컬럼 추가
+                anyCheckBoxSelected = true;
+                break;
             }
         }
 
-        // 각 직원의 데이터를 행으로 추가
-        for (Employee emp : employees) {
-            Vector<Object> rowData = new Vector<>();
-            rowData.add(false);  // 체크박스 초기값 (false = 미선택)
-
-            // 선택된 컬럼 순서대로 데이터 추가
-            for (String column : selectedColumns) {
-                switch (column) {
-                    case "NAME" ->
-                        // 이름은 "FirstName M. LastName" 형식으로 표시
-                            rowData.add(emp.getFirstName() + " " +
-                                    emp.getMinit() + ". " +
-                                    emp.getLastName());
-
-                    case "SSN" -> rowData.add(emp.getSsn());
-
-                    case "BDATE" ->
-                        // 생년월일이 있는 경우에만 날짜 형식으로 변환하여 표시
-                            rowData.add(emp.getBirthDate() != null ?
-                                    new SimpleDateFormat("yyyy-MM-dd").format(emp.getBirthDate()) :
-                                    "");
-
-                    case "ADDRESS" -> rowData.add(emp.getAddress());
-
-                    case "SEX" -> rowData.add(emp.getSex());
+        if (!anyCheckBoxSelected) {
+            JOptionPane.showMessageDialog(parentFrame,
+                    "검색할 항목을 하나 이상 선택해주세요.",
+                    "알림",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-                    case "SALARY" ->
-                        // 급여는 소수점 둘째자리까지 표시
-                            rowData.add(String.format("%.2f", emp.getSalary()));
+        // Swing 컴포넌트 값은 EDT에서 미리 읽어둠
+        EmployeeCriteria criteria;
+        try {
+            criteria = getAllConditions();
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(parentFrame,
+                    "검색 조건을 확인해주세요: " + e.getMessage(),
+                    "검색 조건 오류",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-                    case "SUPERVISOR" -> rowData.add(emp.getSupervisorSsn());
+        // 쿼리는 백그라운드에서 실행 - 이전 검색이 진행 중이면 취소되고 결과는 버려짐
+        DBQueryRunner runner = parentFrame.getQueryRunner();
+        if (!groupByOrder.isEmpty()) {
+            // 현재 검색 조건으로 거른 직원들의 그룹별 통계
+            String sort = (String) sortComboBox.getSelectedItem();
+            EmployeeAggregator.Request request = new EmployeeAggregator.Request(
+                    List.copyOf(groupByOrder),
+                    rollupCheckBox.isSelected(),
+                    "그룹순".equals(sort) ? null : EmployeeAggregator.Metric.valueOf(sort),
+                    (Integer) topKSpinner.getValue(),
+                    criteria,
+                    10);
+            // 전체 직원 스냅샷을 불러온 상태면 DB 대신 스냅샷에서 계산 (검색 조건도 메모리에서 적용)
+            EmployeeSnapshot snapshot = parentFrame.getCurrentSnapshot();
+            runner.submit("그룹별 급여 통계 조회",
+                    handle -> aggregator.aggregate(request, snapshot, handle),
+                    rows -> displayGroupResults(rows, request),
+                    this::showSearchError);
+        } else {
+            // 첫 페이지만 먼저 표시하고 나머지는 스크롤 시 이어서 조회
+            EmployeePage.Loader pageLoader = (cursor, handle) -> employeeDAO.searchEmployeesPage(
+                    criteria, cursor, EmployeeDAO.DEFAULT_PAGE_SIZE, handle);
+            runner.submit("검색",
+                    handle -> pageLoader.load(null, handle),
+                    firstPage -> displayResults(firstPage, pageLoader),
+                    this::showSearchError);
+        }
+    }
 
-                    case "DEPARTMENT" -> rowData.add(emp.getDepartmentName());
+    private void showSearchError(SQLException e) {
+        JOptionPane.showMessageDialog(parentFrame,
+                "검색 중 오류가 발생했습니다: " + e.getMessage(),
+                "검색 오류",
+                JOptionPane.ERROR_MESSAGE);
+    }
 
-                    case "MODIFIED" ->
-                        // 수정일시가 있는 경우에만 날짜시간 형식으로 변환하여 표시
-                            rowData.add(emp.getModified() != null ?
-                                    new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(emp.getModified()) :
-                                    "");
-                }
-            }
-            // 완성된 행 데이터를 테이블 모델에 추가
-            model.addRow(rowData);
-        }
+    private void displayResults(EmployeePage firstPage, EmployeePage.Loader pageLoader) {
+        // 체크된 속성들을 사용자가 선택한 순서대로 표시하는 컬럼형 테이블 모델 생성
+        EmployeeTableModel model = new EmployeeTableModel(parentFrame.getSelectedColumns(), ZoneId.systemDefault());
+        model.addEmployees(firstPage.employees());
 
-        // 부모 프레임의 테이블 모델 업데이트
+        // 부모 프레임의 테이블 모델 업데이트 (체크박스 열 렌더러/리스너 설정 포함)
         parentFrame.updateTableModel(model);
 
-        // 결과 테이블 가져오기
-        JTable table = parentFrame.getResultTable();
-
-        // 체크박스 열에 대한 설정 (첫 번째 열)
-        if (table.getColumnCount() > 0) {
-            table.getColumnModel().getColumn(0).setCellEditor(
-                    new DefaultCellEditor(new JCheckBox()));
-
-            // 체크박스 렌더러 설정
-            table.getColumnModel().getColumn(0).setCellRenderer(
-                    new DefaultTableCellRenderer() {
-                        private final JCheckBox checkBox = new JCheckBox();
-
-                        @Override
-                        public Component getTableCellRendererComponent(
-                                JTable table, Object value,
-                                boolean isSelected, boolean hasFocus,
-                                int row, int column) {
-                            // 체크박스 상태 설정
-                            checkBox.setSelected(value != null && (Boolean) value);
-                            checkBox.setHorizontalAlignment(JLabel.CENTER);
-                            return checkBox;
-                        }
-                    });
-        }
-
-        // 체크박스 선택 이벤트 리스너 추가
-        parentFrame.addCheckboxListener(model);
+        // 스크롤 시 다음 페이지를 같은 모델에 이어 붙임
+        parentFrame.startPaging(firstPage, pageLoader, model::addEmployees);
     }
 
-    private void displayGroupResults(Map<String, Double> avgSalaries, String groupBy) {
+    private void displayGroupResults(List<EmployeeAggregator.Row> rows, EmployeeAggregator.Request request) {
         DefaultTableModel model = new DefaultTableModel() {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -373,108 +347,151 @@ public class DBConditionSearch {
             }
         };
 
-        // 그룹별 컬럼 설정
-        String groupColumn = switch (groupBy) {
-            case "성별" -> "SEX";
-            case "부서" -> "Dname";
-            case "상급자" -> "SUPERVISOR";
-            default -> groupBy;
-        };
-        model.addColumn(groupColumn);
-        model.addColumn("AVG_Salary");
-
-        // 그룹별 평균 급여 데이터 추가
-        for (Map.Entry<String, Double> entry : avgSalaries.entrySet()) {
-            String key = entry.getKey();
-            if (key == null || key.trim().isEmpty()) {
-                key = "No Supervisor";
-            }
-            model.addRow(new Object[]{
-                    key,
-                    String.format("%.2f", entry.getValue())
+        // 그룹 컬럼 + 통계 컬럼
+        for (EmployeeAggregator.Dimension dimension : request.dimensions()) {
+            model.addColumn(switch (dimension) {
+                case SEX -> "SEX";
+                case DEPARTMENT -> "Dname";
+                case SUPERVISOR -> "SUPERVISOR";
+                case BIRTH_YEAR -> "BIRTH_YEAR";
             });
         }
+        for (EmployeeAggregator.Metric metric : EmployeeAggregator.Metric.values()) {
+            model.addColumn(metric == EmployeeAggregator.Metric.COUNT ? "COUNT" : metric + "_Salary");
+        }
+
+        for (EmployeeAggregator.Row row : rows) {
+            List<Object> values = new ArrayList<>();
+            for (String key : row.keys()) {
+                // ROLLUP 소계 행은 합쳐진 차원에 표시
+                values.add(key != null ? key : row.rolledUp() == row.keys().size() ? "(전체)" : "(소계)");
+            }
+            values.add(row.count());
+            values.add(formatSalary(row.sum()));
+            values.add(formatSalary(row.avg()));
+            values.add(formatSalary(row.min()));
+            values.add(formatSalary(row.max()));
+            values.add(formatSalary(row.stddev()));
+            model.addRow(values.toArray());
+        }
 
         // 테이블 모델 업데이트
         parentFrame.updateTableModel(model);
     }
 
-    public Map<String, Double> getAverageSalaryByGroup(String groupBy) throws SQLException {
-        Map<String, Double> avgSalaries = new HashMap<>();
-
-        // 그룹별 SQL 쿼리 설정
-        String sql = switch (groupBy) {
-            case "성별" -> "SELECT Sex, AVG(Salary) as avg_salary FROM EMPLOYEE GROUP BY Sex";
-            case "부서" -> """
-                    SELECT d.Dname, AVG(e.Salary) as avg_salary 
-                    FROM EMPLOYEE e 
-                    JOIN DEPARTMENT d ON e.Dno = d.Dnumber 
-                    GROUP BY d.Dname
-                    """;
-            case "상급자" -> """
-                    SELECT CONCAT(s.Fname, ' ', s.Lname) as supervisor, AVG(e.Salary) as avg_salary 
-                    FROM EMPLOYEE e 
-                    LEFT JOIN EMPLOYEE s ON e.Super_ssn = s.Ssn 
-                    GROUP BY s.Ssn, s.Fname, s.Lname
-                    """;
-            default -> throw new SQLException("Invalid group by option");
-        };
-
-        // 쿼리 실행 및 결과 처리
-        try (Connection conn = JDBCConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                String key = rs.getString(1);
-                Double avgSalary = rs.getDouble("avg_salary");
-                avgSalaries.put(key, avgSalary);
-            }
-        }
-
-        return avgSalaries;
+    // 요약 테이블을 읽는 사이에 새로 생긴 그룹은 MIN/MAX가 없음 (NaN)
+    private static String formatSalary(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.2f", value);
     }
 
-    private Map<String, List<Object>> getAllConditions() {
-        Map<String, List<Object>> conditions = new HashMap<>();
+    // 조건 줄 -> 검색 조건식
+    // - 같은 항목의 줄끼리는 OR (예: 부서 두 줄이면 둘 중 한 부서), 다른 항목끼리는 AND
+    // - "제외"를 체크한 줄은 NOT으로 따로 붙임
+    // 입력 형식이 잘못되면 IllegalArgumentException
+    private EmployeeCriteria getAllConditions() {
+        Map<String, List<EmployeeCriteria>> alternatives = new LinkedHashMap<>();
+        List<EmployeeCriteria> terms = new ArrayList<>();
 
-        // 검색 조건들 수집
         for (JPanel panel : conditionPanels) {
             JComboBox<?> typeBox = (JComboBox<?>) panel.getComponent(0);
             JPanel inputPanel = (JPanel) panel.getComponent(1);
+            JCheckBox excludeBox = (JCheckBox) panel.getComponent(2);
 
             String type = (String) typeBox.getSelectedItem();
-            if (!"전체".equals(type)) {
-                Object value = null;
-                Component[] components = inputPanel.getComponents();
-                for (Component comp : components) {
-                    if (comp.isVisible()) {
-                        if (comp instanceof JComboBox) {
-                            value = ((JComboBox<?>) comp).getSelectedItem();
-                        } else if (comp instanceof JTextField) {
-                            value = ((JTextField) comp).getText().trim();
-                        } else if (comp instanceof JPanel) {
-                            // 급여 패널의 경우
-                            JTextField salaryField = (JTextField) ((JPanel) comp).getComponent(0);
-                            value = salaryField.getText().trim();
-                        }
-                    }
-                }
-                if (value != null && !value.toString().isEmpty()) {
-                    conditions.computeIfAbsent(type, k -> new ArrayList<>()).add(value);
+            if ("전체".equals(type)) {
+                continue;
+            }
+            EmployeeCriteria condition = null;
+            for (Component comp : inputPanel.getComponents()) {
+                if (comp.isVisible()) {
+                    condition = toCriteria(type, comp);
                 }
             }
+            if (condition == null) {
+                continue;
+            }
+            if (excludeBox.isSelected()) {
+                terms.add(EmployeeCriteria.not(condition));
+            } else {
+                alternatives.computeIfAbsent(type, k -> new ArrayList<>()).add(condition);
+            }
         }
 
-        // 체크된 속성 목록 추가
-        List<Object> selectedAttributes = new ArrayList<>();
-        for (JCheckBox checkBox : parentFrame.getCheckBoxes()) {
-            if (checkBox.isSelected()) {
-                selectedAttributes.add(checkBox.getText());
+        for (List<EmployeeCriteria> sameType : alternatives.values()) {
+            terms.add(EmployeeCriteria.or(sameType));
+        }
+        return EmployeeCriteria.and(terms);
+    }
+
+    // 입력 컴포넌트 하나의 값 -> 조건 (비어 있으면 null)
+    // - Name/Address/Ssn/Supervisor: 끝에 *를 붙이면 앞부분 일치
+    // - Bdate/Modified: "시작~끝" 범위 (한쪽 생략 가능), Modified는 날짜 단위 (날짜 하나면 그날 하루)
+    private static EmployeeCriteria toCriteria(String type, Component comp) {
+        if (comp instanceof JComboBox<?> box) {
+            Object selected = box.getSelectedItem();
+            return selected == null ? null
+                    : EmployeeCriteria.equalTo("부서".equals(type) ? Field.DEPARTMENT : Field.SEX, selected);
+        }
+        if (comp instanceof JPanel salaryPanel) {
+            // 급여 패널 - 이상/이하 중 입력한 쪽만 적용
+            String min = ((JTextField) salaryPanel.getComponent(0)).getText().trim();
+            String max = ((JTextField) salaryPanel.getComponent(2)).getText().trim();
+            if (min.isEmpty() && max.isEmpty()) {
+                return null;
+            }
+            return EmployeeCriteria.between(Field.SALARY, min.isEmpty() ? null : min, max.isEmpty() ? null : max);
+        }
+
+        String text = ((JTextField) comp).getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        return switch (type) {
+            case "Name" -> textCriteria(Field.NAME, text, true);
+            case "Address" -> textCriteria(Field.ADDRESS, text, true);
+            case "Ssn" -> textCriteria(Field.SSN, text, false);
+            case "Supervisor" -> textCriteria(Field.SUPERVISOR, text, false);
+            case "Bdate" -> {
+                if (!text.contains("~")) {
+                    yield EmployeeCriteria.equalTo(Field.BDATE, text);
+                }
+                String[] range = rangeBounds(text);
+                yield EmployeeCriteria.between(Field.BDATE, range[0], range[1]);
+            }
+            case "Modified" -> {
+                String[] range = text.contains("~") ? rangeBounds(text) : new String[]{text, text};
+                yield EmployeeCriteria.between(Field.MODIFIED,
+                        range[0] == null ? null : parseDate(range[0]).atStartOfDay(),
+                        range[1] == null ? null : parseDate(range[1]).atTime(LocalTime.MAX));
             }
+            default -> throw new IllegalArgumentException("Unknown search type: " + type);
+        };
+    }
+
+    // "x*"는 앞부분 일치, 나머지는 부분 일치(이름/주소) 또는 같은 값(SSN)
+    private static EmployeeCriteria textCriteria(Field field, String text, boolean contains) {
+        if (text.endsWith("*") && text.length() > 1) {
+            return EmployeeCriteria.startsWith(field, text.substring(0, text.length() - 1));
         }
-        conditions.put("attributes", selectedAttributes);
+        return contains ? EmployeeCriteria.contains(field, text) : EmployeeCriteria.equalTo(field, text);
+    }
+
+    // "시작~끝" -> {시작, 끝} (생략한 쪽은 null)
+    private static String[] rangeBounds(String text) {
+        String[] parts = text.split("~", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid range: " + text);
+        }
+        String from = parts[0].trim();
+        String to = parts[1].trim();
+        return new String[]{from.isEmpty() ? null : from, to.isEmpty() ? null : to};
+    }
 
-        return conditions;
+    private static LocalDate parseDate(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date format: " + text, e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,28 @@
 package org.example.component;
 
+import org.example.dao.BulkDeleteResult;
+import org.example.dao.DependencyAnalyzer;
+import org.example.dao.DependencyAnalyzer.DependencyReport;
 import org.example.dao.EmployeeDAO;
-import org.example.dao.JDBCConnection;
 import org.example.view.EmployeeReportView;
 
 import javax.swing.*;
 import java.awt.*;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class DBDelete extends JPanel {
     private final EmployeeDAO employeeDAO;          // 데이터베이스 접근 객체
+    private final DependencyAnalyzer dependencyAnalyzer;  // 삭제 전 종속성 일괄 검사
     private JLabel selectedEmployeesLabel;          // 선택된 직원 이름을 표시하는 레이블
     private List<String> selectedSsns;              // 선택된 직원들의 SSN 목록 저장
     private List<String> selectedEmployeeNames;     // 선택된 직원 이름 목록 저장 (추가)
 
     public DBDelete() {
         employeeDAO = new EmployeeDAO();
+        dependencyAnalyzer = new DependencyAnalyzer();
         selectedSsns = new ArrayList<>();
         selectedEmployeeNames = new ArrayList<>();   // ArrayList 초기화 추가
         initializeUI();
@@ -102,11 +104,13 @@ public class DBDelete extends JPanel {
         }
 
         try {
-            // 선택된 직원들의 외래키 종속성 검사
+            // 선택된 직원들의 외래키 종속성을 한 번에 검사
+            Map<String, DependencyReport> dependencies = dependencyAnalyzer.analyze(selectedSsns);
+
             List<String> supervisorsWithSubordinates = new ArrayList<>();
             for (String ssn : selectedSsns) {
                 // Supervisor로 지정된 경우를 별도로 체크
-                if (hasSubordinates(ssn)) {
+                if (dependencies.get(ssn).hasSubordinates()) {
                     supervisorsWithSubordinates.add(ssn);
                 }
             }
@@ -133,13 +137,8 @@ public class DBDelete extends JPanel {
             }
 
             // 다른 종속성 체크 (DEPARTMENT, WORKS_ON, DEPENDENT)
-            boolean hasAnyOtherDependencies = false;
-            for (String ssn : selectedSsns) {
-                if (hasOtherDependencies(ssn)) {
-                    hasAnyOtherDependencies = true;
-                    break;
-                }
-            }
+            boolean hasAnyOtherDependencies = dependencies.values().stream()
+                    .anyMatch(DependencyReport::hasOtherDependencies);
 
             if (hasAnyOtherDependencies) {
                 int dependencyConfirm = JOptionPane.showConfirmDialog(this,
@@ -162,17 +161,18 @@ public class DBDelete extends JPanel {
                     JOptionPane.YES_NO_OPTION);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                int successCount = 0;
-                for (String ssn : selectedSsns) {
-                    if (employeeDAO.deleteEmployee(ssn)) {
-                        successCount++;
-                    }
-                }
+                // 하나의 트랜잭션에서 청크 단위로 일괄 삭제
+                BulkDeleteResult result = employeeDAO.deleteEmployees(selectedSsns);
 
-                String message = String.format(
+                StringBuilder message = new StringBuilder(String.format(
                         "총 %d명의 직원 중 %d명이 삭제되었습니다.",
-                        selectedSsns.size(), successCount);
-                JOptionPane.showMessageDialog(this, message);
+                        selectedSsns.size(), result.deleted().size()));
+                if (result.hasFailures()) {
+                    message.append("\n\n삭제에 실패한 직원:\n");
+                    result.failed().forEach((ssn, reason) ->
+                            message.append("• ").append(ssn).append(" - ").append(reason).append("\n"));
+                }
+                JOptionPane.showMessageDialog(this, message.toString());
 
                 // 선택 정보 초기화 및 테이블 갱신
                 selectedSsns.clear();
@@ -190,65 +190,4 @@ public class DBDelete extends JPanel {
                     JOptionPane.ERROR_MESSAGE);
         }
     }
-
-    // Supervisor로 지정된 직원인지 확인하는 메소드
-    private boolean hasSubordinates(String ssn) throws SQLException {
-        try (Connection conn = JDBCConnection.getConnection()) {
-            String query = "SELECT COUNT(*) FROM EMPLOYEE WHERE Super_ssn = ?";
-            try (PreparedStatement pstmt = conn.prepareStatement(query)) {
-                pstmt.setString(1, ssn);
-                try (ResultSet rs = pstmt.executeQuery()) {
-                    return rs.next() && rs.getInt(1) > 0;
-                }
-            }
-        }
-    }
-
-    // Supervisor 관계를 제외한 다른 종속성 체크
-    private boolean hasOtherDependencies(String ssn) throws SQLException {
-        try (Connection conn = JDBCConnection.getConnection()) {
-            // 부서 관리자, 프로젝트 참여, 부양가족 체크
-            String[] queries = {
-                    "SELECT COUNT(*) FROM DEPARTMENT WHERE Mgr_ssn = ?",
-                    "SELECT COUNT(*) FROM WORKS_ON WHERE Essn = ?",
-                    "SELECT COUNT(*) FROM DEPENDENT WHERE Essn = ?"
-            };
-
-            for (String query : queries) {
-                try (PreparedStatement pstmt = conn.prepareStatement(query)) {
-                    pstmt.setString(1, ssn);
-                    try (ResultSet rs = pstmt.executeQuery()) {
-                        if (rs.next() && rs.getInt(1) > 0) {
-                            return true;
-                        }
-                    }
-                }
-            }
-            return false;
-        }
-    }
-
-    private boolean hasDependencies(String ssn) throws SQLException {
-        try (Connection conn = JDBCConnection.getConnection()) {
-            // 각 테이블별 종속성 확인 쿼리
-            String[] queries = {
-                    "SELECT COUNT(*) FROM EMPLOYEE WHERE Super_ssn = ?",      // 다른 직원의 상사인 경우
-                    "SELECT COUNT(*) FROM DEPARTMENT WHERE Mgr_ssn = ?",      // 부서 관리자인 경우
-                    "SELECT COUNT(*) FROM WORKS_ON WHERE Essn = ?",           // 프로젝트 참여 중인 경우
-                    "SELECT COUNT(*) FROM DEPENDENT WHERE Essn = ?"           // 부양가족이 있는 경우
-            };
-
-            for (String query : queries) {
-                try (PreparedStatement pstmt = conn.prepareStatement(query)) {
-                    pstmt.setString(1, ssn);
-                    try (ResultSet rs = pstmt.executeQuery()) {
-                        if (rs.next() && rs.getInt(1) > 0) {
-                            return true;
-                        }
-                    }
-                }
-            }
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
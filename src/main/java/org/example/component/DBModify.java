@@ -1,25 +1,25 @@
 package org.example.component;
 
-import org.example.dao.JDBCConnection;
+import org.example.dao.EmployeeDAO;
 import org.example.view.EmployeeReportView;
 
 import javax.swing.*;
 import java.awt.*;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 public class DBModify {
     private final EmployeeReportView parentFrame;      // 부모 프레임 참조
+    private final EmployeeDAO employeeDAO;             // 데이터베이스 접근 객체
     private JTextField modifyValueField;               // 수정할 값 입력 필드
     private String selectedColumn;                     // 선택된 수정 컬럼
     private List<String> selectedSsns;                // 선택된 직원들의 SSN 목록
 
     public DBModify(EmployeeReportView parent) {
         this.parentFrame = parent;
+        this.employeeDAO = new EmployeeDAO();
     }
 
     public JPanel createModifyPanel() {
@@ -81,41 +81,12 @@ public class DBModify {
             return;
         }
 
-        try (Connection conn = JDBCConnection.getConnection()) {
-            // Modified 컬럼도 함께 업데이트하는 SQL 준비
-            String sql = "UPDATE EMPLOYEE SET " + selectedColumn + " = ?, modified = CURRENT_TIMESTAMP WHERE Ssn = ?";
-
-            int successCount = 0;
-            for (String ssn : selectedSsns) {
-                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                    // 컬럼 타입에 따른 값 설정 및 유효성 검사
-                    switch (selectedColumn) {
-                        case "Salary" -> pstmt.setDouble(1, Double.parseDouble(newValue));
-                        case "Dno" -> pstmt.setInt(1, Integer.parseInt(newValue));
-                        case "Bdate" -> {
-                            try {
-                                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-                                java.util.Date parsed = dateFormat.parse(newValue);
-                                pstmt.setDate(1, new java.sql.Date(parsed.getTime()));
-                            } catch (ParseException ex) {
-                                throw new SQLException("날짜 형식이 잘못되었습니다. YYYY-MM-DD 형식으로 입력해주세요.");
-                            }
-                        }
-                        case "Sex" -> {
-                            if (!newValue.matches("[FM]")) {
-                                throw new SQLException("성별은 F 또는 M만 입력 가능합니다.");
-                            }
-                            pstmt.setString(1, newValue);
-                        }
-                        default -> pstmt.setString(1, newValue);
-                    }
-                    pstmt.setString(2, ssn);
-
-                    if (pstmt.executeUpdate() > 0) {
-                        successCount++;
-                    }
-                }
-            }
+        try {
+            // 입력값은 모든 직원에게 동일하므로 한 번만 변환
+            Object value = convertValue(selectedColumn, newValue);
+
+            // 하나의 트랜잭션에서 일괄 수정 (일부라도 실패하면 전체 롤백)
+            int successCount = employeeDAO.updateEmployeesColumn(selectedSsns, selectedColumn, value);
 
             // 수정 성공 시 메시지 표시 및 테이블 갱신
             if (successCount > 0) {
@@ -139,6 +110,28 @@ public class DBModify {
         }
     }
 
+    // 컬럼 타입에 따른 값 변환 및 유효성 검사
+    private Object convertValue(String column, String newValue) throws SQLException {
+        return switch (column) {
+            case "Salary" -> Double.parseDouble(newValue);
+            case "Dno" -> Integer.parseInt(newValue);
+            case "Bdate" -> {
+                try {
+                    yield java.sql.Date.valueOf(LocalDate.parse(newValue));
+                } catch (DateTimeParseException ex) {
+                    throw new SQLException("날짜 형식이 잘못되었습니다. YYYY-MM-DD 형식으로 입력해주세요.");
+                }
+            }
+            case "Sex" -> {
+                if (!newValue.matches("[FM]")) {
+                    throw new SQLException("성별은 F 또는 M만 입력 가능합니다.");
+                }
+                yield newValue;
+            }
+            default -> newValue;
+        };
+    }
+
     public void setSelectedSsns(List<String> ssns) {
         this.selectedSsns = ssns;
     }
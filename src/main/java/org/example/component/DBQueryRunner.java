@@ -0,0 +1,141 @@
+package org.example.component;
+
+import org.example.dao.QueryHandle;
+
+import javax.swing.*;
+import java.awt.*;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+// 검색/조회 쿼리를 EDT 밖(SwingWorker)에서 실행하고 진행 상황과 취소 버튼을 보여주는 패널
+public class DBQueryRunner extends JPanel {
+    private final JProgressBar progressBar;      // 실행 중 표시
+    private final JLabel statusLabel;            // 진행 상황 메시지
+    private final JButton cancelButton;          // 실행 중인 쿼리 취소 버튼
+    private final Timer progressTimer;           // 읽은 행 수를 주기적으로 표시
+
+    private long generation = 0;                 // 새 쿼리가 시작될 때마다 증가 (EDT에서만 접근)
+    private QueryHandle currentHandle;           // 현재 실행 중인 쿼리 핸들
+    private SwingWorker<?, ?> currentWorker;
+    private String currentDescription = "";
+
+    @FunctionalInterface
+    public interface Query<T> {
+        T run(QueryHandle handle) throws SQLException;
+    }
+
+    public DBQueryRunner() {
+        setLayout(new FlowLayout(FlowLayout.LEFT, 10, 0));
+
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setPreferredSize(new Dimension(120, 15));
+        progressBar.setVisible(false);
+        add(progressBar);
+
+        statusLabel = new JLabel("");
+        statusLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        add(statusLabel);
+
+        cancelButton = new JButton("취소");
+        cancelButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        cancelButton.setVisible(false);
+        cancelButton.addActionListener(e -> cancel());
+        add(cancelButton);
+
+        progressTimer = new Timer(200, e -> {
+            if (currentHandle != null) {
+                statusLabel.setText(currentDescription + " 중... (" + currentHandle.getRowsFetched() + "건)");
+            }
+        });
+    }
+
+    // 쿼리를 백그라운드에서 실행 - 이전에 실행 중이던 쿼리는 취소되고 그 결과는 버려짐
+    public <T> void submit(String description, Query<T> query,
+                           Consumer<T> onSuccess, Consumer<SQLException> onError) {
+        cancelCurrent();
+
+        long myGeneration = ++generation;
+        QueryHandle handle = new QueryHandle();
+        currentHandle = handle;
+        currentDescription = description;
+
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return query.run(handle);
+            }
+
+            @Override
+            protected void done() {
+                // 더 최신 쿼리가 시작되었으면 이 결과는 무시
+                if (myGeneration != generation) {
+                    return;
+                }
+                finish();
+
+                if (handle.isCancelled() || isCancelled()) {
+                    statusLabel.setText(description + " 취소됨");
+                    return;
+                }
+                try {
+                    T result = get();
+                    statusLabel.setText(description + " 완료 (" + handle.getRowsFetched() + "건)");
+                    onSuccess.accept(result);
+                } catch (ExecutionException e) {
+                    statusLabel.setText(description + " 실패");
+                    Throwable cause = e.getCause();
+                    if (cause instanceof SQLException sqlException) {
+                        onError.accept(sqlException);
+                    } else {
+                        onError.accept(new SQLException(cause.getMessage(), cause));
+                    }
+                } catch (InterruptedException | CancellationException e) {
+                    statusLabel.setText(description + " 취소됨");
+                }
+            }
+        };
+
+        currentWorker = worker;
+        statusLabel.setText(description + " 중...");
+        progressBar.setVisible(true);
+        cancelButton.setVisible(true);
+        progressTimer.start();
+        worker.execute();
+    }
+
+    // 사용자가 취소 버튼을 누른 경우
+    public void cancel() {
+        if (currentHandle == null) {
+            return;
+        }
+        String description = currentDescription;
+        cancelCurrent();
+        generation++;   // 취소된 쿼리의 결과가 늦게 도착해도 반영되지 않도록
+        finish();
+        statusLabel.setText(description + " 취소됨");
+    }
+
+    public boolean isRunning() {
+        return currentHandle != null;
+    }
+
+    private void cancelCurrent() {
+        if (currentHandle != null) {
+            currentHandle.cancel();   // Statement.cancel()로 DB 쪽 실행도 중단
+        }
+        if (currentWorker != null) {
+            currentWorker.cancel(false);
+        }
+    }
+
+    private void finish() {
+        progressTimer.stop();
+        progressBar.setVisible(false);
+        cancelButton.setVisible(false);
+        currentHandle = null;
+        currentWorker = null;
+    }
+}
@@ -2,6 +2,7 @@ package org.example.component;
 
 import org.example.dao.EmployeeDAO;
 import org.example.model.Employee;
+import org.example.model.EmployeeValidator;
 import org.example.view.EmployeeReportView;
 
 import javax.swing.*;
@@ -157,23 +158,11 @@ public class DBUpdate extends JDialog {
         }
     }
 
-    private boolean validateInput(JTextField input, String regEx, String errMessage, boolean isRequired) {
-        String inputData = input.getText().trim(); // JTextField 입력값을 String으로 추출
+    private boolean validateInput(JTextField input, EmployeeValidator.Field field) {
+        // 검증 규칙은 일괄 추가 기능과 공유
+        String errMessage = EmployeeValidator.validate(field, input.getText());
 
-        if (inputData.isEmpty()) { // 값이 없을 경우
-            if (isRequired) { // 필수값일 경우 오류 메시지 출력
-                JOptionPane.showMessageDialog(this,
-                        "필수 필드는 반드시 입력되어야 합니다.",
-                        "입력 오류",
-                        JOptionPane.ERROR_MESSAGE);
-                input.requestFocus();  // 해당 입력 필드에 포커스 이동
-                return false;
-            } else {
-                return true;
-            }// 필수값이 아닐 경우 검증을 종료
-        }
-
-        if (!inputData.matches(regEx)) { // 유효성 검사를 통과하지 못할 경우
+        if (errMessage != null) { // 유효성 검사를 통과하지 못할 경우
             JOptionPane.showMessageDialog(
                     this,
                     errMessage,
@@ -188,28 +177,28 @@ public class DBUpdate extends JDialog {
 
     private boolean validateInputs() {
 
-        if (!validateInput(firstNameField, "[a-zA-Z]+", "이름은 영어로 입력해야 합니다.", true)) {
+        if (!validateInput(firstNameField, EmployeeValidator.Field.FIRST_NAME)) {
             return false;
         }
-        if (!validateInput(minitField, "[a-zA-Z]", "이니셜은 영어로 입력해야 합니다.", false)) {
+        if (!validateInput(minitField, EmployeeValidator.Field.MINIT)) {
             return false;
         }
-        if (!validateInput(lastNameField, "[a-zA-Z]+", "성은 영어로 입력해야 합니다.", true)) {
+        if (!validateInput(lastNameField, EmployeeValidator.Field.LAST_NAME)) {
             return false;
         }
-        if (!validateInput(ssnField, "\\d{9}", "SSN은 9자리 숫자여야 합니다.", true)) {
+        if (!validateInput(ssnField, EmployeeValidator.Field.SSN)) {
             return false;
         }
-        if (!validateInput(birthdateField, "\\d{4}-\\d{2}-\\d{2}", "출생일은 YYYY-MM-DD 형식입니다.", false)) {
+        if (!validateInput(birthdateField, EmployeeValidator.Field.BDATE)) {
             return false;
         }
-        if (!validateInput(salaryField, "(\\d{1,8}(\\.\\d{2})?)", "Salary는 소숫점 둘째 자리까지 허용되는 숫자 형식입니다.", false)) {
+        if (!validateInput(salaryField, EmployeeValidator.Field.SALARY)) {
             return false;
         }
-        if (!validateInput(superSsnField, "\\d{9}", "Super_SSN은 9자리 숫자여야 합니다.", false)) {
+        if (!validateInput(superSsnField, EmployeeValidator.Field.SUPER_SSN)) {
             return false;
         }
-        return validateInput(dnoField, "\\d{1,2}", "Dno는 1자리 또는 2자리 숫자여야 합니다.", true);
+        return validateInput(dnoField, EmployeeValidator.Field.DNO);
     }
 
 }
\ No newline at end of file
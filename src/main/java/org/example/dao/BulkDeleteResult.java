@@ -0,0 +1,18 @@
+package org.example.dao;
+
+import java.util.List;
+import java.util.Map;
+
+// 여러 직원 일괄 삭제 결과 - SSN별 성공/실패 내역
+public record BulkDeleteResult(List<String> deleted,          // 삭제된 SSN
+                               List<String> notFound,         // 존재하지 않던 SSN
+                               Map<String, String> failed) {  // 삭제 실패한 SSN -> 오류 메시지
+
+    public int requestedCount() {
+        return deleted.size() + notFound.size() + failed.size();
+    }
+
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
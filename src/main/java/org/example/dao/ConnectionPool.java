@@ -0,0 +1,552 @@
+package org.example.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConnectionPool {
+    // 이 시간 안에 반납된 커넥션은 대여 시 isValid() 왕복을 생략 (방금까지 정상적으로 쓰던 커넥션)
+    private static final long RECENTLY_USED_MILLIS = 500;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;                 // 항상 유지할 최소 커넥션 수
+    private final int maxSize;                 // 동시에 열 수 있는 최대 커넥션 수
+    private final long borrowTimeoutMillis;    // 커넥션 대여 대기 최대 시간
+    private final long idleTimeoutMillis;      // 이 시간 이상 쉬고 있는 커넥션은 정리
+    private final long leakThresholdMillis;    // 이 시간 이상 반납되지 않으면 누수로 간주 (0 이하면 감지 안 함)
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;      // 커넥션당 캐시할 PreparedStatement 수 (0이면 캐시 안 함)
+    private final SqlTrace sqlTrace;           // SQL 실행 추적 (null이면 추적 안 함)
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();   // 반납된 커넥션 (LIFO)
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private int totalCount = 0;      // 생성된 물리 커넥션 수 (생성 중인 것 포함)
+    private int waiterCount = 0;     // 대여를 기다리는 스레드 수
+    private boolean closed = false;
+
+    // 통계
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong totalAcquireNanos = new AtomicLong();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    private final ScheduledExecutorService housekeeper;
+
+    public ConnectionPool(String url, String user, String password,
+                          int minSize, int maxSize,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long leakThresholdMillis,
+                          int statementCacheSize, SqlTrace sqlTrace) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.validationTimeoutSeconds = 2;
+        this.statementCacheSize = statementCacheSize;
+        this.sqlTrace = sqlTrace;
+
+        // 유휴 커넥션 정리 및 누수 감지를 위한 백그라운드 스레드
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000,
+                (leakThresholdMillis > 0 ? Math.min(idleTimeoutMillis, leakThresholdMillis) : idleTimeoutMillis) / 2);
+        housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+        while (true) {
+            PooledConnection candidate = null;
+            boolean create = false;
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    candidate = idle.pollFirst();
+                    if (candidate != null) {
+                        break;
+                    }
+                    if (totalCount < maxSize) {
+                        totalCount++;   // 자리를 먼저 예약하고 락 밖에서 생성
+                        create = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount.incrementAndGet();
+                        throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                                + "ms waiting for a connection (active=" + borrowed.size()
+                                + ", max=" + maxSize + ")");
+                    }
+                    waiterCount++;
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a connection", e);
+                    } finally {
+                        waiterCount--;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    candidate = new PooledConnection(openPhysical());
+                    createdCount.incrementAndGet();
+                } catch (SQLException e) {
+                    releaseSlot();
+                    throw e;
+                }
+            } else if (!isUsable(candidate)) {
+                // 대여 시 검증에 실패한 커넥션은 버리고 다시 시도
+                discard(candidate);
+                continue;
+            }
+
+            candidate.markBorrowed();
+            borrowed.add(candidate);
+            recordAcquire(System.nanoTime() - start);
+            return candidate.proxy;
+        }
+    }
+
+    // 추적을 켠 경우 물리 커넥션을 추적 계층으로 감싸서 풀에 넣음 (문장 캐시도 추적된 문장을 재사용)
+    private Connection openPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        return sqlTrace != null ? sqlTrace.wrap(physical) : physical;
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        try {
+            if (pc.physical.isClosed()) {
+                return false;
+            }
+            return System.currentTimeMillis() - pc.lastUsed < RECENTLY_USED_MILLIS
+                    || pc.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void recordAcquire(long nanos) {
+        borrowCount.incrementAndGet();
+        totalAcquireNanos.addAndGet(nanos);
+        maxAcquireNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // 풀 커넥션의 close() 호출 시 실행 - 물리 커넥션을 닫지 않고 풀에 반납
+    private void release(PooledConnection pc) {
+        if (!borrowed.remove(pc)) {
+            return;  // 이미 반납된 커넥션
+        }
+        try {
+            // 다음 사용자에게 트랜잭션 상태가 넘어가지 않도록 초기화
+            if (!pc.physical.getAutoCommit()) {
+                pc.physical.rollback();
+                pc.physical.setAutoCommit(true);
+            }
+            pc.physical.clearWarnings();
+            pc.resetStatements();
+        } catch (SQLException e) {
+            discard(pc);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                closeQuietly(pc);
+                totalCount--;
+                return;
+            }
+            pc.lastUsed = System.currentTimeMillis();
+            idle.addFirst(pc);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void discard(PooledConnection pc) {
+        borrowed.remove(pc);
+        closeQuietly(pc);
+        releaseSlot();
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            totalCount--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeQuietly(PooledConnection pc) {
+        try {
+            pc.physical.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    // 주기적으로 오래된 유휴 커넥션 정리, 최소 커넥션 수 유지, 누수 감지
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            // 가장 오래 쉰 커넥션은 덱의 뒤쪽에 있음
+            while (totalCount > minSize && !idle.isEmpty()
+                    && now - idle.peekLast().lastUsed > idleTimeoutMillis) {
+                closeQuietly(idle.pollLast());
+                totalCount--;
+                evictedCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leakThresholdMillis > 0) {
+            for (PooledConnection pc : borrowed) {
+                if (!pc.leakReported && now - pc.borrowedAt > leakThresholdMillis) {
+                    pc.leakReported = true;
+                    leakCount.incrementAndGet();
+                    System.err.println("[ConnectionPool] Possible connection leak: held for "
+                            + (now - pc.borrowedAt) + "ms by " + pc.borrowerThread);
+                    pc.borrowSite.printStackTrace();
+                }
+            }
+        }
+
+        fillToMinimum();
+    }
+
+    private void fillToMinimum() {
+        while (true) {
+            lock.lock();
+            try {
+                if (closed || totalCount >= minSize) {
+                    return;
+                }
+                totalCount++;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                PooledConnection pc = new PooledConnection(openPhysical());
+                createdCount.incrementAndGet();
+                lock.lock();
+                try {
+                    pc.lastUsed = System.currentTimeMillis();
+                    idle.addLast(pc);
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException e) {
+                releaseSlot();
+                return;  // DB 접속이 안 되면 다음 주기에 다시 시도
+            }
+        }
+    }
+
+    public Stats getStats() {
+        lock.lock();
+        try {
+            long borrows = borrowCount.get();
+            return new Stats(
+                    borrowed.size(),
+                    idle.size(),
+                    waiterCount,
+                    totalCount,
+                    borrows,
+                    timeoutCount.get(),
+                    createdCount.get(),
+                    evictedCount.get(),
+                    leakCount.get(),
+                    borrows == 0 ? 0 : totalAcquireNanos.get() / borrows / 1000,
+                    maxAcquireNanos.get() / 1000,
+                    statementCacheHits.get(),
+                    statementCacheMisses.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        housekeeper.shutdownNow();
+        lock.lock();
+        try {
+            closed = true;
+            for (PooledConnection pc : idle) {
+                closeQuietly(pc);
+                totalCount--;
+            }
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 풀 상태 스냅샷 (지연 시간은 마이크로초 단위)
+    public record Stats(int active, int idle, int waiters, int total,
+                        long borrows, long timeouts, long created, long evicted, long leaks,
+                        long avgAcquireMicros, long maxAcquireMicros,
+                        long statementCacheHits, long statementCacheMisses) {
+
+        public double statementCacheHitRatio() {
+            long lookups = statementCacheHits + statementCacheMisses;
+            return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+        }
+    }
+
+    // 물리 커넥션과 대여 정보를 함께 관리하는 내부 클래스
+    private final class PooledConnection implements InvocationHandler {
+        private final Connection physical;
+        private final Connection proxy;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile long borrowedAt;
+        private volatile String borrowerThread;
+        private volatile Throwable borrowSite;   // 누수 감지를 켠 경우에만 기록
+        private volatile boolean leakReported;
+
+        // SQL 문자열 -> 준비된 문장 (가장 오래 사용하지 않은 것부터 제거되는 LRU)
+        // 커넥션은 한 번에 한 스레드만 빌려 쓰므로 별도 동기화 없이 사용
+        private final LinkedHashMap<String, CachedStatement> statementCache =
+                new LinkedHashMap<>(16, 0.75f, true);
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.proxy = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        private void markBorrowed() {
+            borrowedAt = System.currentTimeMillis();
+            borrowerThread = Thread.currentThread().getName();
+            // 스택 추적은 비싸므로 누수 보고에 쓸 때만 만듦
+            borrowSite = leakThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null;
+            leakReported = false;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release(this);
+                    return null;
+                }
+                case "isClosed" -> {
+                    return !borrowed.contains(this) || physical.isClosed();
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(physical)) {
+                        return physical;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled[" + physical + "]";
+                }
+            }
+            if (!borrowed.contains(this)) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (statementCacheSize > 0 && method.getName().equals("prepareStatement")
+                    && args != null && args.length == 1) {
+                return prepareCached((String) args[0]);
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // 같은 SQL이면 이 커넥션에서 이전에 준비한 문장을 재사용 (파싱/실행계획 비용 절약)
+        private PreparedStatement prepareCached(String sql) throws SQLException {
+            CachedStatement cached = statementCache.get(sql);
+            if (cached != null && !cached.inUse && !cached.physical.isClosed()) {
+                statementCacheHits.incrementAndGet();
+                cached.inUse = true;
+                return cached.proxy;
+            }
+            statementCacheMisses.incrementAndGet();
+
+            PreparedStatement physicalStatement = physical.prepareStatement(sql);
+            if (cached != null && cached.inUse) {
+                // 같은 SQL을 동시에 두 번 여는 경우 - 두 번째는 캐시하지 않고 일반 문장으로 반환
+                return physicalStatement;
+            }
+            CachedStatement created = new CachedStatement(physicalStatement, proxy);
+            created.inUse = true;
+            statementCache.put(sql, created);
+            evictStatements();
+            return created.proxy;
+        }
+
+        // 반납 시 닫지 않고 남겨둔 문장도 다음 사용자가 쓸 수 있도록 정리
+        private void resetStatements() throws SQLException {
+            for (CachedStatement cached : statementCache.values()) {
+                if (cached.inUse) {
+                    cached.proxy.close();
+                }
+            }
+        }
+
+        private void evictStatements() {
+            Iterator<Map.Entry<String, CachedStatement>> it = statementCache.entrySet().iterator();
+            while (statementCache.size() > statementCacheSize && it.hasNext()) {
+                CachedStatement oldest = it.next().getValue();
+                if (!oldest.inUse) {
+                    try {
+                        oldest.physical.close();
+                    } catch (SQLException ignored) {
+                    }
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    // 캐시된 PreparedStatement - close() 하면 닫지 않고 파라미터와 문장 설정을 처음 상태로 돌린 뒤 캐시로 돌려놓음
+    // (fetchSize/maxRows/queryTimeout 등이 다음 사용자에게 넘어가지 않도록 만들 때의 드라이버 기본값을 기억해 둠)
+    private static final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement physical;
+        private final PreparedStatement proxy;
+        private final Connection owner;
+        private final int defaultFetchSize;
+        private final int defaultFetchDirection;
+        private final int defaultMaxRows;
+        private final int defaultMaxFieldSize;
+        private final int defaultQueryTimeout;
+        private boolean inUse;
+        private boolean settingsChanged;   // 되돌릴 수 있는 설정을 바꿈
+        private boolean discard;           // 되돌릴 수 없는 설정(커서 이름 등)을 바꿈 - 반납 시 닫고 캐시에서 빠짐
+
+        private CachedStatement(PreparedStatement physical, Connection owner) throws SQLException {
+            this.physical = physical;
+            this.owner = owner;
+            this.defaultFetchSize = physical.getFetchSize();
+            this.defaultFetchDirection = physical.getFetchDirection();
+            this.defaultMaxRows = physical.getMaxRows();
+            this.defaultMaxFieldSize = physical.getMaxFieldSize();
+            this.defaultQueryTimeout = physical.getQueryTimeout();
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (inUse) {
+                        inUse = false;
+                        if (physical.isClosed()) {
+                            return null;
+                        }
+                        physical.clearParameters();
+                        physical.clearBatch();
+                        physical.clearWarnings();
+                        if (settingsChanged) {
+                            // 드라이버에 따라 (H2의 queryTimeout 등) 세션 설정이므로 닫을 문장도 되돌림
+                            try {
+                                restoreSettings();
+                            } catch (SQLException e) {
+                                discard = true;   // 되돌리지 못한 문장은 다시 쓰지 않음
+                            }
+                        }
+                        if (discard) {
+                            physical.close();   // 다음 prepareStatement에서 새로 만들어 캐시에 넣음
+                        }
+                    }
+                    return null;
+                }
+                case "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+                     "setQueryTimeout", "setEscapeProcessing", "setPoolable" -> settingsChanged = true;
+                case "setCursorName", "closeOnCompletion" -> discard = true;
+                case "isClosed" -> {
+                    return !inUse || physical.isClosed();
+                }
+                case "getConnection" -> {
+                    return owner;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        // maxRows를 먼저 되돌림 (드라이버에 따라 fetchSize가 maxRows보다 크면 거부)
+        private void restoreSettings() throws SQLException {
+            physical.setMaxRows(defaultMaxRows);
+            physical.setFetchSize(defaultFetchSize);
+            physical.setFetchDirection(defaultFetchDirection);
+            physical.setMaxFieldSize(defaultMaxFieldSize);
+            physical.setQueryTimeout(defaultQueryTimeout);
+            physical.setEscapeProcessing(true);
+            physical.setPoolable(true);
+            settingsChanged = false;
+        }
+    }
+}
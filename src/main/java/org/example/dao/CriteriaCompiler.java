@@ -0,0 +1,563 @@
+package org.example.dao;
+
+import org.example.dao.EmployeeCriteria.And;
+import org.example.dao.EmployeeCriteria.Field;
+import org.example.dao.EmployeeCriteria.In;
+import org.example.dao.EmployeeCriteria.Not;
+import org.example.dao.EmployeeCriteria.Or;
+import org.example.dao.EmployeeCriteria.Range;
+import org.example.dao.EmployeeCriteria.Text;
+import org.example.dao.EmployeeCriteria.TextMatch;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeColumns;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+// EmployeeCriteria -> 파라미터 SQL / 메모리 행 필터
+// 1. 정규화: 같은 연산끼리 펼치고(AND 안의 AND), 중복 제거, 같은 필드의 범위는 AND에서 교집합,
+//    같은 필드의 IN은 OR에서 합집합으로 합친 뒤 필드 순서로 정렬
+//    -> 조건을 어떤 순서로 조합했든 같은 검색이면 같은 식이 됨
+// 2. 부서명 -> 부서 번호, IN 목록 길이는 2의 거듭제곱으로 맞춤 (마지막 값을 반복)
+//    -> 값 개수가 달라도 SQL 종류가 몇 개로 제한되어 문장 캐시와 DB 실행 계획 캐시가 계속 맞음
+// 3. 형태(shape)와 파라미터를 만들고, SQL은 형태가 처음 나왔을 때만 만듦 (EmployeeDAO가 형태별로 캐시)
+// - 색인을 탈 수 있는 형태로 만듦: 앞부분 일치는 LIKE 'x%', 범위는 BETWEEN, 이름 앞부분은 (Fname, Lname) 색인
+final class CriteriaCompiler {
+    private static final int MAX_PADDED_IN = 1024;
+    // 메모리 행 필터의 결과 (SQL의 3값 논리 - NULL과 비교한 결과는 UNKNOWN이고 NOT을 붙여도 UNKNOWN)
+    private static final int FALSE = 0;
+    private static final int TRUE = 1;
+    private static final int UNKNOWN = 2;
+
+    private CriteriaCompiler() {
+    }
+
+    // 정규화한 조건식과 SQL 생성에 필요한 결정 (Name/Address를 FULLTEXT로 처리할지 - 방문 순서대로)
+    static final class Plan {
+        private final EmployeeCriteria root;
+        private final List<Boolean> fullText;
+        private final String shape;
+
+        private Plan(EmployeeCriteria root, List<Boolean> fullText, String shape) {
+            this.root = root;
+            this.fullText = fullText;
+            this.shape = shape;
+        }
+
+        // 값을 뺀 조건식의 형태 - 같으면 toSql() 결과도 같음
+        String shape() {
+            return shape;
+        }
+
+        // WHERE 1=1 뒤에 붙일 조건 (" AND ..." 형식)
+        String toSql() {
+            Iterator<Boolean> decisions = fullText.iterator();
+            StringBuilder sql = new StringBuilder();
+            if (root instanceof And and) {
+                for (EmployeeCriteria term : and.terms()) {
+                    sql.append(" AND ").append(sql(term, decisions));
+                }
+            } else {
+                sql.append(" AND ").append(sql(root, decisions));
+            }
+            return sql.toString();
+        }
+    }
+
+    // 파라미터를 params에 추가하고 SQL 생성 계획을 반환 (조건이 없으면 null)
+    static Plan plan(EmployeeCriteria criteria, List<Object> params) throws SQLException {
+        EmployeeCriteria root = resolve(normalize(criteria));
+        if (root.equals(EmployeeCriteria.ALL)) {
+            return null;
+        }
+        List<Boolean> fullText = new ArrayList<>();
+        StringBuilder shape = new StringBuilder();
+        collect(root, shape, params, fullText);
+        return new Plan(root, fullText, shape.toString());
+    }
+
+    // === 정규화 ===
+
+    static EmployeeCriteria normalize(EmployeeCriteria criteria) {
+        if (criteria instanceof And and) {
+            return normalizeAnd(and.terms());
+        }
+        if (criteria instanceof Or or) {
+            return normalizeOr(or.terms());
+        }
+        if (criteria instanceof Not not) {
+            EmployeeCriteria term = normalize(not.term());
+            return term instanceof Not inner ? inner.term() : new Not(term);
+        }
+        return criteria;
+    }
+
+    private static EmployeeCriteria normalizeAnd(List<EmployeeCriteria> terms) {
+        List<EmployeeCriteria> flat = new ArrayList<>();
+        Map<Field, Range> ranges = new LinkedHashMap<>();
+        for (EmployeeCriteria term : terms) {
+            EmployeeCriteria normalized = normalize(term);
+            List<EmployeeCriteria> parts = normalized instanceof And and ? and.terms() : List.of(normalized);
+            for (EmployeeCriteria part : parts) {
+                if (part instanceof Range range) {
+                    ranges.merge(range.field(), range, CriteriaCompiler::intersect);
+                } else {
+                    flat.add(part);
+                }
+            }
+        }
+        flat.addAll(ranges.values());
+        return combine(flat, true);
+    }
+
+    private static EmployeeCriteria normalizeOr(List<EmployeeCriteria> terms) {
+        List<EmployeeCriteria> flat = new ArrayList<>();
+        Map<Field, Set<Object>> values = new LinkedHashMap<>();
+        for (EmployeeCriteria term : terms) {
+            EmployeeCriteria normalized = normalize(term);
+            if (normalized.equals(EmployeeCriteria.ALL)) {
+                return EmployeeCriteria.ALL;   // 조건 없음 OR ... 는 항상 참
+            }
+            List<EmployeeCriteria> parts = normalized instanceof Or or ? or.terms() : List.of(normalized);
+            for (EmployeeCriteria part : parts) {
+                if (part instanceof In in) {
+                    values.computeIfAbsent(in.field(), field -> new LinkedHashSet<>()).addAll(in.values());
+                } else {
+                    flat.add(part);
+                }
+            }
+        }
+        values.forEach((field, merged) -> flat.add(new In(field, List.copyOf(merged))));
+        return combine(flat, false);
+    }
+
+    // 중복을 빼고 정렬한 뒤 하나면 그대로, 여럿이면 AND/OR로 묶음
+    private static EmployeeCriteria combine(List<EmployeeCriteria> terms, boolean and) {
+        List<EmployeeCriteria> distinct = new ArrayList<>(new LinkedHashSet<>(terms));
+        distinct.sort(Comparator.comparing(CriteriaCompiler::orderKey));
+        if (distinct.size() == 1) {
+            return distinct.get(0);
+        }
+        if (and) {
+            return distinct.isEmpty() ? EmployeeCriteria.ALL : new And(List.copyOf(distinct));
+        }
+        return new Or(List.copyOf(distinct));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Range intersect(Range a, Range b) {
+        Comparable from = a.from() == null ? b.from()
+                : b.from() == null ? a.from()
+                : ((Comparable) a.from()).compareTo(b.from()) >= 0 ? a.from() : b.from();
+        Comparable to = a.to() == null ? b.to()
+                : b.to() == null ? a.to()
+                : ((Comparable) a.to()).compareTo(b.to()) <= 0 ? a.to() : b.to();
+        return new Range(a.field(), from, to);
+    }
+
+    // 정렬 기준 - 필드 순서, 같은 필드면 조건 종류 (값은 보지 않음), AND/OR 묶음은 뒤로
+    private static String orderKey(EmployeeCriteria criteria) {
+        if (criteria instanceof Text text) {
+            return String.format("%02d%s", text.field().ordinal(), text.match() == TextMatch.PREFIX ? "^" : "~");
+        }
+        if (criteria instanceof In in) {
+            return String.format("%02d=%d", in.field().ordinal(), in.values().size());
+        }
+        if (criteria instanceof Range range) {
+            return String.format("%02d[%s%s", range.field().ordinal(),
+                    range.from() != null ? "f" : "", range.to() != null ? "t" : "");
+        }
+        if (criteria instanceof Not not) {
+            return orderKey(not.term()) + "!";
+        }
+        List<EmployeeCriteria> terms = criteria instanceof And and ? and.terms() : ((Or) criteria).terms();
+        StringBuilder key = new StringBuilder(criteria instanceof And ? "~&(" : "~|(");
+        for (EmployeeCriteria term : terms) {
+            key.append(orderKey(term)).append(',');
+        }
+        return key.append(')').toString();
+    }
+
+    // === SQL ===
+
+    // 부서명을 부서 번호로 바꾸고 IN 목록 길이를 맞춤
+    private static EmployeeCriteria resolve(EmployeeCriteria criteria) throws SQLException {
+        if (criteria instanceof And and) {
+            return new And(resolveAll(and.terms()));
+        }
+        if (criteria instanceof Or or) {
+            return new Or(resolveAll(or.terms()));
+        }
+        if (criteria instanceof Not not) {
+            return new Not(resolve(not.term()));
+        }
+        if (criteria instanceof In in) {
+            List<Object> values = in.values();
+            if (in.field() == Field.DEPARTMENT) {
+                Set<Object> numbers = new LinkedHashSet<>();
+                List<Object> names = new ArrayList<>();
+                for (Object value : values) {
+                    if (value instanceof Integer) {
+                        numbers.add(value);
+                    } else {
+                        names.add(value);
+                    }
+                }
+                numbers.addAll(JDBCConnection.getDepartmentCatalog().getNumbers(names));
+                if (numbers.isEmpty()) {
+                    numbers.add(-1);   // 없는 부서명만 선택된 경우 - 결과 없음
+                }
+                values = List.copyOf(numbers);
+            }
+            return new In(in.field(), padded(values));
+        }
+        return criteria;
+    }
+
+    private static List<EmployeeCriteria> resolveAll(List<EmployeeCriteria> terms) throws SQLException {
+        List<EmployeeCriteria> resolved = new ArrayList<>(terms.size());
+        for (EmployeeCriteria term : terms) {
+            resolved.add(resolve(term));
+        }
+        return resolved;
+    }
+
+    // IN 목록을 2의 거듭제곱 길이로 맞춤 (마지막 값 반복) - EmployeeDAO의 캐시 채우기 IN 청크도 사용
+    static <T> List<T> padded(List<T> values) {
+        int size = values.size();
+        if (size > MAX_PADDED_IN || Integer.bitCount(size) == 1) {
+            return values;
+        }
+        List<T> padded = new ArrayList<>(Integer.highestOneBit(size) << 1);
+        padded.addAll(values);
+        padded.addAll(Collections.nCopies((Integer.highestOneBit(size) << 1) - size, values.get(size - 1)));
+        return padded;
+    }
+
+    // 형태와 파라미터를 sql()과 같은 순서로 만듦
+    private static void collect(EmployeeCriteria criteria, StringBuilder shape, List<Object> params,
+                                List<Boolean> fullText) {
+        if (criteria instanceof Text text) {
+            shape.append(text.field());
+            if (text.match() == TextMatch.CONTAINS) {
+                boolean ft = text.field() == Field.NAME
+                        ? TextSearchSupport.useFullTextForName(text.term())
+                        : TextSearchSupport.useFullTextForAddress(text.term());
+                fullText.add(ft);
+                shape.append(ft ? "~ft" : "~");
+                TextSearchSupport.addParams(params, text.term(), ft);
+            } else if (text.field() == Field.NAME && text.term().indexOf(' ') > 0) {
+                shape.append("^_");
+                params.add(text.term().substring(0, text.term().indexOf(' ')));
+                params.add(text.term() + "%");
+            } else {
+                shape.append('^');
+                params.add(text.term() + "%");
+            }
+        } else if (criteria instanceof In in) {
+            shape.append(in.field()).append('=').append(in.values().size());
+            for (Object value : in.values()) {
+                params.add(parameter(value));
+            }
+        } else if (criteria instanceof Range range) {
+            shape.append(range.field()).append('[');
+            if (range.from() != null) {
+                shape.append('f');
+                params.add(parameter(range.from()));
+            }
+            if (range.to() != null) {
+                shape.append('t');
+                params.add(parameter(range.to()));
+            }
+        } else if (criteria instanceof Not not) {
+            shape.append("!(");
+            collect(not.term(), shape, params, fullText);
+            shape.append(')');
+        } else {
+            List<EmployeeCriteria> terms = criteria instanceof And and ? and.terms() : ((Or) criteria).terms();
+            shape.append(criteria instanceof And ? "&(" : "|(");
+            for (EmployeeCriteria term : terms) {
+                collect(term, shape, params, fullText);
+                shape.append(',');
+            }
+            shape.append(')');
+        }
+    }
+
+    // 생년월일은 DATE, 수정 시각은 DB 기준(UTC) TIMESTAMP로 바인딩
+    private static Object parameter(Object value) {
+        if (value instanceof LocalDate date) {
+            return Date.valueOf(date);
+        }
+        if (value instanceof LocalDateTime time) {
+            return EmployeeRowMapper.databaseTimestamp(time);
+        }
+        return value;
+    }
+
+    private static String sql(EmployeeCriteria criteria, Iterator<Boolean> fullText) {
+        if (criteria instanceof Text text) {
+            if (text.match() == TextMatch.CONTAINS) {
+                return text.field() == Field.NAME
+                        ? TextSearchSupport.namePredicate(fullText.next())
+                        : TextSearchSupport.addressPredicate(fullText.next());
+            }
+            if (text.field() == Field.NAME) {
+                // 공백 앞까지가 Fname이므로 (Fname, Lname) 색인으로 범위를 찾고 전체 이름으로 확인
+                return text.term().indexOf(' ') > 0
+                        ? "(e.Fname = ? AND CONCAT(e.Fname, ' ', e.Minit, '. ', e.Lname) LIKE ?)"
+                        : "e.Fname LIKE ?";
+            }
+            return column(text.field()) + " LIKE ?";
+        }
+        if (criteria instanceof In in) {
+            return in.values().size() == 1
+                    ? column(in.field()) + " = ?"
+                    : column(in.field()) + " IN (" + String.join(",", Collections.nCopies(in.values().size(), "?")) + ")";
+        }
+        if (criteria instanceof Range range) {
+            if (range.from() != null && range.to() != null) {
+                return column(range.field()) + " BETWEEN ? AND ?";
+            }
+            return column(range.field()) + (range.from() != null ? " >= ?" : " <= ?");
+        }
+        if (criteria instanceof Not not) {
+            return "NOT (" + sql(not.term(), fullText) + ")";
+        }
+        List<EmployeeCriteria> terms = criteria instanceof And and ? and.terms() : ((Or) criteria).terms();
+        if (terms.isEmpty()) {
+            return "1=1";
+        }
+        List<String> parts = new ArrayList<>(terms.size());
+        for (EmployeeCriteria term : terms) {
+            parts.add(sql(term, fullText));
+        }
+        return "(" + String.join(criteria instanceof And ? " AND " : " OR ", parts) + ")";
+    }
+
+    private static String column(Field field) {
+        return switch (field) {
+            case SSN -> "e.Ssn";
+            case BDATE -> "e.Bdate";
+            case ADDRESS -> "e.Address";
+            case SEX -> "e.Sex";
+            case SALARY -> "e.Salary";
+            case SUPERVISOR -> "e.Super_ssn";
+            case DEPARTMENT -> "e.Dno";
+            case MODIFIED -> "e.modified";
+            case NAME -> "CONCAT(e.Fname, ' ', e.Minit, '. ', e.Lname)";
+        };
+    }
+
+    // === 메모리 행 필터 ===
+
+    // 스냅샷 컬럼에서 바로 거를 수 있는지 - 검색어에 LIKE 와일드카드(%, _)가 있으면 DB에 맡김
+    static boolean canFilterInMemory(EmployeeCriteria criteria) {
+        if (criteria instanceof Text text) {
+            return text.term().indexOf('%') < 0 && text.term().indexOf('_') < 0 && text.term().indexOf('\\') < 0;
+        }
+        if (criteria instanceof Not not) {
+            return canFilterInMemory(not.term());
+        }
+        List<EmployeeCriteria> terms = criteria instanceof And and ? and.terms()
+                : criteria instanceof Or or ? or.terms() : List.of();
+        for (EmployeeCriteria term : terms) {
+            if (!canFilterInMemory(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SQL과 같은 결과를 내는 행 필터 (문자열 비교는 DB 정렬 규칙처럼 대소문자 구분 없음)
+    static IntPredicate rowFilter(EmployeeCriteria criteria, EmployeeColumns data) {
+        RowTest test = test(normalize(criteria), data);
+        return row -> test.test(row) == TRUE;
+    }
+
+    private interface RowTest {
+        int test(int row);
+    }
+
+    private static RowTest test(EmployeeCriteria criteria, EmployeeColumns data) {
+        if (criteria instanceof Text text) {
+            return textTest(text, data);
+        }
+        if (criteria instanceof In in) {
+            return inTest(in, data);
+        }
+        if (criteria instanceof Range range) {
+            return rangeTest(range, data);
+        }
+        if (criteria instanceof Not not) {
+            RowTest term = test(not.term(), data);
+            return row -> {
+                int result = term.test(row);
+                return result == UNKNOWN ? UNKNOWN : TRUE - result;
+            };
+        }
+        boolean and = criteria instanceof And;
+        List<EmployeeCriteria> terms = and ? ((And) criteria).terms() : ((Or) criteria).terms();
+        RowTest[] tests = new RowTest[terms.size()];
+        for (int i = 0; i < tests.length; i++) {
+            tests[i] = test(terms.get(i), data);
+        }
+        // AND는 하나라도 FALSE면 FALSE, OR는 하나라도 TRUE면 TRUE - 아니면 UNKNOWN이 하나라도 있을 때 UNKNOWN
+        int decisive = and ? FALSE : TRUE;
+        return row -> {
+            int result = and ? TRUE : FALSE;
+            for (RowTest test : tests) {
+                int value = test.test(row);
+                if (value == decisive) {
+                    return decisive;
+                }
+                if (value == UNKNOWN) {
+                    result = UNKNOWN;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static RowTest textTest(Text text, EmployeeColumns data) {
+        String term = text.term();
+        boolean prefix = text.match() == TextMatch.PREFIX;
+        return switch (text.field()) {
+            case NAME -> {
+                int space = term.indexOf(' ');
+                if (prefix && space < 0) {
+                    yield row -> {
+                        String firstName = data.getFirstName(row);
+                        return firstName == null ? UNKNOWN : result(startsWithIgnoreCase(firstName, term));
+                    };
+                }
+                String firstToken = space > 0 ? term.substring(0, space) : null;
+                yield row -> {
+                    String firstName = data.getFirstName(row);
+                    String lastName = data.getLastName(row);
+                    char minit = data.getMinit(row);
+                    if (prefix && firstName != null && !firstName.equalsIgnoreCase(firstToken)) {
+                        return FALSE;
+                    }
+                    if (firstName == null || lastName == null || minit == '\0') {
+                        return UNKNOWN;   // CONCAT에 NULL이 있으면 NULL
+                    }
+                    String fullName = firstName + " " + minit + ". " + lastName;
+                    return result(prefix ? startsWithIgnoreCase(fullName, term) : containsIgnoreCase(fullName, term));
+                };
+            }
+            case ADDRESS -> row -> {
+                String address = data.getAddress(row);
+                return address == null ? UNKNOWN
+                        : result(prefix ? startsWithIgnoreCase(address, term) : containsIgnoreCase(address, term));
+            };
+            case SSN -> row -> result(EmployeeColumnStore.decodeSsn(data.getSsn(row)).startsWith(term));
+            case SUPERVISOR -> row -> {
+                String supervisor = EmployeeColumnStore.decodeSsn(data.getSupervisorSsn(row));
+                return supervisor == null ? UNKNOWN : result(supervisor.startsWith(term));
+            };
+            default -> throw new IllegalArgumentException(text.field() + " does not support text match");
+        };
+    }
+
+    private static RowTest inTest(In in, EmployeeColumns data) {
+        Set<Integer> codes = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Object value : in.values()) {
+            switch (in.field()) {
+                case SSN, SUPERVISOR -> codes.add(EmployeeColumnStore.encodeSsn(value.toString()));
+                case BDATE -> codes.add((int) ((LocalDate) value).toEpochDay());
+                case SEX -> codes.add((int) value.toString().charAt(0));
+                case DEPARTMENT -> {
+                    if (value instanceof Integer number) {
+                        codes.add(number);
+                    } else {
+                        names.add(value.toString());
+                    }
+                }
+                default -> throw new IllegalArgumentException(in.field() + " does not support IN");
+            }
+        }
+        return switch (in.field()) {
+            case SSN -> row -> result(codes.contains(data.getSsn(row)));
+            case SUPERVISOR -> row -> {
+                int ssn = data.getSupervisorSsn(row);
+                return ssn == EmployeeColumnStore.NULL_SSN ? UNKNOWN : result(codes.contains(ssn));
+            };
+            case BDATE -> row -> {
+                int epochDay = data.getBirthEpochDay(row);
+                return epochDay == EmployeeColumnStore.NULL_DATE ? UNKNOWN : result(codes.contains(epochDay));
+            };
+            case SEX -> row -> {
+                char sex = data.getSex(row);
+                return sex == '\0' ? UNKNOWN : result(codes.contains((int) Character.toUpperCase(sex)));
+            };
+            default -> row -> result(codes.contains(data.getDepartmentNumber(row))
+                    || (!names.isEmpty() && names.contains(data.getDepartmentName(row))));
+        };
+    }
+
+    private static RowTest rangeTest(Range range, EmployeeColumns data) {
+        long from = range.from() == null ? Long.MIN_VALUE : encode(range.from());
+        long to = range.to() == null ? Long.MAX_VALUE : encode(range.to());
+        return switch (range.field()) {
+            case SALARY -> row -> result(between(data.getSalaryCents(row), from, to));
+            case BDATE -> row -> {
+                int epochDay = data.getBirthEpochDay(row);
+                return epochDay == EmployeeColumnStore.NULL_DATE ? UNKNOWN : result(between(epochDay, from, to));
+            };
+            case MODIFIED -> row -> {
+                long millis = data.getModifiedMillis(row);
+                return millis == EmployeeColumnStore.NULL_TIMESTAMP ? UNKNOWN : result(between(millis, from, to));
+            };
+            default -> throw new IllegalArgumentException(range.field() + " does not support ranges");
+        };
+    }
+
+    // 범위 값을 컬럼 인코딩으로 (급여는 센트, 생년월일은 epoch day, 수정 시각은 화면 기준 epoch millis)
+    private static long encode(Object value) {
+        if (value instanceof BigDecimal salary) {
+            return salary.movePointRight(2).longValueExact();
+        }
+        if (value instanceof LocalDate date) {
+            return date.toEpochDay();
+        }
+        return Timestamp.valueOf((LocalDateTime) value).getTime();
+    }
+
+    private static boolean between(long value, long from, long to) {
+        return value >= from && value <= to;
+    }
+
+    private static int result(boolean matched) {
+        return matched ? TRUE : FALSE;
+    }
+
+    private static boolean startsWithIgnoreCase(String text, String prefix) {
+        return text.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static boolean containsIgnoreCase(String text, String term) {
+        for (int i = 0; i + term.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.dao;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+// 화면 동작 단위(검색, 목록 조회, 삭제, 수정 ...)별 DAO 호출 지표
+// - 호출 수, 오류 수, 처리 행 수, 지연 시간 히스토그램 (p50/p95/p99/최대)
+// - JMX MBean(org.example:type=DaoMetrics,operation=...)과 진단 화면(DiagnosticsView)에서 조회
+// - DB_METRICS_LOG_INTERVAL_MS(기본 5분, 0이면 끔)마다 호출이 있었던 작업을 System.err에 출력
+public final class DaoMetrics {
+
+    public enum Operation {
+        SEARCH("검색"),
+        LOAD("목록 조회"),
+        REFRESH("변경 조회"),
+        GROUP_AGGREGATE("그룹 통계"),
+        ADD("추가"),
+        MODIFY("수정"),
+        DELETE("삭제"),
+        DEPENDENCY_CHECK("삭제 종속성 확인"),
+        LOGIN_LOOKUP("로그인 확인");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // 작업 하나의 현재 값 (지연 시간은 마이크로초)
+    public record Stats(Operation operation, long calls, long errors, long rows,
+                        long meanMicros, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+    }
+
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    private static final long LOG_INTERVAL_MS =
+            Long.parseLong(JDBCConnection.getSetting("DB_METRICS_LOG_INTERVAL_MS", "300000"));
+
+    private static final Map<Operation, Recorder> RECORDERS = new EnumMap<>(Operation.class);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            RECORDERS.put(operation, new Recorder());
+        }
+        registerMBeans();
+        if (LOG_INTERVAL_MS > 0) {
+            ScheduledExecutorService logger = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "dao-metrics-logger");
+                t.setDaemon(true);
+                return t;
+            });
+            logger.scheduleAtFixedRate(DaoMetrics::dump, LOG_INTERVAL_MS, LOG_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private DaoMetrics() {
+    }
+
+    // call을 실행하고 지연 시간/행 수를 기록 - 예외가 나면 오류로 기록하고 그대로 던짐
+    public static <T> T measure(Operation operation, SqlCall<T> call, ToLongFunction<? super T> rows)
+            throws SQLException {
+        Recorder recorder = RECORDERS.get(operation);
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        long rowCount = 0;
+        try {
+            T result = call.call();
+            rowCount = rows.applyAsLong(result);
+            succeeded = true;
+            return result;
+        } finally {
+            recorder.record((System.nanoTime() - start) / 1000, succeeded, rowCount);
+        }
+    }
+
+    public static List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        RECORDERS.forEach((operation, recorder) -> stats.add(recorder.snapshot(operation)));
+        return stats;
+    }
+
+    public static void reset() {
+        RECORDERS.values().forEach(Recorder::reset);
+    }
+
+    private static void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        RECORDERS.forEach((operation, recorder) -> {
+            try {
+                ObjectName name = new ObjectName("org.example:type=DaoMetrics,operation=" + operation.name());
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(recorder, name);
+                }
+            } catch (JMException e) {
+                // JMX를 쓸 수 없어도 진단 화면과 로그는 동작
+                System.err.println("[DaoMetrics] MBean registration failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private static void dump() {
+        for (Stats s : getStats()) {
+            if (s.calls() > 0) {
+                System.err.printf("[DaoMetrics] %-16s calls=%d errors=%d rows=%d mean=%.1fms p50=%.1fms p95=%.1fms"
+                                + " p99=%.1fms max=%.1fms%n",
+                        s.operation(), s.calls(), s.errors(), s.rows(), s.meanMicros() / 1000.0,
+                        s.p50Micros() / 1000.0, s.p95Micros() / 1000.0, s.p99Micros() / 1000.0,
+                        s.maxMicros() / 1000.0);
+            }
+        }
+    }
+
+    private static final class Recorder implements OperationMetricsMXBean {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+
+        void record(long micros, boolean succeeded, long rowCount) {
+            latency.record(micros);
+            if (succeeded) {
+                rows.addAndGet(rowCount);
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        Stats snapshot(Operation operation) {
+            return new Stats(operation, latency.count(), errors.get(), rows.get(), latency.meanMicros(),
+                    latency.percentileMicros(50), latency.percentileMicros(95), latency.percentileMicros(99),
+                    latency.maxMicros());
+        }
+
+        @Override
+        public long getCalls() {
+            return latency.count();
+        }
+
+        @Override
+        public long getErrors() {
+            return errors.get();
+        }
+
+        @Override
+        public long getRows() {
+            return rows.get();
+        }
+
+        @Override
+        public double getMeanMillis() {
+            return latency.meanMicros() / 1000.0;
+        }
+
+        @Override
+        public double getP50Millis() {
+            return latency.percentileMicros(50) / 1000.0;
+        }
+
+        @Override
+        public double getP95Millis() {
+            return latency.percentileMicros(95) / 1000.0;
+        }
+
+        @Override
+        public double getP99Millis() {
+            return latency.percentileMicros(99) / 1000.0;
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return latency.maxMicros() / 1000.0;
+        }
+
+        @Override
+        public void reset() {
+            latency.reset();
+            errors.set(0);
+            rows.set(0);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부서 번호 <-> 부서명 목록 (프로세스 전체에서 공유, JDBCConnection.getDepartmentCatalog())
+// - DEPARTMENT는 거의 바뀌지 않으므로 한 번 읽어 두고 ttlMillis가 지나거나 invalidate() 되면 다시 읽음
+// - 직원 조회 시 DEPARTMENT를 JOIN 하지 않고 여기서 부서명을 채움
+//   조회 전에 (커넥션을 빌리기 전에) snapshot()으로 목록을 잡아 두고 결과셋을 읽는 동안에는 DB를 다시 읽지 않음
+// - 부서명 검색 조건은 e.Dno IN (...)으로 바꿔서 EMPLOYEE의 Dno 색인을 사용
+public class DepartmentCatalog {
+    // 모르는 부서 번호를 만났을 때 다시 읽는 최소 간격 - DEPARTMENT에 없는 Dno가 계속 나와도 매번 읽지 않도록
+    private static final long UNKNOWN_RELOAD_INTERVAL_MS = 30_000;
+
+    // 한 번 읽은 부서 목록 (읽기 전용)
+    final class Snapshot {
+        private final Map<Integer, String> namesByNumber;
+        private final Map<String, Integer> numbersByName;
+        private final List<String> names;
+        private final long loadedAt;
+
+        private Snapshot(Map<Integer, String> namesByNumber) {
+            this.namesByNumber = namesByNumber;
+            this.numbersByName = new HashMap<>();
+            namesByNumber.forEach((number, name) -> numbersByName.put(name, number));
+            List<String> names = new ArrayList<>(numbersByName.keySet());
+            Collections.sort(names);
+            this.names = Collections.unmodifiableList(names);
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        // 부서 번호의 부서명 (없으면 null) - DB를 읽지 않음
+        // 목록에 없는 번호는 읽은 뒤 추가된 부서일 수 있으므로 다음 snapshot()에서 다시 읽게 표시
+        String name(int departmentNumber) {
+            String name = namesByNumber.get(departmentNumber);
+            if (name == null && departmentNumber != 0) {
+                unknownNumber(this);
+            }
+            return name;
+        }
+
+        Map<Integer, String> namesByNumber() {
+            return Collections.unmodifiableMap(namesByNumber);
+        }
+    }
+
+    private final long ttlMillis;
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = false;   // invalidate() 또는 모르는 부서 번호 - 다음 조회 시 다시 읽음
+
+    public DepartmentCatalog(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    // DEPARTMENT 자체를 바꾼 뒤(부서 추가/이름 변경/삭제) 호출
+    // 직원의 Dno 변경은 호출할 필요 없음 - FK로 있는 부서만 참조하고, 목록에 없는 번호는 Snapshot.name()이 다시 읽게 표시
+    public void invalidate() {
+        stale = true;
+    }
+
+    // 콤보박스 등에 표시할 부서명 목록 (이름순)
+    public List<String> getDepartmentNames() throws SQLException {
+        return snapshot().names;
+    }
+
+    // 부서 번호 -> 부서명 전체 (읽기 전용) - 전체 직원 스냅샷처럼 부서명을 따로 들고 있을 때
+    public Map<Integer, String> getNamesByNumber() throws SQLException {
+        return snapshot().namesByNumber();
+    }
+
+    // 부서명들에 해당하는 부서 번호 (없는 이름은 제외)
+    public List<Integer> getNumbers(Collection<?> names) throws SQLException {
+        Snapshot current = snapshot();
+        List<Integer> numbers = new ArrayList<>();
+        for (Object name : names) {
+            Integer number = current.numbersByName.get(String.valueOf(name));
+            if (number != null && !numbers.contains(number)) {
+                numbers.add(number);
+            }
+        }
+        return numbers;
+    }
+
+    // 현재 부서 목록 - 만료됐거나 다시 읽도록 표시됐으면 DB에서 읽음
+    // 커넥션을 빌리기 전에 호출 (결과셋을 연 채로 부르면 풀에서 커넥션을 하나 더 빌리게 됨)
+    Snapshot snapshot() throws SQLException {
+        Snapshot current = snapshot;
+        if (current == null || stale || System.currentTimeMillis() - current.loadedAt > ttlMillis) {
+            current = reload();
+        }
+        return current;
+    }
+
+    private void unknownNumber(Snapshot seen) {
+        if (seen == snapshot && !stale
+                && System.currentTimeMillis() - seen.loadedAt >= UNKNOWN_RELOAD_INTERVAL_MS) {
+            stale = true;
+        }
+    }
+
+    private synchronized Snapshot reload() throws SQLException {
+        Snapshot current = snapshot;
+        if (current != null && !stale && System.currentTimeMillis() - current.loadedAt <= ttlMillis) {
+            return current;   // 다른 스레드가 먼저 읽어 옴
+        }
+        stale = false;
+
+        Map<Integer, String> namesByNumber = new HashMap<>();
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT Dnumber, Dname FROM DEPARTMENT");
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                namesByNumber.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        current = new Snapshot(namesByNumber);
+        snapshot = current;
+        return current;
+    }
+
+    // DB를 읽지 않고 목록을 채움 (benchmarks 모듈처럼 DB 없이 매핑/검색 SQL을 측정할 때)
+    synchronized void preload(Map<Integer, String> namesByNumber) {
+        stale = false;
+        snapshot = new Snapshot(new HashMap<>(namesByNumber));
+    }
+}
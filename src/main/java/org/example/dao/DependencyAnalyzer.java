@@ -0,0 +1,95 @@
+package org.example.dao;
+
+import org.example.dao.DaoMetrics.Operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// 삭제 전 직원들의 외래키 종속성을 한 번에 조회
+// - 직원마다 테이블별 COUNT 쿼리를 날리지 않고, 선택된 SSN 전체를 네 테이블에 대해
+//   GROUP BY 한 UNION ALL 쿼리 하나로 확인
+public class DependencyAnalyzer {
+    // 한 쿼리에 넣을 SSN 수 (쿼리당 파라미터는 이 값의 4배)
+    private static final int CHUNK_SIZE = 500;
+
+    // SSN별 종속성 개수
+    public record DependencyReport(int subordinates,        // EMPLOYEE.Super_ssn
+                                   int managedDepartments,  // DEPARTMENT.Mgr_ssn
+                                   int projects,            // WORKS_ON.Essn
+                                   int dependents) {        // DEPENDENT.Essn
+
+        public static final DependencyReport NONE = new DependencyReport(0, 0, 0, 0);
+
+        public boolean hasSubordinates() {
+            return subordinates > 0;
+        }
+
+        // Supervisor 관계를 제외한 다른 종속성 (부서 관리자, 프로젝트 참여, 부양가족)
+        public boolean hasOtherDependencies() {
+            return managedDepartments > 0 || projects > 0 || dependents > 0;
+        }
+
+        public boolean hasAnyDependencies() {
+            return hasSubordinates() || hasOtherDependencies();
+        }
+    }
+
+    // 입력 순서대로 모든 SSN에 대한 보고서 반환 (종속성이 없으면 NONE)
+    public Map<String, DependencyReport> analyze(List<String> ssns) throws SQLException {
+        return DaoMetrics.measure(Operation.DEPENDENCY_CHECK, () -> countDependencies(ssns), Map::size);
+    }
+
+    private Map<String, DependencyReport> countDependencies(List<String> ssns) throws SQLException {
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(ssns));
+        Map<String, int[]> counts = new LinkedHashMap<>();
+        for (String ssn : targets) {
+            counts.put(ssn, new int[4]);
+        }
+
+        try (Connection conn = JDBCConnection.getConnection()) {
+            for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+                List<String> chunk = targets.subList(from, Math.min(from + CHUNK_SIZE, targets.size()));
+                analyzeChunk(conn, chunk, counts);
+            }
+        }
+
+        Map<String, DependencyReport> reports = new LinkedHashMap<>();
+        counts.forEach((ssn, c) -> reports.put(ssn, c[0] + c[1] + c[2] + c[3] == 0
+                ? DependencyReport.NONE
+                : new DependencyReport(c[0], c[1], c[2], c[3])));
+        return reports;
+    }
+
+    private void analyzeChunk(Connection conn, List<String> chunk, Map<String, int[]> counts) throws SQLException {
+        String in = "(" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+        String sql = "SELECT Super_ssn, 0, COUNT(*) FROM EMPLOYEE WHERE Super_ssn IN " + in + " GROUP BY Super_ssn"
+                + " UNION ALL SELECT Mgr_ssn, 1, COUNT(*) FROM DEPARTMENT WHERE Mgr_ssn IN " + in + " GROUP BY Mgr_ssn"
+                + " UNION ALL SELECT Essn, 2, COUNT(*) FROM WORKS_ON WHERE Essn IN " + in + " GROUP BY Essn"
+                + " UNION ALL SELECT Essn, 3, COUNT(*) FROM DEPENDENT WHERE Essn IN " + in + " GROUP BY Essn";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (int table = 0; table < 4; table++) {
+                for (String ssn : chunk) {
+                    pstmt.setString(index++, ssn);
+                }
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int[] c = counts.get(rs.getString(1));
+                    if (c != null) {
+                        c[rs.getInt(2)] = rs.getInt(3);
+                    }
+                }
+            }
+        }
+    }
+}
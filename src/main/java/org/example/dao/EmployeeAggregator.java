@@ -0,0 +1,542 @@
+package org.example.dao;
+
+import org.example.dao.DaoMetrics.Operation;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeColumns;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+// 그룹별 급여 통계 - COUNT/SUM/AVG/MIN/MAX/STDDEV를 GROUP BY 쿼리 한 번으로 계산
+// - 성별/부서/상급자/출생연도 구간을 원하는 순서로 조합해서 그룹화
+// - WITH ROLLUP으로 상위 그룹 소계와 전체 합계를 함께 계산
+// - 검색 화면의 현재 조건(EmployeeCriteria)을 WHERE 절로 그대로 사용 (EmployeeDAO와 같은 검색 SQL)
+// - 조건 없이 성별/부서/상급자 하나로만 묶으면 요약 테이블(EmployeeSummary)에서 바로 읽음
+//   (요약 테이블에는 MIN/MAX가 없으므로 해당 값은 NaN)
+// - 전체 직원 스냅샷이 메모리에 있으면 DB를 읽지 않고 스냅샷 컬럼에서 바로 계산
+//   (검색 조건도 같은 결과가 나오는 행 필터로 바꿔서 적용, 검색어에 LIKE 와일드카드가 있으면 DB에서 계산)
+public class EmployeeAggregator {
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+    // 메모리 집계에서 NULL 그룹 값 (SQL처럼 가장 앞에 정렬됨)
+    private static final int NULL_KEY = Integer.MIN_VALUE;
+
+    public enum Dimension {
+        SEX("성별"), DEPARTMENT("부서"), SUPERVISOR("상급자"), BIRTH_YEAR("출생연도");
+
+        private final String label;
+
+        Dimension(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public enum Metric {
+        COUNT, SUM, AVG, MIN, MAX, STDDEV
+    }
+
+    // dimensions: 그룹화 순서, sortBy: null이면 그룹 순서, topK: 0이면 전체, birthYearBucket: 출생연도 구간 크기(년)
+    public record Request(List<Dimension> dimensions, boolean rollup, Metric sortBy, int topK,
+                          EmployeeCriteria filter, int birthYearBucket) {
+    }
+
+    // 결과 한 줄 - keys는 dimensions 순서의 그룹 값 (소계 행에서 합쳐진 차원은 null)
+    public record Row(List<String> keys, int rolledUp, long count, double sum, double avg,
+                      double min, double max, double stddev) {
+
+        // ROLLUP으로 만들어진 소계/전체 합계 행
+        public boolean isSubtotal() {
+            return rolledUp > 0;
+        }
+
+        public double get(Metric metric) {
+            return switch (metric) {
+                case COUNT -> count;
+                case SUM -> sum;
+                case AVG -> avg;
+                case MIN -> min;
+                case MAX -> max;
+                case STDDEV -> stddev;
+            };
+        }
+    }
+
+    public List<Row> aggregate(Request request, QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.GROUP_AGGREGATE, () -> aggregateWithFallback(request, handle), List::size);
+    }
+
+    // snapshot: 화면에 표시 중인 전체 직원 스냅샷 (없으면 null) - 없거나 메모리에서 거를 수 없는 조건이면 DB에서 계산
+    public List<Row> aggregate(Request request, EmployeeColumns snapshot, QueryHandle handle) throws SQLException {
+        if (snapshot == null || !CriteriaCompiler.canFilterInMemory(request.filter())) {
+            return aggregate(request, handle);
+        }
+        if (request.dimensions().isEmpty()) {
+            throw new SQLException("At least one group dimension is required");
+        }
+        IntPredicate filter = request.filter().hasConditions()
+                ? CriteriaCompiler.rowFilter(request.filter(), snapshot)
+                : null;
+        return aggregateColumns(snapshot, filter, request, handle);
+    }
+
+    private List<Row> aggregateWithFallback(Request request, QueryHandle handle) throws SQLException {
+        if (request.dimensions().isEmpty()) {
+            throw new SQLException("At least one group dimension is required");
+        }
+        if (canUseSummary(request)) {
+            return fromSummary(request, handle);
+        }
+        try {
+            return runAggregate(request, handle);
+        } catch (SQLException e) {
+            // FULLTEXT 색인이 없어졌으면 LIKE 방식으로 한 번 더 시도
+            if (!TextSearchSupport.disableOnMissingIndex(e)) {
+                throw e;
+            }
+            return runAggregate(request, handle);
+        }
+    }
+
+    private List<Row> runAggregate(Request request, QueryHandle handle) throws SQLException {
+        List<Dimension> dimensions = request.dimensions();
+        List<String> expressions = new ArrayList<>();
+        for (Dimension dimension : dimensions) {
+            expressions.add(expression(dimension, request.birthYearBucket()));
+        }
+        String groupBy = String.join(", ", expressions);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(groupBy);
+        sql.append(", COUNT(*), SUM(e.Salary), AVG(e.Salary), MIN(e.Salary), MAX(e.Salary), STDDEV_POP(e.Salary)");
+        if (request.rollup()) {
+            // 상급자 없음(NULL)과 ROLLUP 소계의 NULL을 구분하기 위해 GROUPING() 사용
+            for (String expression : expressions) {
+                sql.append(", GROUPING(").append(expression).append(")");
+            }
+        }
+        sql.append(" FROM EMPLOYEE e WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        EmployeeDAO.appendSearchConditions(request.filter(), sql, params);
+        sql.append(" GROUP BY ").append(groupBy);
+        if (request.rollup()) {
+            sql.append(" WITH ROLLUP");
+        }
+
+        List<String[]> rawKeys = new ArrayList<>();
+        List<int[]> rolledUpFlags = new ArrayList<>();
+        List<double[]> metrics = new ArrayList<>();
+        int n = dimensions.size();
+        DepartmentCatalog.Snapshot departments = departments(dimensions);
+
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            handle.attach(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String[] keys = new String[n];
+                    for (int i = 0; i < n; i++) {
+                        keys[i] = rs.getString(i + 1);
+                    }
+                    double[] values = new double[6];
+                    for (int i = 0; i < 6; i++) {
+                        values[i] = rs.getDouble(n + 1 + i);
+                    }
+                    int[] grouping = new int[n];
+                    if (request.rollup()) {
+                        for (int i = 0; i < n; i++) {
+                            grouping[i] = rs.getInt(n + 7 + i);
+                        }
+                    }
+                    rawKeys.add(keys);
+                    metrics.add(values);
+                    rolledUpFlags.add(grouping);
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
+            }
+        }
+
+        Map<String, String> supervisorNames = dimensions.contains(Dimension.SUPERVISOR)
+                ? lookupSupervisorNames(rawKeys, dimensions.indexOf(Dimension.SUPERVISOR))
+                : Map.of();
+
+        List<Row> rows = new ArrayList<>(rawKeys.size());
+        for (int r = 0; r < rawKeys.size(); r++) {
+            String[] raw = rawKeys.get(r);
+            int[] grouping = rolledUpFlags.get(r);
+            List<String> keys = new ArrayList<>(n);
+            int rolledUp = 0;
+            for (int i = 0; i < n; i++) {
+                if (grouping[i] == 1) {
+                    keys.add(null);
+                    rolledUp++;
+                } else {
+                    keys.add(label(dimensions.get(i), raw[i], request.birthYearBucket(), supervisorNames, departments));
+                }
+            }
+            double[] v = metrics.get(r);
+            rows.add(new Row(Collections.unmodifiableList(keys), rolledUp,
+                    (long) v[0], v[1], v[2], v[3], v[4], v[5]));
+        }
+        return order(rows, request);
+    }
+
+    // 컬럼을 한 번 훑어 그룹별 합계를 모으고, 그룹 값 순서로 정렬한 뒤 ROLLUP과 같은 순서로 소계를 끼워 넣음
+    // filter: 검색 조건에 맞는 행만 통과 (null이면 전체)
+    private List<Row> aggregateColumns(EmployeeColumns data, IntPredicate filter, Request request,
+                                       QueryHandle handle) throws SQLException {
+        List<Dimension> dimensions = request.dimensions();
+        int n = dimensions.size();
+        int bucket = Math.max(1, request.birthYearBucket());
+
+        Map<GroupKey, Accumulator> groups = new HashMap<>();
+        GroupKey probe = new GroupKey(new int[n]);   // 행마다 재사용 - 새 그룹일 때만 복사해서 저장
+        for (int row = 0; row < data.size(); row++) {
+            if ((row & 0xFFFF) == 0) {
+                handle.checkCancelled();
+            }
+            if (filter != null && !filter.test(row)) {
+                continue;
+            }
+            for (int i = 0; i < n; i++) {
+                probe.codes()[i] = code(data, row, dimensions.get(i), bucket);
+            }
+            Accumulator group = groups.get(probe);
+            if (group == null) {
+                group = new Accumulator();
+                groups.put(new GroupKey(probe.codes().clone()), group);
+            }
+            group.add(data.getSalaryCents(row));
+        }
+
+        List<GroupKey> keys = new ArrayList<>(groups.keySet());
+        keys.sort(GroupKey::compareTo);
+
+        Map<String, String> supervisorNames = dimensions.contains(Dimension.SUPERVISOR)
+                ? supervisorNames(data, keys, dimensions.indexOf(Dimension.SUPERVISOR))
+                : Map.of();
+        DepartmentCatalog.Snapshot departments = departments(dimensions);
+
+        List<Row> rows = new ArrayList<>();
+        // subtotals[level]: 앞쪽 level개 차원이 같은 그룹들의 소계 (level 0은 전체 합계)
+        Accumulator[] subtotals = new Accumulator[n];
+        for (int level = 0; level < n; level++) {
+            subtotals[level] = new Accumulator();
+        }
+        for (int k = 0; k < keys.size(); k++) {
+            GroupKey key = keys.get(k);
+            Accumulator group = groups.get(key);
+            rows.add(group.toRow(labels(dimensions, key.codes(), n, bucket, supervisorNames, departments), 0));
+            if (!request.rollup()) {
+                continue;
+            }
+            for (Accumulator subtotal : subtotals) {
+                subtotal.merge(group);
+            }
+            GroupKey next = k + 1 < keys.size() ? keys.get(k + 1) : null;
+            for (int level = n - 1; level >= 1; level--) {
+                if (next != null && key.samePrefix(next, level)) {
+                    break;
+                }
+                rows.add(subtotals[level].toRow(labels(dimensions, key.codes(), level, bucket, supervisorNames,
+                        departments),
+                        n - level));
+                subtotals[level] = new Accumulator();
+            }
+        }
+        if (request.rollup()) {
+            rows.add(subtotals[0].toRow(labels(dimensions, new int[n], 0, bucket, supervisorNames, departments), n));
+        }
+        return order(rows, request);
+    }
+
+    private static int code(EmployeeColumns data, int row, Dimension dimension, int bucket) {
+        return switch (dimension) {
+            case SEX -> {
+                char sex = data.getSex(row);
+                yield sex == '\0' ? NULL_KEY : sex;
+            }
+            case DEPARTMENT -> {
+                int number = data.getDepartmentNumber(row);
+                yield number == 0 ? NULL_KEY : number;   // 컬럼 데이터는 NULL 부서를 0으로 저장
+            }
+            case SUPERVISOR -> {
+                int ssn = data.getSupervisorSsn(row);
+                yield ssn == EmployeeColumnStore.NULL_SSN ? NULL_KEY : ssn;
+            }
+            case BIRTH_YEAR -> {
+                int epochDay = data.getBirthEpochDay(row);
+                yield epochDay == EmployeeColumnStore.NULL_DATE ? NULL_KEY
+                        : Math.floorDiv(LocalDate.ofEpochDay(epochDay).getYear(), bucket) * bucket;
+            }
+        };
+    }
+
+    // 앞쪽 count개 차원은 그룹 값의 라벨, 나머지(소계로 합쳐진 차원)는 null
+    private static List<String> labels(List<Dimension> dimensions, int[] codes, int count, int bucket,
+                                       Map<String, String> supervisorNames,
+                                       DepartmentCatalog.Snapshot departments) {
+        List<String> keys = new ArrayList<>(dimensions.size());
+        for (int i = 0; i < dimensions.size(); i++) {
+            if (i >= count) {
+                keys.add(null);
+                continue;
+            }
+            Dimension dimension = dimensions.get(i);
+            String raw = codes[i] == NULL_KEY ? null : switch (dimension) {
+                case SEX -> String.valueOf((char) codes[i]);
+                case SUPERVISOR -> EmployeeColumnStore.decodeSsn(codes[i]);
+                default -> Integer.toString(codes[i]);
+            };
+            keys.add(label(dimension, raw, bucket, supervisorNames, departments));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    // 상급자 SSN -> "Fname Lname" (DB 대신 같은 컬럼 데이터에서 찾음)
+    private static Map<String, String> supervisorNames(EmployeeColumns data, List<GroupKey> keys, int index) {
+        Set<Integer> ssns = new HashSet<>();
+        for (GroupKey key : keys) {
+            if (key.codes()[index] != NULL_KEY) {
+                ssns.add(key.codes()[index]);
+            }
+        }
+        Map<String, String> names = new HashMap<>();
+        for (int row = 0; row < data.size() && names.size() < ssns.size(); row++) {
+            if (ssns.contains(data.getSsn(row))) {
+                names.put(EmployeeColumnStore.decodeSsn(data.getSsn(row)),
+                        data.getFirstName(row) + " " + data.getLastName(row));
+            }
+        }
+        return names;
+    }
+
+    // 메모리 집계의 그룹 값 (차원 순서의 코드, 사전순 비교)
+    private record GroupKey(int[] codes) implements Comparable<GroupKey> {
+
+        boolean samePrefix(GroupKey other, int length) {
+            return Arrays.equals(codes, 0, length, other.codes, 0, length);
+        }
+
+        @Override
+        public int compareTo(GroupKey other) {
+            return Arrays.compare(codes, other.codes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GroupKey other && Arrays.equals(codes, other.codes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(codes);
+        }
+    }
+
+    // 그룹 하나의 급여 합계 (급여는 센트 단위로 모아서 SUM이 정확하도록 함)
+    private static final class Accumulator {
+        private long count;
+        private long sumCents;
+        private double sumSquares;
+        private long minCents = Long.MAX_VALUE;
+        private long maxCents = Long.MIN_VALUE;
+
+        void add(long cents) {
+            double salary = cents / 100.0;
+            count++;
+            sumCents += cents;
+            sumSquares += salary * salary;
+            minCents = Math.min(minCents, cents);
+            maxCents = Math.max(maxCents, cents);
+        }
+
+        void merge(Accumulator other) {
+            count += other.count;
+            sumCents += other.sumCents;
+            sumSquares += other.sumSquares;
+            minCents = Math.min(minCents, other.minCents);
+            maxCents = Math.max(maxCents, other.maxCents);
+        }
+
+        Row toRow(List<String> keys, int rolledUp) {
+            double sum = sumCents / 100.0;
+            double avg = count == 0 ? 0 : sum / count;
+            double stddev = count == 0 ? 0 : Math.sqrt(Math.max(0, sumSquares / count - avg * avg));
+            return new Row(keys, rolledUp, count, sum, avg,
+                    count == 0 ? 0 : minCents / 100.0, count == 0 ? 0 : maxCents / 100.0, stddev);
+        }
+    }
+
+    private static boolean canUseSummary(Request request) {
+        return request.dimensions().size() == 1
+                && request.dimensions().get(0) != Dimension.BIRTH_YEAR
+                && !request.filter().hasConditions()
+                && EmployeeSummary.isAvailable();
+    }
+
+    // 요약 테이블의 그룹 값으로 결과 생성 (EMPLOYEE 전체를 GROUP BY 하지 않음)
+    // MIN/MAX는 (컬럼, Salary) 색인으로 그룹마다 양 끝만 읽어서 채움
+    private List<Row> fromSummary(Request request, QueryHandle handle) throws SQLException {
+        Dimension dimension = request.dimensions().get(0);
+        EmployeeSummary.Dimension summaryDimension = switch (dimension) {
+            case SEX -> EmployeeSummary.Dimension.SEX;
+            case DEPARTMENT -> EmployeeSummary.Dimension.DNO;
+            default -> EmployeeSummary.Dimension.SUPER_SSN;
+        };
+        List<EmployeeSummary.Group> groups = EmployeeSummary.read(summaryDimension, handle);
+        Map<String, double[]> minMax = EmployeeSummary.readMinMax(summaryDimension, handle);
+        // Group_key는 문자열이므로 부서 번호는 숫자로 비교 (1, 2, 10 순서 - SQL 경로와 같은 순서)
+        groups.sort(summaryDimension == EmployeeSummary.Dimension.DNO
+                ? Comparator.comparingInt(group -> Integer.parseInt(group.key()))
+                : Comparator.comparing(EmployeeSummary.Group::key));
+
+        List<String[]> rawKeys = new ArrayList<>();
+        for (EmployeeSummary.Group group : groups) {
+            // 요약 테이블은 NULL을 부서 0, 성별/상급자 빈 문자열로 저장 - SQL 경로처럼 null 그룹으로 되돌림
+            rawKeys.add(new String[]{group.key().equals(summaryDimension.getNullKey()) ? null : group.key()});
+        }
+        Map<String, String> supervisorNames = dimension == Dimension.SUPERVISOR
+                ? lookupSupervisorNames(rawKeys, 0)
+                : Map.of();
+        DepartmentCatalog.Snapshot departments = departments(List.of(dimension));
+
+        List<Row> rows = new ArrayList<>();
+        long totalCount = 0;
+        double totalSum = 0;
+        double totalSquares = 0;
+        double totalMin = Double.POSITIVE_INFINITY;
+        double totalMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < groups.size(); i++) {
+            EmployeeSummary.Group group = groups.get(i);
+            String key = label(dimension, rawKeys.get(i)[0], request.birthYearBucket(), supervisorNames,
+                    departments);
+            // 두 조회 사이에 그룹이 생기거나 없어졌으면 해당 그룹의 MIN/MAX는 NaN
+            double[] range = minMax.getOrDefault(group.key(), new double[]{Double.NaN, Double.NaN});
+            rows.add(new Row(Collections.singletonList(key), 0, group.count(), group.salarySum(), group.average(),
+                    range[0], range[1], group.stddev()));
+            totalCount += group.count();
+            totalSum += group.salarySum();
+            totalSquares += group.salarySquareSum();
+            totalMin = Math.min(totalMin, range[0]);
+            totalMax = Math.max(totalMax, range[1]);
+        }
+        if (request.rollup()) {
+            EmployeeSummary.Group total = new EmployeeSummary.Group("", totalCount, totalSum, totalSquares);
+            rows.add(new Row(Collections.singletonList(null), 1, total.count(), total.salarySum(),
+                    total.average(), totalCount == 0 ? 0 : totalMin, totalCount == 0 ? 0 : totalMax,
+                    total.stddev()));
+        }
+        return order(rows, request);
+    }
+
+    // 정렬/상위 K개는 그룹 행에만 적용하고, 소계 행은 그 뒤에 상위 차원 순서대로 붙임
+    static List<Row> order(List<Row> rows, Request request) {
+        if (request.sortBy() == null && request.topK() <= 0) {
+            return rows;   // ROLLUP 결과 순서 (각 그룹 뒤에 소계)
+        }
+        List<Row> groups = new ArrayList<>();
+        List<Row> subtotals = new ArrayList<>();
+        for (Row row : rows) {
+            (row.isSubtotal() ? subtotals : groups).add(row);
+        }
+        if (request.sortBy() != null) {
+            groups.sort(Comparator.comparingDouble((Row row) -> row.get(request.sortBy())).reversed());
+        }
+        if (request.topK() > 0 && groups.size() > request.topK()) {
+            groups = new ArrayList<>(groups.subList(0, request.topK()));
+        }
+        subtotals.sort(Comparator.comparingInt(Row::rolledUp));
+        groups.addAll(subtotals);
+        return groups;
+    }
+
+    private static String expression(Dimension dimension, int birthYearBucket) {
+        return switch (dimension) {
+            case SEX -> "e.Sex";
+            case DEPARTMENT -> "e.Dno";
+            case SUPERVISOR -> "e.Super_ssn";
+            // 구간 크기는 정수로 SQL에 직접 넣음 (SELECT와 GROUP BY 식이 똑같아야 하므로 파라미터 사용 불가)
+            case BIRTH_YEAR -> "FLOOR(YEAR(e.Bdate) / " + Math.max(1, birthYearBucket) + ") * "
+                    + Math.max(1, birthYearBucket);
+        };
+    }
+
+    // 부서 차원이 있을 때만 부서 목록을 한 번 잡아 둠 (행마다 snapshot()을 부르지 않도록)
+    private static DepartmentCatalog.Snapshot departments(List<Dimension> dimensions) throws SQLException {
+        return dimensions.contains(Dimension.DEPARTMENT) ? JDBCConnection.getDepartmentCatalog().snapshot() : null;
+    }
+
+    // departments: departments()로 잡아 둔 부서 목록 (부서 차원이 없으면 null)
+    private static String label(Dimension dimension, String raw, int birthYearBucket,
+                                Map<String, String> supervisorNames, DepartmentCatalog.Snapshot departments) {
+        return switch (dimension) {
+            case SEX -> raw;
+            case DEPARTMENT -> {
+                if (raw == null) {
+                    yield "부서 없음";
+                }
+                String name = departments.name(Integer.parseInt(raw));
+                yield name != null ? name : "Dno " + raw;
+            }
+            case SUPERVISOR -> raw == null ? "No Supervisor" : supervisorNames.getOrDefault(raw, raw);
+            case BIRTH_YEAR -> {
+                if (raw == null) {
+                    yield "미상";
+                }
+                int from = (int) Double.parseDouble(raw);
+                yield birthYearBucket <= 1 ? String.valueOf(from) : from + "-" + (from + birthYearBucket - 1);
+            }
+        };
+    }
+
+    // 상급자 SSN -> "Fname Lname" (그룹 수만큼만 조회)
+    private static Map<String, String> lookupSupervisorNames(List<String[]> rawKeys, int index) throws SQLException {
+        Set<String> ssnSet = new LinkedHashSet<>();
+        for (String[] keys : rawKeys) {
+            if (keys[index] != null) {
+                ssnSet.add(keys[index]);
+            }
+        }
+        List<String> ssns = new ArrayList<>(ssnSet);
+        Map<String, String> names = new HashMap<>();
+        try (Connection conn = JDBCConnection.getConnection()) {
+            for (int from = 0; from < ssns.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<String> chunk = ssns.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ssns.size()));
+                String sql = "SELECT Ssn, Fname, Lname FROM EMPLOYEE WHERE Ssn IN ("
+                        + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            names.put(rs.getString(1), rs.getString(2) + " " + rs.getString(3));
+                        }
+                    }
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.dao;
+
+import org.example.model.Employee;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Ssn -> Employee 읽기 캐시 (LRU, 최대 maxEntries개)
+// - 조회 시 DB에서 읽은 modified 값과 비교해서 같을 때만 캐시된 객체를 사용 (다른 클라이언트의 수정도 반영)
+// - EmployeeDAO의 추가/수정/삭제는 해당 SSN을 바로 무효화
+// - 캐시된 Employee는 여러 화면이 함께 쓰므로 읽기 전용으로 다뤄야 함
+public class EmployeeCache {
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private record Entry(Employee employee, long modifiedMillis) {
+    }
+
+    public record Stats(int size, int maxEntries, long hits, long misses, long stale,
+                        long evictions, long invalidations) {
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long stale = 0;          // 캐시에 있었지만 modified가 달라서 다시 읽은 횟수 (misses에 포함)
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    public EmployeeCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        // accessOrder=true - 조회할 때마다 맨 뒤로 옮겨서 가장 오래 안 쓴 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > EmployeeCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    public int capacity() {
+        return maxEntries;
+    }
+
+    // rows개를 읽는 조회에 두 단계(키만 조회 -> 캐시에 없는 행만 IN으로 다시 조회) 방식이 이득인지
+    // 캐시가 비어 있으면 모든 행을 다시 읽게 되고, 용량보다 많으면 읽는 동안 앞쪽 행이 밀려나므로 한 번에 읽는 편이 빠름
+    public synchronized boolean canServe(int rows) {
+        return maxEntries > 0 && !entries.isEmpty() && rows <= maxEntries;
+    }
+
+    // modified가 일치하는 캐시 항목이 있으면 반환, 없거나 오래된 항목이면 null
+    public synchronized Employee lookup(String ssn, long modifiedMillis) {
+        Entry entry = entries.get(ssn);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.modifiedMillis() != modifiedMillis || modifiedMillis == NO_TIMESTAMP) {
+            // modified가 없는 행은 변경 여부를 알 수 없으므로 항상 다시 읽음
+            entries.remove(ssn);
+            misses++;
+            stale++;
+            return null;
+        }
+        hits++;
+        return entry.employee();
+    }
+
+    public synchronized void put(String ssn, long modifiedMillis, Employee employee) {
+        if (isEnabled()) {
+            entries.put(ssn, new Entry(employee, modifiedMillis));
+        }
+    }
+
+    public synchronized void invalidate(String ssn) {
+        if (entries.remove(ssn) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidate(Collection<String> ssns) {
+        for (String ssn : ssns) {
+            invalidate(ssn);
+        }
+    }
+
+    // 부서명 변경처럼 EMPLOYEE.modified가 바뀌지 않는 변경 후에 사용
+    public synchronized void invalidateAll() {
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), maxEntries, hits, misses, stale, evictions, invalidations);
+    }
+
+    // ResultSet의 modified 값을 캐시 비교용 값으로 변환 (null이면 NO_TIMESTAMP)
+    static long toMillis(java.sql.Timestamp timestamp) {
+        return timestamp == null ? NO_TIMESTAMP : timestamp.getTime();
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.dao;
+
+import org.example.model.Employee;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+
+// 마지막 동기화 이후 바뀐 직원 목록 (증분 새로고침용)
+public record EmployeeChanges(List<Employee> upserts,     // 범위 안에서 추가/수정된 직원
+                              Set<String> liveSsns,       // 범위 안에 현재 존재하는 모든 SSN (없는 행은 삭제된 것)
+                              Timestamp watermark) {      // 다음 동기화에 넘길 기준 시각
+}
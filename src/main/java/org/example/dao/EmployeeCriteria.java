@@ -0,0 +1,196 @@
+package org.example.dao;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// 직원 검색 조건식 - 필드별 조건을 AND/OR/NOT으로 조합
+// - 검색 화면(DBConditionSearch), 그룹 통계(EmployeeAggregator.Request), 벤치마크가 같은 조건식을 사용
+// - EmployeeDAO가 정규화한 뒤 파라미터 SQL로 바꿈 (CriteriaCompiler)
+//   같은 형태의 조건은 값이 달라도 항상 같은 SQL이 되므로 WHERE 절 캐시와 커넥션 풀의 문장 캐시를 그대로 탐
+// - 값은 만들 때 검사해서 필드 타입으로 바꿈 (잘못된 급여/날짜/SSN은 IllegalArgumentException)
+public sealed interface EmployeeCriteria {
+
+    // 조건 없음 (전체 직원)
+    EmployeeCriteria ALL = new And(List.of());
+
+    // 검색할 수 있는 필드 - 선언 순서가 정규화된 조건식의 순서
+    enum Field {
+        NAME, SSN, BDATE, ADDRESS, SEX, SALARY, SUPERVISOR, DEPARTMENT, MODIFIED
+    }
+
+    enum TextMatch {
+        CONTAINS,   // LIKE '%x%' (FULLTEXT 색인이 있으면 MATCH로 후보를 좁힘)
+        PREFIX      // LIKE 'x%' - 색인 앞부분으로 범위를 찾음
+    }
+
+    // NAME은 "Fname M. Lname" 전체 이름 기준
+    record Text(Field field, TextMatch match, String term) implements EmployeeCriteria {
+    }
+
+    // values: 필드 타입으로 바뀐 값 (중복 없음), 하나면 = ?
+    record In(Field field, List<Object> values) implements EmployeeCriteria {
+    }
+
+    // from/to: 양 끝 포함, null이면 그쪽은 제한 없음 (둘 다 null일 수는 없음)
+    record Range(Field field, Comparable<?> from, Comparable<?> to) implements EmployeeCriteria {
+    }
+
+    record And(List<EmployeeCriteria> terms) implements EmployeeCriteria {
+    }
+
+    record Or(List<EmployeeCriteria> terms) implements EmployeeCriteria {
+    }
+
+    // SQL과 같이 값이 NULL인 행은 NOT을 붙여도 걸러짐 (예: 상급자가 없는 직원은 NOT Supervisor = x에도 해당 없음)
+    record Not(EmployeeCriteria term) implements EmployeeCriteria {
+    }
+
+    static EmployeeCriteria all() {
+        return ALL;
+    }
+
+    static EmployeeCriteria and(EmployeeCriteria... terms) {
+        return and(Arrays.asList(terms));
+    }
+
+    static EmployeeCriteria and(List<EmployeeCriteria> terms) {
+        return new And(List.copyOf(terms));
+    }
+
+    static EmployeeCriteria or(EmployeeCriteria... terms) {
+        return or(Arrays.asList(terms));
+    }
+
+    static EmployeeCriteria or(List<EmployeeCriteria> terms) {
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("OR needs at least one term");
+        }
+        return new Or(List.copyOf(terms));
+    }
+
+    static EmployeeCriteria not(EmployeeCriteria term) {
+        return new Not(Objects.requireNonNull(term));
+    }
+
+    // NAME/ADDRESS 부분 일치
+    static EmployeeCriteria contains(Field field, String term) {
+        requireField(field, "contains", Field.NAME, Field.ADDRESS);
+        return new Text(field, TextMatch.CONTAINS, requireText(term));
+    }
+
+    // NAME/ADDRESS/SSN/SUPERVISOR 앞부분 일치
+    static EmployeeCriteria startsWith(Field field, String prefix) {
+        requireField(field, "startsWith", Field.NAME, Field.ADDRESS, Field.SSN, Field.SUPERVISOR);
+        String term = requireText(prefix);
+        if (field == Field.SSN || field == Field.SUPERVISOR) {
+            requireSsn(term);
+        }
+        return new Text(field, TextMatch.PREFIX, term);
+    }
+
+    static EmployeeCriteria equalTo(Field field, Object value) {
+        return in(field, List.of(value));
+    }
+
+    // SSN/SUPERVISOR/BDATE/SEX/DEPARTMENT 중 하나와 같음 (DEPARTMENT는 부서명 또는 부서 번호)
+    static EmployeeCriteria in(Field field, Collection<?> values) {
+        requireField(field, "in", Field.SSN, Field.SUPERVISOR, Field.BDATE, Field.SEX, Field.DEPARTMENT);
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("IN needs at least one value");
+        }
+        Set<Object> converted = new LinkedHashSet<>();
+        for (Object value : values) {
+            converted.add(value(field, value));
+        }
+        return new In(field, List.copyOf(converted));
+    }
+
+    // SALARY/BDATE/MODIFIED 범위 (양 끝 포함, 한쪽은 null 가능)
+    // MODIFIED는 화면에 표시되는 시각(KST) 기준
+    static EmployeeCriteria between(Field field, Object from, Object to) {
+        requireField(field, "between", Field.SALARY, Field.BDATE, Field.MODIFIED);
+        if (from == null && to == null) {
+            throw new IllegalArgumentException("Range needs at least one bound");
+        }
+        return new Range(field,
+                from == null ? null : (Comparable<?>) value(field, from),
+                to == null ? null : (Comparable<?>) value(field, to));
+    }
+
+    static EmployeeCriteria atLeast(Field field, Object from) {
+        return between(field, from, null);
+    }
+
+    static EmployeeCriteria atMost(Field field, Object to) {
+        return between(field, null, to);
+    }
+
+    // 실제로 거르는 조건이 하나라도 있는지
+    default boolean hasConditions() {
+        return !CriteriaCompiler.normalize(this).equals(ALL);
+    }
+
+    private static void requireField(Field field, String operation, Field... allowed) {
+        for (Field candidate : allowed) {
+            if (candidate == field) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException(field + " does not support " + operation);
+    }
+
+    private static String requireText(String term) {
+        if (term == null || term.isEmpty()) {
+            throw new IllegalArgumentException("Search term is empty");
+        }
+        return term;
+    }
+
+    private static String requireSsn(String ssn) {
+        if (!ssn.matches("\\d{1,9}")) {
+            throw new IllegalArgumentException("Invalid SSN: " + ssn);
+        }
+        return ssn;
+    }
+
+    // 필드 타입으로 변환 - SSN은 숫자 문자열, 생년월일은 LocalDate, 급여는 소수 2자리 BigDecimal, 수정 시각은 LocalDateTime
+    private static Object value(Field field, Object value) {
+        Objects.requireNonNull(value, field + " value");
+        try {
+            return switch (field) {
+                case SSN, SUPERVISOR -> requireSsn(value.toString().trim());
+                case SEX -> {
+                    String sex = value.toString().trim().toUpperCase();
+                    if (sex.length() != 1) {
+                        throw new IllegalArgumentException("Invalid sex: " + value);
+                    }
+                    yield sex;
+                }
+                case DEPARTMENT -> value instanceof Integer ? value : value.toString();
+                case BDATE -> value instanceof LocalDate date ? date
+                        : value instanceof Date date ? date.toLocalDate()
+                        : LocalDate.parse(value.toString().trim());
+                case SALARY -> (value instanceof BigDecimal decimal ? decimal
+                        : new BigDecimal(value.toString().trim())).setScale(2, RoundingMode.HALF_UP);
+                case MODIFIED -> value instanceof LocalDateTime time ? time
+                        : value instanceof Timestamp time ? time.toLocalDateTime()
+                        : value instanceof LocalDate date ? date.atStartOfDay()
+                        : LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+                default -> throw new IllegalArgumentException(field + " has no typed value");
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + field.name().toLowerCase() + " format: " + value, e);
+        }
+    }
+}
@@ -1,71 +1,247 @@
 package org.example.dao;
 
 
+import org.example.dao.DaoMetrics.Operation;
 import org.example.model.Employee;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeSnapshot;
 
 import java.sql.*;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class EmployeeDAO {
 
+    // 부서명은 DEPARTMENT를 JOIN 하지 않고 DepartmentCatalog에서 채움
     private static final String SELECT_ALL_EMPLOYEES = """
             SELECT e.Fname, e.Minit, e.Lname, e.Ssn, e.Bdate, e.Address, 
-                   e.Sex, e.Salary, e.Super_ssn, e.Dno, d.Dname, e.modified
+                   e.Sex, e.Salary, e.Super_ssn, e.Dno, e.modified
             FROM EMPLOYEE e
-            LEFT JOIN DEPARTMENT d ON e.Dno = d.Dnumber
-            ORDER BY e.Fname, e.Lname
+            ORDER BY e.Fname, e.Lname, e.Ssn
             """;
 
+    // 스냅샷 확인용 - SELECT_ALL_EMPLOYEES와 같은 순서로 Ssn과 modified만 조회
+    private static final String SELECT_SNAPSHOT_KEYS = """
+            SELECT e.Ssn, e.modified
+            FROM EMPLOYEE e
+            ORDER BY e.Fname, e.Lname, e.Ssn
+            """;
+
+    private static final String SELECT_EMPLOYEES_BASE = """
+            SELECT e.Fname, e.Minit, e.Lname, e.Ssn, e.Bdate, e.Address, 
+                   e.Sex, e.Salary, e.Super_ssn, e.Dno, e.modified
+            FROM EMPLOYEE e 
+            WHERE 1=1
+            """;
+
+    // 직원 캐시 확인용 - 전체 컬럼 대신 Ssn과 modified만 조회 (FROM/WHERE는 SELECT_EMPLOYEES_BASE와 동일)
+    private static final String SELECT_KEYS_BASE = """
+            SELECT e.Ssn, e.modified
+            FROM EMPLOYEE e 
+            WHERE 1=1
+            """;
+
+    // 캐시에 없는 직원을 다시 읽을 때 IN (...) 한 번에 넣을 SSN 수
+    // 2의 거듭제곱 - 마지막 청크도 2의 거듭제곱 길이로 채우므로 청크 크기마다 다른 SQL이 생기지 않음
+    private static final int CACHE_FILL_CHUNK_SIZE = 512;
+
+    // 전체 스냅샷을 읽을 때 한 번에 가져올 행 수
+    private static final int SNAPSHOT_FETCH_SIZE = 10_000;
+
+    // 마지막 전체 목록 조회의 직원 수 (아직 모르면 MAX_VALUE) - 직원 캐시로 감당할 수 있는 크기인지 판단
+    private static volatile int lastFullLoadSize = Integer.MAX_VALUE;
+
+    // 한 번에 화면에 채울 행 수 (키셋 페이지네이션)
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    // 검색 조건 형태 -> WHERE 절 캐시 (같은 형태의 검색은 SQL을 다시 만들지 않음)
+    // 실제 PreparedStatement는 커넥션 풀의 문장 캐시가 SQL 문자열 기준으로 재사용
+    private static final int MAX_SEARCH_SHAPES = 256;
+    private static final Map<String, String> SEARCH_WHERE_BY_SHAPE = new ConcurrentHashMap<>();
+    private static final AtomicLong searchShapeHits = new AtomicLong();
+    private static final AtomicLong searchShapeMisses = new AtomicLong();
+
+    // 일괄 삭제 시 DELETE ... IN (...) 한 번에 넣을 SSN 수
+    public static final int DEFAULT_DELETE_CHUNK_SIZE = 500;
+
+    // INSERT 한 행당 바인딩하는 파라미터 수
+    public static final int INSERT_COLUMN_COUNT = 10;
+
+    // 일괄 수정 시 UPDATE ... IN (...) 한 번에 넣을 SSN 수
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    // 일괄 수정이 허용된 컬럼 (SQL에 컬럼명을 직접 넣으므로 화이트리스트로 제한)
+    private static final Set<String> UPDATABLE_COLUMNS = Set.of("Address", "Sex", "Salary", "Bdate", "Super_ssn", "Dno");
+
+    // 수정 시 요약 테이블(EmployeeSummary)도 함께 바꿔야 하는 컬럼
+    private static final Set<String> SUMMARY_COLUMNS = Set.of("Sex", "Salary", "Super_ssn", "Dno");
+
     public List<Employee> getAllEmployees() throws SQLException {
+        return getAllEmployees(new QueryHandle());
+    }
+
+    // 백그라운드 실행용 - handle로 실행 중인 쿼리를 취소할 수 있음
+    public List<Employee> getAllEmployees(QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.LOAD, () -> readAllEmployees(handle), List::size);
+    }
+
+    private List<Employee> readAllEmployees(QueryHandle handle) throws SQLException {
+        // 부서 목록은 커넥션을 빌리기 전에 잡아 둠 (결과셋을 읽는 중에는 DB를 다시 읽지 않음)
+        DepartmentCatalog.Snapshot departments = JDBCConnection.getDepartmentCatalog().snapshot();
+        // 캐시가 비어 있거나 전체 직원이 캐시 용량보다 많으면 키 조회 없이 한 번에 읽음
+        EmployeeCache cache = JDBCConnection.getEmployeeCache();
+        if (cache.canServe(lastFullLoadSize)) {
+            try (Connection conn = JDBCConnection.getConnection()) {
+                List<CacheKey> keys = scanKeys(conn, SELECT_KEYS_BASE + " ORDER BY e.Fname, e.Lname, e.Ssn",
+                        List.of(), 0, handle);
+                lastFullLoadSize = keys.size();
+                return resolveKeys(conn, cache, keys, departments, handle);
+            }
+        }
+
         List<Employee> employees = new ArrayList<>();
 
         // try-with-resources를 사용하여 자원 자동 해제
         try (Connection conn = JDBCConnection.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(SELECT_ALL_EMPLOYEES)) {
+             Statement stmt = conn.createStatement()) {
 
-            // 결과셋을 순회하며 Employee 객체 생성
-            while (rs.next()) {
-                employees.add(createEmployeeFromResultSet(rs));
+            handle.attach(stmt);
+            try (ResultSet rs = stmt.executeQuery(SELECT_ALL_EMPLOYEES)) {
+                // 결과셋을 순회하며 Employee 객체 생성
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                while (rs.next()) {
+                    Employee employee = mapper.map(rs);
+                    employees.add(employee);
+                    // 용량만큼은 캐시에 넣어 두고 다음 조회부터 두 단계 방식을 씀
+                    if (employees.size() <= cache.capacity()) {
+                        cache.put(employee.getSsn(), mapper.modifiedMillis(rs), employee);
+                    }
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
             }
         }
 
+        lastFullLoadSize = employees.size();
         return employees;
     }
 
-    public boolean isEmployeeSsnExists(String ssn) throws SQLException {
-        String sql = "SELECT 1 FROM EMPLOYEE WHERE Ssn = ?";
+    // 전체 직원을 힙 밖 컬럼 스냅샷으로 읽음 (Employee 객체를 만들지 않음, 직원 캐시도 거치지 않음)
+    // 수백만 명 규모에서 전체 목록을 보거나 메모리에서 그룹 통계를 낼 때 사용
+    public EmployeeSnapshot loadSnapshot(QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.LOAD, () -> readSnapshot(handle), EmployeeSnapshot::size);
+    }
+
+    private EmployeeSnapshot readSnapshot(QueryHandle handle) throws SQLException {
+        DepartmentCatalog.Snapshot departments = JDBCConnection.getDepartmentCatalog().snapshot();
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(departments.namesByNumber());
+
         try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, ssn);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                return rs.next();  // SSN이 존재하면 true 반환
+             Statement stmt = streamingStatement(conn)) {
+            handle.attach(stmt);
+            try (ResultSet rs = stmt.executeQuery(SELECT_ALL_EMPLOYEES)) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                while (rs.next()) {
+                    mapper.appendTo(rs, snapshot);
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
             }
         }
+
+        return snapshot;
     }
 
-    public boolean isAdminSsn(String ssn) throws SQLException {
-        String sql = "SELECT 1 FROM ADMIN WHERE ssn = ?";
+    // 전체 테이블을 읽는 문장 - 결과 전체를 드라이버가 힙에 올리지 않고 행 단위로 받음
+    // MySQL(Connector/J)은 URL에 useCursorFetch=true가 없으면 양수 fetchSize를 무시하므로
+    // 전진 전용/읽기 전용 문장에 Integer.MIN_VALUE를 주는 스트리밍 모드를 사용 (URL 설정과 상관없이 동작)
+    // 스트리밍 중에는 같은 커넥션으로 다른 문장을 실행할 수 없음
+    private static Statement streamingStatement(Connection conn) throws SQLException {
+        Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        boolean mysql = conn.getMetaData().getDriverName().startsWith("MySQL");
+        stmt.setFetchSize(mysql ? Integer.MIN_VALUE : SNAPSHOT_FETCH_SIZE);
+        return stmt;
+    }
+
+    // 스냅샷이 DB와 같은지 확인 - 부서명과, 행마다 Ssn/modified만 같은 순서로 읽어 비교 (다른 행을 만나면 바로 중단)
+    public boolean isSnapshotCurrent(EmployeeSnapshot snapshot, QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.REFRESH, () -> compareSnapshot(snapshot, handle),
+                current -> snapshot.size());
+    }
+
+    private boolean compareSnapshot(EmployeeSnapshot snapshot, QueryHandle handle) throws SQLException {
+        if (!JDBCConnection.getDepartmentCatalog().getNamesByNumber().equals(snapshot.getDepartmentNames())) {
+            return false;
+        }
+
         try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, ssn);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                return rs.next();  // SSN이 존재하면 true 반환
+             Statement stmt = streamingStatement(conn)) {
+            handle.attach(stmt);
+            try (ResultSet rs = stmt.executeQuery(SELECT_SNAPSHOT_KEYS)) {
+                int row = 0;
+                while (rs.next()) {
+                    if (row >= snapshot.size()
+                            || EmployeeColumnStore.encodeSsn(rs.getString(1)) != snapshot.getSsn(row)
+                            || EmployeeRowMapper.displayMillis(rs.getTimestamp(2)) != snapshot.getModifiedMillis(row)) {
+                        // 스트리밍 결과는 닫을 때 남은 행을 모두 읽어 버리므로 서버 쪽 실행을 먼저 중단
+                        stmt.cancel();
+                        return false;
+                    }
+                    row++;
+                    handle.rowFetched();
+                }
+                return row == snapshot.size();
+            } finally {
+                handle.detach();
             }
         }
     }
 
+    public boolean isEmployeeSsnExists(String ssn) throws SQLException {
+        return DaoMetrics.measure(Operation.LOGIN_LOOKUP, () -> {
+            String sql = "SELECT 1 FROM EMPLOYEE WHERE Ssn = ?";
+            try (Connection conn = JDBCConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, ssn);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return rs.next();  // SSN이 존재하면 true 반환
+                }
+            }
+        }, found -> found ? 1 : 0);
+    }
+
+    public boolean isAdminSsn(String ssn) throws SQLException {
+        return DaoMetrics.measure(Operation.LOGIN_LOOKUP, () -> {
+            String sql = "SELECT 1 FROM ADMIN WHERE ssn = ?";
+            try (Connection conn = JDBCConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, ssn);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return rs.next();  // SSN이 존재하면 true 반환
+                }
+            }
+        }, found -> found ? 1 : 0);
+    }
+
     public void addAdminSsn(String ssn) throws SQLException {
-        String sql = "INSERT INTO ADMIN (ssn) VALUES (?)";
-        try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, ssn);
-            pstmt.executeUpdate();
-        }
+        DaoMetrics.measure(Operation.ADD, () -> {
+            String sql = "INSERT INTO ADMIN (ssn) VALUES (?)";
+            try (Connection conn = JDBCConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, ssn);
+                return pstmt.executeUpdate();
+            }
+        }, inserted -> inserted);
     }
 
     public boolean addEmployee(Employee employee) throws SQLException {
+        return DaoMetrics.measure(Operation.ADD, () -> insertEmployee(employee), added -> added ? 1 : 0);
+    }
+
+    private boolean insertEmployee(Employee employee) throws SQLException {
         // PreparedStatement를 사용하여 SQL 인젝션 방지
         String sql = """
             INSERT INTO EMPLOYEE (Fname, Minit, Lname, Ssn, Bdate, Address, 
@@ -73,154 +249,661 @@ public class EmployeeDAO {
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
             """;
 
-        try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        // 직원 추가와 요약 테이블 반영을 하나의 트랜잭션으로 처리
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+                // PreparedStatement 파라미터 설정
+                bindEmployee(pstmt, 1, employee);
+                JDBCConnection.getEmployeeCache().invalidate(employee.getSsn());
+
+                // 실행 결과가 1이면 성공
+                boolean inserted = pstmt.executeUpdate() > 0;
+                if (inserted) {
+                    EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+                    delta.add(EmployeeSummary.Member.of(employee));
+                    delta.apply(conn);
+                }
+                conn.commit();
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // 여러 직원을 multi-row INSERT 한 번으로 추가 (하나의 트랜잭션, 전부 성공하거나 전부 실패)
+    public int addEmployees(List<Employee> employees) throws SQLException {
+        return DaoMetrics.measure(Operation.ADD, () -> insertEmployees(employees), inserted -> inserted);
+    }
 
-            // PreparedStatement 파라미터 설정
-            pstmt.setString(1, employee.getFirstName());
-            pstmt.setString(2, String.valueOf(employee.getMinit()));
-            pstmt.setString(3, employee.getLastName());
-            pstmt.setString(4, employee.getSsn());
-            pstmt.setDate(5, new java.sql.Date(employee.getBirthDate().getTime()));
-            pstmt.setString(6, employee.getAddress());
-            pstmt.setString(7, String.valueOf(employee.getSex()));
-            pstmt.setDouble(8, employee.getSalary());
-            pstmt.setString(9, employee.getSupervisorSsn());
-            pstmt.setInt(10, employee.getDepartmentNumber());
+    private int insertEmployees(List<Employee> employees) throws SQLException {
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO EMPLOYEE (Fname, Minit, Lname, Ssn, Bdate, Address, 
+                                Sex, Salary, Super_ssn, Dno, created, modified)
+            VALUES """);
+        String row = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+        sql.append(String.join(", ", Collections.nCopies(employees.size(), row)));
+
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (Employee employee : employees) {
+                    bindEmployee(pstmt, index, employee);
+                    index += INSERT_COLUMN_COUNT;
+                }
+                int inserted = pstmt.executeUpdate();
+                EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+                for (Employee employee : employees) {
+                    delta.add(EmployeeSummary.Member.of(employee));
+                }
+                delta.apply(conn);
+                conn.commit();
+                for (Employee employee : employees) {
+                    JDBCConnection.getEmployeeCache().invalidate(employee.getSsn());
+                }
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
 
-            // 실행 결과가 1이면 성공
-            return pstmt.executeUpdate() > 0;
+    // INSERT 파라미터 설정 (offset부터 INSERT_COLUMN_COUNT개)
+    private void bindEmployee(PreparedStatement pstmt, int offset, Employee employee) throws SQLException {
+        pstmt.setString(offset, employee.getFirstName());
+        if (employee.getMinit() == '\0') {
+            pstmt.setNull(offset + 1, Types.CHAR);
+        } else {
+            pstmt.setString(offset + 1, String.valueOf(employee.getMinit()));
+        }
+        pstmt.setString(offset + 2, employee.getLastName());
+        pstmt.setString(offset + 3, employee.getSsn());
+        if (employee.getBirthDate() == null) {
+            pstmt.setNull(offset + 4, Types.DATE);
+        } else {
+            pstmt.setDate(offset + 4, new java.sql.Date(employee.getBirthDate().getTime()));
         }
+        pstmt.setString(offset + 5, employee.getAddress());
+        if (employee.getSex() == '\0') {
+            pstmt.setNull(offset + 6, Types.CHAR);   // 요약 테이블은 NULL 성별을 빈 문자열 그룹으로 묶음
+        } else {
+            pstmt.setString(offset + 6, String.valueOf(employee.getSex()));
+        }
+        pstmt.setDouble(offset + 7, employee.getSalary());
+        pstmt.setString(offset + 8, employee.getSupervisorSsn());
+        pstmt.setInt(offset + 9, employee.getDepartmentNumber());
     }
 
     public boolean deleteEmployee(String ssn) throws SQLException {
+        return DaoMetrics.measure(Operation.DELETE, () -> removeEmployee(ssn), deleted -> deleted ? 1 : 0);
+    }
+
+    private boolean removeEmployee(String ssn) throws SQLException {
         String sql = "DELETE FROM EMPLOYEE WHERE Ssn = ?";
 
-        try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // 요약 테이블에서 뺄 값을 읽고 삭제가 끝날 때까지 잠금
+                EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+                for (EmployeeSummary.Member member : lockMembers(conn, List.of(ssn)).values()) {
+                    delta.remove(member);
+                }
 
-            pstmt.setString(1, ssn);
-            return pstmt.executeUpdate() > 0;
+                boolean deleted;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, ssn);
+                    deleted = pstmt.executeUpdate() > 0;
+                }
+                if (deleted) {
+                    delta.apply(conn);
+                }
+                conn.commit();
+                JDBCConnection.getEmployeeCache().invalidate(ssn);
+                return deleted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         }
     }
 
-    private Employee createEmployeeFromResultSet(ResultSet rs) throws SQLException {
-        Employee employee = new Employee();
+    // SSN들의 요약 관련 컬럼을 읽고 트랜잭션이 끝날 때까지 잠금 (SELECT ... FOR UPDATE)
+    private Map<String, EmployeeSummary.Member> lockMembers(Connection conn, List<String> ssns) throws SQLException {
+        Map<String, EmployeeSummary.Member> members = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT Ssn, Dno, Sex, Super_ssn, Salary FROM EMPLOYEE WHERE Ssn IN ("
+                        + String.join(",", Collections.nCopies(ssns.size(), "?")) + ") FOR UPDATE")) {
+            for (int i = 0; i < ssns.size(); i++) {
+                pstmt.setString(i + 1, ssns.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    members.put(rs.getString("Ssn"), EmployeeSummary.Member.of(rs));
+                }
+            }
+        }
+        return members;
+    }
 
-        // ResultSet에서 각 컬럼 값을 가져와 Employee 객체에 설정
-        employee.setFirstName(rs.getString("Fname"));
-        employee.setMinit(rs.getString("Minit").charAt(0));
-        employee.setLastName(rs.getString("Lname"));
-        employee.setSsn(rs.getString("Ssn"));
-        employee.setBirthDate(rs.getDate("Bdate"));
-        employee.setAddress(rs.getString("Address"));
-        employee.setSex(rs.getString("Sex").charAt(0));
-        employee.setSalary(rs.getDouble("Salary"));
-        employee.setSupervisorSsn(rs.getString("Super_ssn"));
-        employee.setDepartmentNumber(rs.getInt("Dno"));
-        employee.setDepartmentName(rs.getString("Dname"));
+    // 선택된 모든 직원의 한 컬럼을 같은 값으로 수정 - 하나의 트랜잭션에서 청크 단위
+    // UPDATE ... WHERE Ssn IN (...)로 실행하고, 중간에 실패하면 전체를 롤백
+    public int updateEmployeesColumn(List<String> ssns, String column, Object value) throws SQLException {
+        return DaoMetrics.measure(Operation.MODIFY, () -> updateColumn(ssns, column, value), updated -> updated);
+    }
 
-        // modified 타임스탬프 처리 수정
-        Timestamp timestamp = rs.getTimestamp("modified");
-        if (timestamp != null) {
-            Calendar cal = Calendar.getInstance();
-            cal.setTime(timestamp);
-            cal.add(Calendar.HOUR, 9);  // UTC to KST (Korea Standard Time)
-            employee.setModified(new Timestamp(cal.getTimeInMillis()));
+    private int updateColumn(List<String> ssns, String column, Object value) throws SQLException {
+        if (!UPDATABLE_COLUMNS.contains(column)) {
+            throw new SQLException("Column cannot be modified: " + column);
+        }
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(ssns));
+        int updatedCount = 0;
+        EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int from = 0; from < targets.size(); from += UPDATE_CHUNK_SIZE) {
+                    List<String> chunk = targets.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, targets.size()));
+                    String sql = "UPDATE EMPLOYEE SET " + column + " = ?, modified = CURRENT_TIMESTAMP WHERE Ssn IN ("
+                            + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+
+                    // 요약 테이블에 영향을 주는 컬럼이면 바뀌기 전 값을 읽어서 그룹을 옮김
+                    if (SUMMARY_COLUMNS.contains(column) && EmployeeSummary.isAvailable()) {
+                        for (EmployeeSummary.Member member : lockMembers(conn, chunk).values()) {
+                            delta.remove(member);
+                            delta.add(member.with(column, value));
+                        }
+                    }
+
+                    try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                        pstmt.setObject(1, value);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            pstmt.setString(i + 2, chunk.get(i));
+                        }
+                        updatedCount += pstmt.executeUpdate();
+                    }
+                }
+                delta.apply(conn);
+                conn.commit();
+                JDBCConnection.getEmployeeCache().invalidate(targets);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         }
 
-        return employee;
+        return updatedCount;
     }
 
-    public List<Employee> searchEmployees(Map<String, List<Object>> criteria) throws SQLException {
-        List<Employee> employees = new ArrayList<>();
-
-        // criteria에서 attributes 가져오기 (타입 안전하게 처리)
-        @SuppressWarnings("unchecked")
-        List<Object> attrObjects = criteria.getOrDefault("attributes", new ArrayList<>());
-        List<String> selectedAttributes = attrObjects.stream()
-                .map(Object::toString)
-                .collect(Collectors.toList());
+    public BulkDeleteResult deleteEmployees(List<String> ssns) throws SQLException {
+        return deleteEmployees(ssns, DEFAULT_DELETE_CHUNK_SIZE);
+    }
 
-        // 모든 컬럼을 항상 조회
-        StringBuilder sql = new StringBuilder("""
-                SELECT e.Fname, e.Minit, e.Lname, e.Ssn, e.Bdate, e.Address, 
-                       e.Sex, e.Salary, e.Super_ssn, e.Dno, d.Dname, e.modified
-                FROM EMPLOYEE e 
-                LEFT JOIN DEPARTMENT d ON e.Dno = d.Dnumber 
-                WHERE 1=1
-                """);
+    // 여러 직원을 하나의 트랜잭션에서 청크 단위 DELETE ... WHERE Ssn IN (...)으로 삭제
+    // - 청크 삭제가 실패하면 해당 청크만 세이브포인트로 되돌린 뒤 한 명씩 삭제해서 실패한 SSN을 찾아냄
+    public BulkDeleteResult deleteEmployees(List<String> ssns, int chunkSize) throws SQLException {
+        return DaoMetrics.measure(Operation.DELETE, () -> removeEmployees(ssns, chunkSize),
+                result -> result.deleted().size());
+    }
 
-        List<Object> params = new ArrayList<>();
+    private BulkDeleteResult removeEmployees(List<String> ssns, int chunkSize) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        List<String> deleted = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+
+        // 중복 SSN 제거 (선택 순서 유지)
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(ssns));
+
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                Map<String, EmployeeSummary.Member> members = new HashMap<>();
+                for (int from = 0; from < targets.size(); from += chunkSize) {
+                    List<String> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+                    deleteChunk(conn, chunk, members, deleted, notFound, failed);
+                }
 
-        // 검색 조건 추가
-        if (criteria.containsKey("Name") && !criteria.get("Name").isEmpty()) {
-            sql.append(" AND (CONCAT(e.Fname, ' ', e.Minit, '. ', e.Lname) LIKE ?)");
-            params.add("%" + criteria.get("Name").get(0) + "%");
+                // 실제로 삭제된 직원만 요약 테이블에서 뺌
+                EmployeeSummary.Delta delta = new EmployeeSummary.Delta();
+                for (String ssn : deleted) {
+                    delta.remove(members.get(ssn));
+                }
+                delta.apply(conn);
+                conn.commit();
+                JDBCConnection.getEmployeeCache().invalidate(deleted);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         }
 
-        if (criteria.containsKey("Ssn") && !criteria.get("Ssn").isEmpty()) {
-            sql.append(" AND e.Ssn = ?");
-            params.add(criteria.get("Ssn").get(0));
+        return new BulkDeleteResult(deleted, notFound, failed);
+    }
+
+    private void deleteChunk(Connection conn, List<String> chunk, Map<String, EmployeeSummary.Member> members,
+                             List<String> deleted, List<String> notFound, Map<String, String> failed)
+            throws SQLException {
+        String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+        // 실제로 존재하는 SSN과 요약 테이블에서 뺄 값 확인 (삭제가 끝날 때까지 잠금)
+        Map<String, EmployeeSummary.Member> locked = lockMembers(conn, chunk);
+        members.putAll(locked);
+        Set<String> existing = locked.keySet();
+
+        Savepoint savepoint = conn.setSavepoint();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "DELETE FROM EMPLOYEE WHERE Ssn IN (" + placeholders + ")")) {
+            for (int i = 0; i < chunk.size(); i++) {
+                pstmt.setString(i + 1, chunk.get(i));
+            }
+            pstmt.executeUpdate();
+            conn.releaseSavepoint(savepoint);
+
+            for (String ssn : chunk) {
+                (existing.contains(ssn) ? deleted : notFound).add(ssn);
+            }
+        } catch (SQLException chunkError) {
+            // 외래키 위반 등으로 청크 전체가 실패한 경우 - 한 명씩 다시 시도
+            conn.rollback(savepoint);
+            deleteOneByOne(conn, chunk, existing, deleted, notFound, failed);
         }
+    }
 
-        if (criteria.containsKey("Bdate") && !criteria.get("Bdate").isEmpty()) {
-            sql.append(" AND e.Bdate = ?");
-            params.add(criteria.get("Bdate").get(0));
+    private void deleteOneByOne(Connection conn, List<String> chunk, Set<String> existing, List<String> deleted,
+                                List<String> notFound, Map<String, String> failed) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM EMPLOYEE WHERE Ssn = ?")) {
+            for (String ssn : chunk) {
+                if (!existing.contains(ssn)) {
+                    notFound.add(ssn);
+                    continue;
+                }
+                Savepoint savepoint = conn.setSavepoint();
+                try {
+                    pstmt.setString(1, ssn);
+                    pstmt.executeUpdate();
+                    conn.releaseSavepoint(savepoint);
+                    deleted.add(ssn);
+                } catch (SQLException e) {
+                    conn.rollback(savepoint);
+                    failed.put(ssn, e.getMessage());
+                }
+            }
         }
+    }
+
+    public List<Employee> searchEmployees(EmployeeCriteria criteria) throws SQLException {
+        return searchEmployees(criteria, new QueryHandle());
+    }
 
-        if (criteria.containsKey("Address") && !criteria.get("Address").isEmpty()) {
-            sql.append(" AND e.Address LIKE ?");
-            params.add("%" + criteria.get("Address").get(0) + "%");
+    public List<Employee> searchEmployees(EmployeeCriteria criteria, QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.SEARCH, () -> searchWithFallback(criteria, handle), List::size);
+    }
+
+    private List<Employee> searchWithFallback(EmployeeCriteria criteria, QueryHandle handle) throws SQLException {
+        try {
+            return runSearch(criteria, handle);
+        } catch (SQLException e) {
+            // FULLTEXT 색인이 없어졌으면 LIKE 방식으로 한 번 더 시도
+            if (!TextSearchSupport.disableOnMissingIndex(e)) {
+                throw e;
+            }
+            return runSearch(criteria, handle);
         }
+    }
+
+    private List<Employee> runSearch(EmployeeCriteria criteria, QueryHandle handle) throws SQLException {
+        List<Employee> employees = new ArrayList<>();
+
+        // 모든 컬럼을 항상 조회
+        StringBuilder sql = new StringBuilder(SELECT_EMPLOYEES_BASE);
+        List<Object> params = new ArrayList<>();
+        appendSearchConditions(criteria, sql, params);
+        DepartmentCatalog.Snapshot departments = JDBCConnection.getDepartmentCatalog().snapshot();
 
-        if (criteria.containsKey("Supervisor") && !criteria.get("Supervisor").isEmpty()) {
-            sql.append(" AND e.Super_ssn = ?");
-            params.add(criteria.get("Supervisor").get(0));
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            // 파라미터 설정
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+
+            handle.attach(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                while (rs.next()) {
+                    Employee employee = mapper.map(rs);
+                    employees.add(employee);
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
+            }
         }
 
-        if (criteria.containsKey("부서") && !criteria.get("부서").isEmpty()) {
-            sql.append(" AND d.Dname IN (");
-            sql.append(String.join(",", Collections.nCopies(criteria.get("부서").size(), "?")));
-            sql.append(")");
-            params.addAll(criteria.get("부서"));
+        return employees;
+    }
+
+    // 전체 직원 목록을 페이지 단위로 조회 (after가 null이면 첫 페이지)
+    public EmployeePage getEmployeePage(EmployeePage.Cursor after, int pageSize, QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.LOAD, () -> {
+            StringBuilder where = new StringBuilder();
+            List<Object> params = new ArrayList<>();
+            return fetchPage(where, params, after, pageSize, handle);
+        }, page -> page.employees().size());
+    }
+
+    // 검색 결과를 페이지 단위로 조회 (after가 null이면 첫 페이지)
+    public EmployeePage searchEmployeesPage(EmployeeCriteria criteria, EmployeePage.Cursor after,
+                                            int pageSize, QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.SEARCH, () -> searchPageWithFallback(criteria, after, pageSize, handle),
+                page -> page.employees().size());
+    }
+
+    private EmployeePage searchPageWithFallback(EmployeeCriteria criteria, EmployeePage.Cursor after,
+                                                int pageSize, QueryHandle handle) throws SQLException {
+        try {
+            return fetchSearchPage(criteria, after, pageSize, handle);
+        } catch (SQLException e) {
+            if (!TextSearchSupport.disableOnMissingIndex(e)) {
+                throw e;
+            }
+            return fetchSearchPage(criteria, after, pageSize, handle);
         }
+    }
 
-        if (criteria.containsKey("성별") && !criteria.get("성별").isEmpty()) {
-            sql.append(" AND e.Sex IN (");
-            sql.append(String.join(",", Collections.nCopies(criteria.get("성별").size(), "?")));
-            sql.append(")");
-            params.addAll(criteria.get("성별"));
+    private EmployeePage fetchSearchPage(EmployeeCriteria criteria, EmployeePage.Cursor after,
+                                         int pageSize, QueryHandle handle) throws SQLException {
+        StringBuilder where = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        appendSearchConditions(criteria, where, params);
+        return fetchPage(where, params, after, pageSize, handle);
+    }
+
+    // OFFSET 대신 마지막 행의 (Fname, Lname, Ssn) 이후부터 읽는 키셋 방식
+    // - 몇 번째 페이지든 인덱스를 타고 바로 시작 위치를 찾으므로 조회 비용이 일정함
+    // - where는 SELECT_EMPLOYEES_BASE의 WHERE 1=1 뒤에 붙는 조건
+    private EmployeePage fetchPage(StringBuilder where, List<Object> params, EmployeePage.Cursor after,
+                                   int pageSize, QueryHandle handle) throws SQLException {
+        if (after != null) {
+            where.append(" AND (e.Fname > ? OR (e.Fname = ? AND (e.Lname > ? OR (e.Lname = ? AND e.Ssn > ?))))");
+            params.add(after.firstName());
+            params.add(after.firstName());
+            params.add(after.lastName());
+            params.add(after.lastName());
+            params.add(after.ssn());
+        }
+        // 다음 페이지 존재 여부 확인을 위해 한 행 더 조회
+        where.append(" ORDER BY e.Fname, e.Lname, e.Ssn LIMIT ?");
+        params.add(pageSize + 1);
+
+        List<Employee> employees = new ArrayList<>(pageSize);
+        boolean hasMore = false;
+        // 부서 목록은 커넥션을 빌리기 전에 잡아 둠 (결과셋을 읽는 중에는 DB를 다시 읽지 않음)
+        DepartmentCatalog.Snapshot departments = JDBCConnection.getDepartmentCatalog().snapshot();
+
+        // 캐시가 비어 있거나 페이지가 캐시 용량보다 크면 키 조회 없이 한 번에 읽음
+        EmployeeCache cache = JDBCConnection.getEmployeeCache();
+        if (cache.canServe(pageSize + 1)) {
+            try (Connection conn = JDBCConnection.getConnection()) {
+                List<CacheKey> keys = scanKeys(conn, SELECT_KEYS_BASE + where, params, pageSize + 1, handle);
+                hasMore = keys.size() > pageSize;
+                employees = resolveKeys(conn, cache, hasMore ? keys.subList(0, pageSize) : keys, departments, handle);
+            }
+            EmployeePage.Cursor next = hasMore && !employees.isEmpty()
+                    ? EmployeePage.Cursor.after(employees.get(employees.size() - 1)) : null;
+            return new EmployeePage(employees, next);
         }
 
-        if (criteria.containsKey("Salary") && !criteria.get("Salary").isEmpty()) {  // "급여" -> "Salary"로 변경
-            for (Object salary : criteria.get("Salary")) {
-                sql.append(" AND e.Salary >= ?");
-                try {
-                    params.add(Double.parseDouble(salary.toString()));
-                } catch (NumberFormatException e) {
-                    throw new SQLException("Invalid salary format: " + salary);
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_EMPLOYEES_BASE + where)) {
+
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            // 페이지 크기만큼씩 가져오도록 힌트 (MySQL은 useCursorFetch=true일 때 적용)
+            pstmt.setFetchSize(pageSize);
+
+            handle.attach(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                boolean fillCache = pageSize <= cache.capacity();
+                while (rs.next()) {
+                    if (employees.size() == pageSize) {
+                        hasMore = true;
+                        break;
+                    }
+                    Employee employee = mapper.map(rs);
+                    employees.add(employee);
+                    if (fillCache) {
+                        cache.put(employee.getSsn(), mapper.modifiedMillis(rs), employee);
+                    }
+                    handle.rowFetched();
                 }
+            } finally {
+                handle.detach();
             }
         }
 
+        EmployeePage.Cursor next = hasMore ? EmployeePage.Cursor.after(employees.get(employees.size() - 1)) : null;
+        return new EmployeePage(employees, next);
+    }
+
+    // 증분 새로고침의 기준 시각 - 이 값 이후(같은 시각 포함)에 수정된 행만 다시 읽으면 됨
+    // 페이지를 읽기 전에 먼저 조회해야 그 사이의 변경을 놓치지 않음
+    public Timestamp getModifiedWatermark() throws SQLException {
         try (Connection conn = JDBCConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+             PreparedStatement pstmt = conn.prepareStatement("SELECT MAX(modified) FROM EMPLOYEE");
+             ResultSet rs = pstmt.executeQuery()) {
+            Timestamp watermark = rs.next() ? rs.getTimestamp(1) : null;
+            return watermark != null ? watermark : new Timestamp(0);
+        }
+    }
 
-            // 파라미터 설정
+    // since 이후 바뀐 직원과, 화면에 읽어 둔 범위(loadedUpTo 이하, null이면 전체)의 SSN 목록 조회
+    // - 삭제는 SSN 목록에 없는 행으로 판단 (Ssn만 읽으므로 전체 행을 다시 읽는 것보다 훨씬 가벼움)
+    // - 수정으로 정렬 위치가 범위 밖으로 나간 행도 SSN 목록에서 빠지므로 화면에서 제거되고 이후 페이지에서 다시 읽힘
+    // - 같은 초에 수정된 행을 놓치지 않도록 modified >= since로 조회 (같은 행을 다시 반영해도 결과는 동일)
+    public EmployeeChanges getChangesSince(Timestamp since, EmployeePage.Cursor loadedUpTo,
+                                           QueryHandle handle) throws SQLException {
+        return DaoMetrics.measure(Operation.REFRESH, () -> readChangesSince(since, loadedUpTo, handle),
+                changes -> changes.upserts().size());
+    }
+
+    private EmployeeChanges readChangesSince(Timestamp since, EmployeePage.Cursor loadedUpTo,
+                                             QueryHandle handle) throws SQLException {
+        StringBuilder range = new StringBuilder();
+        List<Object> rangeParams = new ArrayList<>();
+        if (loadedUpTo != null) {
+            range.append(" AND (e.Fname < ? OR (e.Fname = ? AND (e.Lname < ? OR (e.Lname = ? AND e.Ssn <= ?))))");
+            rangeParams.add(loadedUpTo.firstName());
+            rangeParams.add(loadedUpTo.firstName());
+            rangeParams.add(loadedUpTo.lastName());
+            rangeParams.add(loadedUpTo.lastName());
+            rangeParams.add(loadedUpTo.ssn());
+        }
+
+        Timestamp watermark = getModifiedWatermark();
+        DepartmentCatalog.Snapshot departments = JDBCConnection.getDepartmentCatalog().snapshot();
+        List<Employee> upserts = new ArrayList<>();
+        Set<String> liveSsns = new HashSet<>();
+
+        try (Connection conn = JDBCConnection.getConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    SELECT_EMPLOYEES_BASE + " AND e.modified >= ?" + range)) {
+                pstmt.setTimestamp(1, since);
+                for (int i = 0; i < rangeParams.size(); i++) {
+                    pstmt.setObject(i + 2, rangeParams.get(i));
+                }
+                handle.attach(pstmt);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                    while (rs.next()) {
+                        upserts.add(mapper.map(rs));
+                        handle.rowFetched();
+                    }
+                } finally {
+                    handle.detach();
+                }
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT e.Ssn FROM EMPLOYEE e WHERE 1=1" + range)) {
+                for (int i = 0; i < rangeParams.size(); i++) {
+                    pstmt.setObject(i + 1, rangeParams.get(i));
+                }
+                handle.attach(pstmt);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        liveSsns.add(rs.getString(1));
+                        handle.checkCancelled();
+                    }
+                } finally {
+                    handle.detach();
+                }
+            }
+        }
+
+        return new EmployeeChanges(upserts, liveSsns, watermark);
+    }
+
+    // 캐시 확인용 키 (Ssn, modified)
+    private record CacheKey(String ssn, long modifiedMillis) {
+    }
+
+    // 1단계: 조건에 맞는 직원의 Ssn과 modified만 순서대로 조회
+    private List<CacheKey> scanKeys(Connection conn, String sql, List<Object> params, int fetchSize,
+                                    QueryHandle handle) throws SQLException {
+        List<CacheKey> keys = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             for (int i = 0; i < params.size(); i++) {
                 pstmt.setObject(i + 1, params.get(i));
             }
+            if (fetchSize > 0) {
+                pstmt.setFetchSize(fetchSize);
+            }
 
+            handle.attach(pstmt);
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
-                    // createEmployeeFromResultSet 사용하여 모든 필드 설정
-                    Employee employee = createEmployeeFromResultSet(rs);
-                    employees.add(employee);
+                    keys.add(new CacheKey(rs.getString(1), EmployeeCache.toMillis(rs.getTimestamp(2))));
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
+            }
+        }
+        return keys;
+    }
+
+    // 2단계: modified가 같은 직원은 캐시에서 가져오고, 나머지만 전체 컬럼을 조회해서 캐시에 넣음
+    // - 두 단계 사이에 삭제된 직원은 결과에서 빠짐
+    private List<Employee> resolveKeys(Connection conn, EmployeeCache cache, List<CacheKey> keys,
+                                       DepartmentCatalog.Snapshot departments,
+                                       QueryHandle handle) throws SQLException {
+        Map<String, Employee> found = new HashMap<>(keys.size() * 2);
+        List<String> missing = new ArrayList<>();
+        for (CacheKey key : keys) {
+            Employee cached = cache.lookup(key.ssn(), key.modifiedMillis());
+            if (cached != null) {
+                found.put(key.ssn(), cached);
+            } else {
+                missing.add(key.ssn());
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += CACHE_FILL_CHUNK_SIZE) {
+            List<String> chunk = CriteriaCompiler.padded(
+                    missing.subList(from, Math.min(from + CACHE_FILL_CHUNK_SIZE, missing.size())));
+            String sql = SELECT_EMPLOYEES_BASE + " AND e.Ssn IN ("
+                    + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    pstmt.setString(i + 1, chunk.get(i));
+                }
+                handle.attach(pstmt);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    EmployeeRowMapper mapper = EmployeeRowMapper.of(rs, departments);
+                    while (rs.next()) {
+                        Employee employee = mapper.map(rs);
+                        cache.put(employee.getSsn(), mapper.modifiedMillis(rs), employee);
+                        found.put(employee.getSsn(), employee);
+                        handle.checkCancelled();
+                    }
+                } finally {
+                    handle.detach();
                 }
             }
         }
 
+        List<Employee> employees = new ArrayList<>(keys.size());
+        for (CacheKey key : keys) {
+            Employee employee = found.get(key.ssn());
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
         return employees;
     }
-}
\ No newline at end of file
+
+    public static EmployeeCache.Stats getEmployeeCacheStats() {
+        return JDBCConnection.getEmployeeCache().getStats();
+    }
+
+    // 검색 조건을 WHERE 1=1 뒤에 붙이고 파라미터를 채움 (EmployeeAggregator도 같은 조건을 사용)
+    // 정규화한 조건식의 형태(shape)가 같으면 값이 달라도 같은 SQL이므로 형태별로 WHERE 절을 캐시
+    static void appendSearchConditions(EmployeeCriteria criteria, StringBuilder sql,
+                                       List<Object> params) throws SQLException {
+        CriteriaCompiler.Plan plan = CriteriaCompiler.plan(criteria, params);
+        if (plan == null) {
+            return;
+        }
+        String where = SEARCH_WHERE_BY_SHAPE.get(plan.shape());
+        if (where == null) {
+            searchShapeMisses.incrementAndGet();
+            where = plan.toSql();
+            if (SEARCH_WHERE_BY_SHAPE.size() < MAX_SEARCH_SHAPES) {
+                SEARCH_WHERE_BY_SHAPE.putIfAbsent(plan.shape(), where);
+            }
+        } else {
+            searchShapeHits.incrementAndGet();
+        }
+        sql.append(where);
+    }
+
+    public static long getSearchShapeHits() {
+        return searchShapeHits.get();
+    }
+
+    public static long getSearchShapeMisses() {
+        return searchShapeMisses.get();
+    }
+
+    public static double getSearchShapeHitRatio() {
+        long lookups = searchShapeHits.get() + searchShapeMisses.get();
+        return lookups == 0 ? 0 : (double) searchShapeHits.get() / lookups;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.dao;
+
+import org.example.model.Employee;
+
+import java.sql.SQLException;
+import java.util.List;
+
+// 키셋 페이지네이션 결과 한 페이지 - next가 null이면 마지막 페이지
+public record EmployeePage(List<Employee> employees, Cursor next) {
+
+    public boolean hasMore() {
+        return next != null;
+    }
+
+    // ORDER BY e.Fname, e.Lname, e.Ssn 기준으로 마지막으로 읽은 행의 위치
+    public record Cursor(String firstName, String lastName, String ssn) {
+        public static Cursor after(Employee employee) {
+            return new Cursor(employee.getFirstName(), employee.getLastName(), employee.getSsn());
+        }
+    }
+
+    // 커서 이후의 다음 페이지를 조회하는 함수
+    @FunctionalInterface
+    public interface Loader {
+        EmployeePage load(Cursor after, QueryHandle handle) throws SQLException;
+    }
+}
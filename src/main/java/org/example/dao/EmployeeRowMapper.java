@@ -0,0 +1,168 @@
+package org.example.dao;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeSnapshot;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 결과셋 행 -> Employee 변환기 - 결과셋마다 한 번 만들어서 모든 행에 재사용
+// - 컬럼 번호를 처음에 한 번만 찾아 두고 행마다 이름으로 찾지 않음
+// - 결과셋에 없는 컬럼은 건너뜀 (일부 컬럼만 조회하는 쿼리에도 사용 가능)
+// - Minit/Sex가 NULL이거나 빈 문자열이면 '\0' (EmployeeImporter와 같은 규칙)
+// - Ssn/Super_ssn은 EmployeeColumnStore에 담을 수 있는 값(숫자 1~9자리)인지 읽을 때 확인
+//   (화면 목록에 넣을 때 EDT에서 실패하지 않고 어떤 값이 문제인지 SQLException으로 알림)
+// - 이름/성/상급자 SSN은 종류가 적으므로 같은 결과셋 안에서는 같은 String 객체를 공유
+//   (전체 목록처럼 많은 Employee를 오래 들고 있을 때 행마다 따로 생긴 문자열이 힙을 차지하지 않도록)
+final class EmployeeRowMapper {
+    // DB의 modified는 UTC로 저장되어 있으므로 화면 표시용으로 9시간(KST)을 더함
+    private static final long KST_OFFSET_MILLIS = TimeUnit.HOURS.toMillis(9);
+    // 공유할 문자열 수 상한 - 거의 모두 다른 값이면 더 모으지 않음
+    private static final int MAX_SHARED_STRINGS = 4096;
+
+    private final DepartmentCatalog.Snapshot departments;   // 조회 전에 잡아 둔 부서 목록 - 행마다 DB를 읽지 않음
+    // 컬럼 번호 (0이면 결과셋에 없는 컬럼)
+    private final int firstName;
+    private final int minit;
+    private final int lastName;
+    private final int ssn;
+    private final int birthDate;
+    private final int address;
+    private final int sex;
+    private final int salary;
+    private final int supervisorSsn;
+    private final int departmentNumber;
+    private final int modified;
+
+    private final Map<String, String> sharedStrings = new HashMap<>();
+
+    private EmployeeRowMapper(Map<String, Integer> columns, DepartmentCatalog.Snapshot departments) {
+        this.departments = departments;
+        this.firstName = columns.getOrDefault("fname", 0);
+        this.minit = columns.getOrDefault("minit", 0);
+        this.lastName = columns.getOrDefault("lname", 0);
+        this.ssn = columns.getOrDefault("ssn", 0);
+        this.birthDate = columns.getOrDefault("bdate", 0);
+        this.address = columns.getOrDefault("address", 0);
+        this.sex = columns.getOrDefault("sex", 0);
+        this.salary = columns.getOrDefault("salary", 0);
+        this.supervisorSsn = columns.getOrDefault("super_ssn", 0);
+        this.departmentNumber = columns.getOrDefault("dno", 0);
+        this.modified = columns.getOrDefault("modified", 0);
+    }
+
+    // departments: 커넥션을 빌리기 전에 DepartmentCatalog.snapshot()으로 잡아 둔 부서 목록
+    static EmployeeRowMapper of(ResultSet rs, DepartmentCatalog.Snapshot departments) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = meta.getColumnCount(); i >= 1; i--) {
+            columns.put(meta.getColumnLabel(i).toLowerCase(), i);   // 같은 이름이 여럿이면 앞쪽 컬럼
+        }
+        return new EmployeeRowMapper(columns, departments);
+    }
+
+    Employee map(ResultSet rs) throws SQLException {
+        Employee employee = new Employee();
+        if (firstName > 0) {
+            employee.setFirstName(shared(rs.getString(firstName)));
+        }
+        if (minit > 0) {
+            employee.setMinit(firstChar(rs.getString(minit)));
+        }
+        if (lastName > 0) {
+            employee.setLastName(shared(rs.getString(lastName)));
+        }
+        if (ssn > 0) {
+            employee.setSsn(rs.getString(ssn));
+        }
+        if (birthDate > 0) {
+            employee.setBirthDate(rs.getDate(birthDate));
+        }
+        if (address > 0) {
+            employee.setAddress(rs.getString(address));
+        }
+        if (sex > 0) {
+            employee.setSex(firstChar(rs.getString(sex)));
+        }
+        if (salary > 0) {
+            employee.setSalary(rs.getDouble(salary));
+        }
+        if (supervisorSsn > 0) {
+            employee.setSupervisorSsn(shared(rs.getString(supervisorSsn)));
+        }
+        if (departmentNumber > 0) {
+            int dno = rs.getInt(departmentNumber);
+            employee.setDepartmentNumber(dno);
+            employee.setDepartmentName(departments.name(dno));
+        }
+        if (modified > 0) {
+            // 드라이버가 행마다 새로 만들어 주는 Timestamp의 시각만 옮김 (Calendar를 만들지 않음)
+            Timestamp timestamp = rs.getTimestamp(modified);
+            if (timestamp != null) {
+                timestamp.setTime(timestamp.getTime() + KST_OFFSET_MILLIS);
+                employee.setModified(timestamp);
+            }
+        }
+        return employee;
+    }
+
+    // 현재 행을 Employee 객체 없이 스냅샷 컬럼에 바로 추가 (값의 인코딩은 EmployeeColumnStore와 같음)
+    // 부서명은 스냅샷이 부서 번호로 찾으므로 여기서는 읽지 않음
+    void appendTo(ResultSet rs, EmployeeSnapshot snapshot) throws SQLException {
+        java.sql.Date bdate = birthDate > 0 ? rs.getDate(birthDate) : null;
+        Timestamp timestamp = modified > 0 ? rs.getTimestamp(modified) : null;
+        snapshot.append(
+                firstName > 0 ? rs.getString(firstName) : null,
+                minit > 0 ? firstChar(rs.getString(minit)) : '\0',
+                lastName > 0 ? rs.getString(lastName) : null,
+                ssn > 0 ? EmployeeColumnStore.encodeSsn(rs.getString(ssn)) : EmployeeColumnStore.NULL_SSN,
+                bdate != null ? (int) bdate.toLocalDate().toEpochDay() : EmployeeColumnStore.NULL_DATE,
+                address > 0 ? rs.getString(address) : null,
+                sex > 0 ? firstChar(rs.getString(sex)) : '\0',
+                salary > 0 ? Math.round(rs.getDouble(salary) * 100) : 0,
+                supervisorSsn > 0 ? EmployeeColumnStore.encodeSsn(rs.getString(supervisorSsn))
+                        : EmployeeColumnStore.NULL_SSN,
+                departmentNumber > 0 ? rs.getInt(departmentNumber) : 0,
+                displayMillis(timestamp));
+    }
+
+    // 스냅샷에 저장하는 modified (화면 표시 기준 KST, NULL이면 EmployeeColumnStore.NULL_TIMESTAMP)
+    static long displayMillis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() + KST_OFFSET_MILLIS : EmployeeColumnStore.NULL_TIMESTAMP;
+    }
+
+    // 화면 표시 기준(KST) 시각 -> DB에 저장된 기준(UTC)의 Timestamp (검색 조건의 수정 시각 범위에 사용)
+    static Timestamp databaseTimestamp(LocalDateTime displayed) {
+        return new Timestamp(Timestamp.valueOf(displayed).getTime() - KST_OFFSET_MILLIS);
+    }
+
+    // 직원 캐시의 버전 비교용 - DB에 저장된 그대로(UTC)의 modified
+    long modifiedMillis(ResultSet rs) throws SQLException {
+        return EmployeeCache.toMillis(modified > 0 ? rs.getTimestamp(modified) : null);
+    }
+
+    private String shared(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = sharedStrings.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (sharedStrings.size() < MAX_SHARED_STRINGS) {
+            sharedStrings.put(value, value);
+        }
+        return value;
+    }
+
+    private static char firstChar(String value) {
+        return value == null || value.isEmpty() ? '\0' : value.charAt(0);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.dao;
+
+import org.example.model.EmployeeSnapshot;
+import org.example.model.EmployeeSnapshotFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+
+// 전체 직원 스냅샷을 로컬 파일에 저장해 두고 다음 실행 때 DB보다 먼저 표시 (JDBCConnection.getSnapshotCache())
+// - open(): 파일을 매핑해서 바로 반환 (DB를 읽지 않음) - 없거나 손상/버전이 다르면 null (못 쓰는 파일은 지움)
+// - revalidate(): 매핑한 스냅샷을 DB의 Ssn/modified와 비교해서 같으면 그대로, 다르면 DB에서 다시 읽고 파일 교체
+// - load(): DB에서 읽고 파일에 저장 (저장에 실패해도 읽은 스냅샷은 그대로 반환)
+// - 파일은 세대별로 "<file>.<세대>"에 쓰고, file에는 현재 세대 파일 이름만 적어 둠
+//   화면에 매핑된 세대 파일을 덮어쓰지 않으므로 Windows에서도 교체가 실패하지 않음 (지난 세대는 지울 수 있을 때 지움)
+public class EmployeeSnapshotCache {
+    private static final int MAX_POINTER_BYTES = 1024;
+
+    private final Path file;
+    private final String source;
+    private final EmployeeDAO employeeDAO = new EmployeeDAO();
+
+    public EmployeeSnapshotCache(Path file, String source) {
+        this.file = file;
+        this.source = source;
+    }
+
+    public EmployeeSnapshot open() {
+        Path generation = currentGeneration();
+        if (generation == null || !Files.exists(generation)) {
+            return null;
+        }
+        try {
+            EmployeeSnapshot snapshot = EmployeeSnapshotFile.read(generation, source);
+            if (snapshot == null) {
+                System.err.println("다른 DB에서 저장한 스냅샷 파일, 사용하지 않음: " + generation);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            // 손상되었거나 형식이 바뀐 파일 - 지우고 다음 load()에서 다시 만듦
+            System.err.println("스냅샷 파일을 읽을 수 없어 삭제: " + generation);
+            e.printStackTrace();
+            try {
+                Files.deleteIfExists(generation);
+                Files.deleteIfExists(file);
+            } catch (IOException deleteFailure) {
+                deleteFailure.printStackTrace();
+            }
+            return null;
+        }
+    }
+
+    public EmployeeSnapshot revalidate(EmployeeSnapshot snapshot, QueryHandle handle) throws SQLException {
+        if (employeeDAO.isSnapshotCurrent(snapshot, handle)) {
+            return snapshot;
+        }
+        return load(handle);
+    }
+
+    public EmployeeSnapshot load(QueryHandle handle) throws SQLException {
+        EmployeeSnapshot snapshot = employeeDAO.loadSnapshot(handle);
+        try {
+            Path generation = nextGeneration(snapshot.getLoadedAt());
+            EmployeeSnapshotFile.write(snapshot, generation, source);
+            Path previous = currentGeneration();
+            pointTo(generation);
+            deleteOldGenerations(generation, previous);
+        } catch (IOException e) {
+            System.err.println("스냅샷 파일 저장 실패: " + file);
+            e.printStackTrace();
+        }
+        return snapshot;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // file에 적힌 현재 세대 파일 (없거나 읽을 수 없으면 null)
+    private Path currentGeneration() {
+        try {
+            // 세대 파일 이름만 들어 있어야 함 (이전 형식처럼 스냅샷 본문이 들어 있으면 무시하고 다음 load()에서 교체)
+            if (!Files.isRegularFile(file) || Files.size(file) > MAX_POINTER_BYTES) {
+                return null;
+            }
+            String name = Files.readString(file, StandardCharsets.UTF_8).trim();
+            return isGeneration(name) ? file.resolveSibling(name) : null;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private Path nextGeneration(long loadedAt) {
+        Path generation = file.resolveSibling(file.getFileName() + "." + loadedAt);
+        for (long next = loadedAt + 1; Files.exists(generation); next++) {
+            generation = file.resolveSibling(file.getFileName() + "." + next);
+        }
+        return generation;
+    }
+
+    private boolean isGeneration(String name) {
+        String prefix = file.getFileName() + ".";
+        return name.startsWith(prefix) && name.length() > prefix.length()
+                && name.substring(prefix.length()).chars().allMatch(Character::isDigit);
+    }
+
+    // 포인터 파일은 작고 매핑하지 않으므로 임시 파일을 쓴 뒤 바로 교체
+    private void pointTo(Path generation) throws IOException {
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, generation.getFileName().toString(), StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 현재/직전 세대를 뺀 나머지 세대 파일 정리 - 직전 세대는 아직 화면에 매핑돼 있을 수 있으므로 다음 저장 때 지움
+    // 지우지 못한 파일(다른 실행이 매핑 중 등)은 그대로 두고 다음에 다시 시도
+    private void deleteOldGenerations(Path current, Path previous) {
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(file.toAbsolutePath().getParent(),
+                file.getFileName() + ".*")) {
+            for (Path sibling : siblings) {
+                String name = sibling.getFileName().toString();
+                if (!isGeneration(name) || name.equals(current.getFileName().toString())
+                        || (previous != null && name.equals(previous.getFileName().toString()))) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(sibling);
+                } catch (IOException e) {
+                    // 아직 매핑 중인 파일 - 다음 저장 때 다시 시도
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
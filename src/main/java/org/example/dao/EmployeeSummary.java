@@ -0,0 +1,291 @@
+package org.example.dao;
+
+import org.example.model.Employee;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 부서/성별/상급자별 인원수와 급여 합계를 미리 계산해 둔 요약 테이블 (EMPLOYEE_SUMMARY)
+// - EmployeeDAO의 추가/삭제/수정이 같은 트랜잭션 안에서 변경분(delta)만 더하거나 뺌
+// - 그룹 통계는 EMPLOYEE 전체를 GROUP BY 하지 않고 요약 테이블에서 바로 읽음
+//   (MIN/MAX는 증분으로 유지할 수 없으므로 readMinMax()가 (컬럼, Salary) 색인으로 그룹마다 양 끝만 읽음)
+// - 이 프로그램을 거치지 않은 변경으로 값이 어긋나면 verify()로 확인하고 rebuild()로 다시 계산 (진단 화면의 요약 검사/재계산)
+// - NULL 값은 양쪽 모두 같은 키로 묶음 - 부서 없음은 0, 성별/상급자 없음은 빈 문자열 (Group_key는 NOT NULL)
+// - 테이블이 없으면 (employee_summary.sql 미적용) 유지 작업을 모두 건너뜀
+public final class EmployeeSummary {
+
+    public enum Dimension {
+        DNO("Dno", "0"), SEX("Sex", ""), SUPER_SSN("Super_ssn", "");
+
+        private final String column;
+        private final String nullKey;      // 컬럼이 NULL인 직원의 Group_key
+        private final String expression;   // rebuild/verify 시 GROUP BY 식
+
+        Dimension(String column, String nullKey) {
+            this.column = column;
+            this.nullKey = nullKey;
+            this.expression = "COALESCE(" + column + ", '" + nullKey + "')";
+        }
+
+        public String getNullKey() {
+            return nullKey;
+        }
+    }
+
+    // 한 그룹의 요약 값 (key는 부서 번호, 성별, 상급자 SSN - 부서가 없으면 0, 성별/상급자가 없으면 빈 문자열)
+    public record Group(String key, long count, double salarySum, double salarySquareSum) {
+        public double average() {
+            return count == 0 ? 0 : salarySum / count;
+        }
+
+        // 모표준편차 (STDDEV_POP과 같은 값)
+        public double stddev() {
+            if (count == 0) {
+                return 0;
+            }
+            double mean = average();
+            return Math.sqrt(Math.max(0, salarySquareSum / count - mean * mean));
+        }
+    }
+
+    // 요약에 영향을 주는 직원 컬럼 값 - Dimension의 COALESCE 식과 같은 키로 정규화
+    // (Dno NULL은 getInt/Employee에서 이미 0, 성별 없음('\u0000' 또는 NULL)과 상급자 없음은 빈 문자열)
+    record Member(int dno, String sex, String superSsn, double salary) {
+        Member {
+            sex = sex == null || sex.equals("\u0000") ? "" : sex;
+            superSsn = superSsn == null ? "" : superSsn;
+        }
+
+        static Member of(Employee employee) {
+            return new Member(employee.getDepartmentNumber(), String.valueOf(employee.getSex()),
+                    employee.getSupervisorSsn(), employee.getSalary());
+        }
+
+        // SELECT에 Dno, Sex, Super_ssn, Salary 컬럼이 있어야 함
+        static Member of(ResultSet rs) throws SQLException {
+            return new Member(rs.getInt("Dno"), rs.getString("Sex"), rs.getString("Super_ssn"),
+                    rs.getDouble("Salary"));
+        }
+
+        // column 하나만 value로 바뀐 값 (일괄 수정용)
+        Member with(String column, Object value) {
+            return switch (column) {
+                case "Dno" -> new Member(value == null ? 0 : ((Number) value).intValue(), sex, superSsn, salary);
+                case "Sex" -> new Member(dno, value == null ? null : String.valueOf(value), superSsn, salary);
+                case "Super_ssn" -> new Member(dno, sex, value == null ? null : value.toString(), salary);
+                case "Salary" -> new Member(dno, sex, superSsn, ((Number) value).doubleValue());
+                default -> this;
+            };
+        }
+    }
+
+    // 한 트랜잭션 동안 모은 변경분 - commit 직전에 apply()로 한 번에 반영
+    static final class Delta {
+        // 잠금 순서를 항상 같게 해서 교착 상태를 줄이기 위해 정렬된 맵 사용
+        private final Map<String, double[]> changes = new TreeMap<>();
+        private boolean hasRemovals = false;
+
+        void add(Member member) {
+            change(member, 1);
+        }
+
+        void remove(Member member) {
+            change(member, -1);
+            hasRemovals = true;
+        }
+
+        private void change(Member member, int sign) {
+            accumulate(Dimension.DNO, String.valueOf(member.dno()), member.salary(), sign);
+            accumulate(Dimension.SEX, member.sex(), member.salary(), sign);
+            accumulate(Dimension.SUPER_SSN, member.superSsn(), member.salary(), sign);
+        }
+
+        private void accumulate(Dimension dimension, String key, double salary, int sign) {
+            double[] values = changes.computeIfAbsent(dimension.name() + '\u0000' + key, k -> new double[3]);
+            values[0] += sign;
+            values[1] += sign * salary;
+            values[2] += sign * salary * salary;
+        }
+
+        void apply(Connection conn) throws SQLException {
+            changes.values().removeIf(v -> v[0] == 0 && v[1] == 0 && v[2] == 0);
+            if (changes.isEmpty() || !isAvailable()) {
+                return;
+            }
+            String sql = "INSERT INTO EMPLOYEE_SUMMARY (Dimension, Group_key, Emp_count, Salary_sum, Salary_sumsq) VALUES "
+                    + String.join(", ", Collections.nCopies(changes.size(), "(?, ?, ?, ?, ?)"))
+                    + " ON DUPLICATE KEY UPDATE Emp_count = Emp_count + VALUES(Emp_count),"
+                    + " Salary_sum = Salary_sum + VALUES(Salary_sum),"
+                    + " Salary_sumsq = Salary_sumsq + VALUES(Salary_sumsq)";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Map.Entry<String, double[]> entry : changes.entrySet()) {
+                    int separator = entry.getKey().indexOf('\u0000');
+                    pstmt.setString(index++, entry.getKey().substring(0, separator));
+                    pstmt.setString(index++, entry.getKey().substring(separator + 1));
+                    pstmt.setLong(index++, (long) entry.getValue()[0]);
+                    pstmt.setDouble(index++, entry.getValue()[1]);
+                    pstmt.setDouble(index++, entry.getValue()[2]);
+                }
+                pstmt.executeUpdate();
+            }
+            if (hasRemovals) {
+                // 인원이 0이 된 그룹은 제거
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "DELETE FROM EMPLOYEE_SUMMARY WHERE Emp_count = 0")) {
+                    pstmt.executeUpdate();
+                }
+            }
+            changes.clear();
+        }
+    }
+
+    private static volatile Boolean available = null;   // null이면 아직 확인 안 함
+
+    private EmployeeSummary() {
+    }
+
+    public static boolean isAvailable() {
+        if (available == null) {
+            detect();
+        }
+        return available;
+    }
+
+    private static synchronized void detect() {
+        if (available != null) {
+            return;
+        }
+        boolean exists = false;
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("""
+                     SELECT COUNT(*) FROM information_schema.TABLES
+                     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'EMPLOYEE_SUMMARY'
+                     """);
+             ResultSet rs = pstmt.executeQuery()) {
+            exists = rs.next() && rs.getInt(1) > 0;
+        } catch (SQLException e) {
+            System.err.println("요약 테이블 확인 실패, 사용하지 않음: " + e.getMessage());
+        }
+        available = exists;
+    }
+
+    // 한 차원의 모든 그룹 (그룹 수만큼만 읽으므로 직원 수와 상관없이 일정한 비용)
+    public static List<Group> read(Dimension dimension, QueryHandle handle) throws SQLException {
+        List<Group> groups = new ArrayList<>();
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "SELECT Group_key, Emp_count, Salary_sum, Salary_sumsq FROM EMPLOYEE_SUMMARY WHERE Dimension = ?")) {
+            pstmt.setString(1, dimension.name());
+            handle.attach(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    groups.add(new Group(rs.getString(1), rs.getLong(2), rs.getDouble(3), rs.getDouble(4)));
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
+            }
+        }
+        return groups;
+    }
+
+    // 한 차원의 그룹별 최소/최대 급여 (Group_key -> {min, max})
+    // COALESCE 없이 컬럼 그대로 묶어야 (컬럼, Salary) 색인에서 그룹마다 양 끝만 읽음 (loose index scan)
+    public static Map<String, double[]> readMinMax(Dimension dimension, QueryHandle handle) throws SQLException {
+        Map<String, double[]> minMax = new HashMap<>();
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT " + dimension.column
+                     + ", MIN(Salary), MAX(Salary) FROM EMPLOYEE GROUP BY " + dimension.column)) {
+            handle.attach(pstmt);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String key = rs.getString(1) == null ? dimension.nullKey : rs.getString(1);
+                    double min = rs.getDouble(2);
+                    double max = rs.getDouble(3);
+                    // NULL과 nullKey 값(Dno 0 등)은 같은 그룹
+                    minMax.merge(key, new double[]{min, max},
+                            (a, b) -> new double[]{Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+                    handle.rowFetched();
+                }
+            } finally {
+                handle.detach();
+            }
+        }
+        return minMax;
+    }
+
+    // EMPLOYEE 전체로 요약 테이블을 다시 계산 (하나의 트랜잭션)
+    public static void rebuild() throws SQLException {
+        try (Connection conn = JDBCConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("DELETE FROM EMPLOYEE_SUMMARY");
+                for (Dimension dimension : Dimension.values()) {
+                    stmt.executeUpdate("INSERT INTO EMPLOYEE_SUMMARY (Dimension, Group_key, Emp_count, Salary_sum, Salary_sumsq) "
+                            + groupQuery(dimension));
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // 요약 테이블과 실제 EMPLOYEE 집계를 비교해서 어긋난 그룹 목록 반환 (비어 있으면 정상)
+    public static List<String> verify() throws SQLException {
+        List<String> mismatches = new ArrayList<>();
+        try (Connection conn = JDBCConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (Dimension dimension : Dimension.values()) {
+                Map<String, double[]> expected = new HashMap<>();
+                try (ResultSet rs = stmt.executeQuery(groupQuery(dimension))) {
+                    while (rs.next()) {
+                        expected.put(rs.getString(2), new double[]{rs.getLong(3), rs.getDouble(4)});
+                    }
+                }
+                Map<String, double[]> actual = new HashMap<>();
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT Group_key, Emp_count, Salary_sum FROM EMPLOYEE_SUMMARY WHERE Dimension = ?")) {
+                    pstmt.setString(1, dimension.name());
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            actual.put(rs.getString(1), new double[]{rs.getLong(2), rs.getDouble(3)});
+                        }
+                    }
+                }
+
+                Map<String, Boolean> keys = new TreeMap<>();
+                expected.keySet().forEach(k -> keys.put(k, true));
+                actual.keySet().forEach(k -> keys.put(k, true));
+                for (String key : keys.keySet()) {
+                    double[] e = expected.getOrDefault(key, new double[2]);
+                    double[] a = actual.getOrDefault(key, new double[2]);
+                    if (e[0] != a[0] || Math.abs(e[1] - a[1]) > 0.005) {
+                        mismatches.add(String.format("%s '%s': expected count=%d sum=%.2f, found count=%d sum=%.2f",
+                                dimension, key, (long) e[0], e[1], (long) a[0], a[1]));
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private static String groupQuery(Dimension dimension) {
+        return "SELECT '" + dimension.name() + "', " + dimension.expression + ", COUNT(*),"
+                + " COALESCE(SUM(Salary), 0), COALESCE(SUM(Salary * Salary), 0)"
+                + " FROM EMPLOYEE GROUP BY " + dimension.expression;
+    }
+}
@@ -2,33 +2,116 @@ package org.example.dao;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 
 public class JDBCConnection {
-    private static final Dotenv dotenv = Dotenv.load();
-    private static final String URL = dotenv.get("DB_URL");
-    private static final String USER = dotenv.get("DB_USER");
-    private static final String PASSWORD = dotenv.get("DB_PASSWORD");
+    // .env가 없으면 시스템 속성(-D)과 환경 변수만 사용 (embedded DB 벤치마크 등)
+    private static final Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+    private static final String URL = getSetting("DB_URL", null);
+    private static final String USER = getSetting("DB_USER", null);
+    private static final String PASSWORD = getSetting("DB_PASSWORD", null);
 
-    private static Connection connection = null;
+    // 커넥션 풀 설정 (.env에 없으면 기본값 사용)
+    private static final int POOL_MIN = Integer.parseInt(getSetting("DB_POOL_MIN", "2"));
+    private static final int POOL_MAX = Integer.parseInt(getSetting("DB_POOL_MAX", "10"));
+    private static final long BORROW_TIMEOUT_MS = Long.parseLong(getSetting("DB_POOL_BORROW_TIMEOUT_MS", "5000"));
+    private static final long IDLE_TIMEOUT_MS = Long.parseLong(getSetting("DB_POOL_IDLE_TIMEOUT_MS", "300000"));
+    private static final long LEAK_THRESHOLD_MS = Long.parseLong(getSetting("DB_POOL_LEAK_THRESHOLD_MS", "60000"));
+    private static final int STATEMENT_CACHE_SIZE = Integer.parseInt(getSetting("DB_STATEMENT_CACHE_SIZE", "64"));
+    private static final int EMPLOYEE_CACHE_SIZE = Integer.parseInt(getSetting("DB_EMPLOYEE_CACHE_SIZE", "10000"));
+    private static final long DEPARTMENT_TTL_MS = Long.parseLong(getSetting("DB_DEPARTMENT_TTL_MS", "600000"));
+    private static final boolean SQL_TRACE = Boolean.parseBoolean(getSetting("DB_SQL_TRACE", "false"));
+    private static final long SLOW_QUERY_MS = Long.parseLong(getSetting("DB_SLOW_QUERY_MS", "1000"));
+    private static final String SLOW_QUERY_LOG = getSetting("DB_SLOW_QUERY_LOG", "");
+    private static final boolean SLOW_QUERY_LOG_VALUES =
+            Boolean.parseBoolean(getSetting("DB_SLOW_QUERY_LOG_VALUES", "false"));
+    // 전체 직원 스냅샷 파일 (빈 값이면 저장하지 않음)
+    private static final String SNAPSHOT_FILE = getSetting("DB_SNAPSHOT_FILE", "");
 
+    private static ConnectionPool pool = null;
+    private static EmployeeCache employeeCache = null;
+    private static DepartmentCatalog departmentCatalog = null;
+    private static EmployeeSnapshotCache snapshotCache = null;
+    private static SqlTrace sqlTrace = null;
+
+    // 설정값 - 같은 이름의 시스템 속성(-DDB_URL=...)이 있으면 .env보다 우선 (없으면 기본값)
+    static String getSetting(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? value : dotenv.get(key, defaultValue);
+    }
+
+    // 풀에서 커넥션을 빌려옴 - close() 하면 물리 커넥션은 닫히지 않고 풀로 반납됨
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(URL, USER, PASSWORD);
+        return getPool().getConnection();
+    }
+
+    public static synchronized ConnectionPool getPool() {
+        if (pool == null) {
+            pool = new ConnectionPool(URL, USER, PASSWORD, POOL_MIN, POOL_MAX,
+                    BORROW_TIMEOUT_MS, IDLE_TIMEOUT_MS, LEAK_THRESHOLD_MS, STATEMENT_CACHE_SIZE, getSqlTrace());
         }
-        return connection;
+        return pool;
     }
 
-    public static void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
+    public static ConnectionPool.Stats getPoolStats() {
+        return getPool().getStats();
+    }
+
+    // 풀의 모든 커넥션이 함께 쓰는 SQL 추적 (DB_SQL_TRACE=false면 null)
+    // 느린 쿼리는 DB_SLOW_QUERY_LOG 파일에 이어 쓰고, 파일을 지정하지 않았거나 열 수 없으면 표준 에러로 출력
+    public static synchronized SqlTrace getSqlTrace() {
+        if (sqlTrace == null && SQL_TRACE) {
+            PrintStream slowLog = System.err;
+            if (!SLOW_QUERY_LOG.isBlank()) {
+                try {
+                    slowLog = new PrintStream(new FileOutputStream(SLOW_QUERY_LOG, true), false, StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    System.err.println("[JDBCConnection] Cannot open slow query log " + SLOW_QUERY_LOG + ": "
+                            + e.getMessage());
+                }
             }
+            sqlTrace = new SqlTrace(SLOW_QUERY_MS, slowLog, SLOW_QUERY_LOG_VALUES);
+        }
+        return sqlTrace;
+    }
+
+    // 모든 EmployeeDAO가 함께 쓰는 직원 캐시
+    public static synchronized EmployeeCache getEmployeeCache() {
+        if (employeeCache == null) {
+            employeeCache = new EmployeeCache(EMPLOYEE_CACHE_SIZE);
+        }
+        return employeeCache;
+    }
+
+    // 모든 화면과 DAO가 함께 쓰는 부서 목록
+    public static synchronized DepartmentCatalog getDepartmentCatalog() {
+        if (departmentCatalog == null) {
+            departmentCatalog = new DepartmentCatalog(DEPARTMENT_TTL_MS);
+        }
+        return departmentCatalog;
+    }
+
+    // 전체 직원 스냅샷 파일 (DB_SNAPSHOT_FILE이 빈 값이면 null)
+    // 파일에는 접속 주소(파라미터 제외)와 사용자를 함께 저장해서 다른 DB의 스냅샷은 열지 않음
+    public static synchronized EmployeeSnapshotCache getSnapshotCache() {
+        if (snapshotCache == null && !SNAPSHOT_FILE.isBlank()) {
+            String address = URL == null ? "" : URL.split("[?;]", 2)[0];
+            snapshotCache = new EmployeeSnapshotCache(Path.of(SNAPSHOT_FILE), address + " as " + USER);
+        }
+        return snapshotCache;
+    }
+
+    public static synchronized void closeConnection() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
         }
     }
 }
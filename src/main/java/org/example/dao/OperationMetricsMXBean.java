@@ -0,0 +1,23 @@
+package org.example.dao;
+
+// JMX(jconsole 등)에 노출되는 작업별 지표 - org.example:type=DaoMetrics,operation=<작업 이름>
+// 지연 시간은 밀리초, 백분위는 히스토그램 칸 상한값
+public interface OperationMetricsMXBean {
+    long getCalls();
+
+    long getErrors();
+
+    long getRows();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    void reset();
+}
@@ -0,0 +1,55 @@
+package org.example.dao;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 실행 중인 쿼리를 다른 스레드에서 취소하거나 진행 상황(읽은 행 수)을 확인하기 위한 핸들
+public class QueryHandle {
+    private volatile Statement statement;     // 현재 실행 중인 Statement
+    private volatile boolean cancelled = false;
+    private final AtomicInteger rowsFetched = new AtomicInteger();
+
+    // 쿼리 실행 직전에 Statement 등록 - 이미 취소된 경우 바로 중단
+    public void attach(Statement stmt) throws SQLException {
+        statement = stmt;
+        checkCancelled();
+    }
+
+    public void detach() {
+        statement = null;
+    }
+
+    // 다른 스레드(EDT)에서 호출 - 드라이버에 실행 중인 쿼리 취소를 요청
+    public void cancel() {
+        cancelled = true;
+        Statement stmt = statement;
+        if (stmt != null) {
+            try {
+                stmt.cancel();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void checkCancelled() throws SQLException {
+        if (cancelled) {
+            throw new SQLException("Query cancelled");
+        }
+    }
+
+    // 결과셋을 한 행 읽을 때마다 호출
+    public void rowFetched() throws SQLException {
+        rowsFetched.incrementAndGet();
+        checkCancelled();
+    }
+
+    public int getRowsFetched() {
+        return rowsFetched.get();
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.dao;
+
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+// JDBC 호출 추적 계층 - 커넥션 풀이 만든 물리 커넥션을 감싸서 모든 SQL 실행을 기록
+// - SQL 문장, 바인딩된 파라미터, 실행 시간, 결과 읽기(fetch) 시간, 행 수
+// - 기준 시간(DB_SLOW_QUERY_MS)을 넘은 실행은 MySQL 슬로우 로그 형식으로 출력 (pt-query-digest로 바로 분석 가능)
+//   파라미터는 기본으로 타입만 남기고, 값은 DB_SLOW_QUERY_LOG_VALUES=true일 때만 SQL에 채워 넣음 (SSN/급여/주소 노출 방지)
+// - 리터럴과 IN 목록 길이를 지운 SQL 유형(fingerprint)별로 호출 수/총 시간/p95 등을 집계
+public final class SqlTrace {
+    private static final int MAX_FINGERPRINTS = 500;          // 이보다 많은 유형은 OTHER_FINGERPRINT로 합침
+    private static final int MAX_CACHED_SQL = 2000;           // SQL 문자열 -> fingerprint 캐시 크기
+    private static final int MAX_PARAM_LENGTH = 200;          // 로그에 남길 문자열 파라미터 최대 길이
+    static final String OTHER_FINGERPRINT = "(other)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST =
+            Pattern.compile("\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern REPEATED_OR =
+            Pattern.compile("(\\([^()]*\\?[^()]*\\))(?:\\s+or\\s+\\1)+");
+
+    // SQL 유형 하나의 누적 값 (시간은 마이크로초)
+    public record Digest(String fingerprint, String sample, long calls, long errors, long rows,
+                         long totalMicros, long meanMicros, long p95Micros, long maxMicros) {
+    }
+
+    private final long slowThresholdMicros;
+    private final PrintStream slowLog;
+    private final boolean logParameterValues;
+    private final Map<String, DigestRecorder> digests = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    private final AtomicLong slowCount = new AtomicLong();
+
+    SqlTrace(long slowThresholdMillis, PrintStream slowLog, boolean logParameterValues) {
+        this.slowThresholdMicros = slowThresholdMillis * 1000;
+        this.slowLog = slowLog;
+        this.logParameterValues = logParameterValues;
+    }
+
+    // 물리 커넥션을 추적용 래퍼로 감쌈 - 여기서 만든 Statement/ResultSet도 모두 추적됨
+    // 시간을 재는 것은 execute*, next, close뿐이고 컬럼 getter 등 나머지 호출은 물리 객체를 바로 호출
+    Connection wrap(Connection physical) {
+        return new TracedConnection(physical, this);
+    }
+
+    // 총 시간이 큰 순서 (pt-query-digest의 기본 정렬과 같음)
+    public List<Digest> getDigests() {
+        List<Digest> result = new ArrayList<>();
+        digests.forEach((fingerprint, recorder) -> result.add(recorder.snapshot(fingerprint)));
+        result.sort(Comparator.comparingLong(Digest::totalMicros).reversed());
+        return result;
+    }
+
+    public long getSlowQueryCount() {
+        return slowCount.get();
+    }
+
+    public void reset() {
+        digests.clear();
+        slowCount.set(0);
+    }
+
+    // 리터럴을 ?로 바꾸고 공백/대소문자/IN 목록 길이/반복되는 OR 조건을 정규화
+    // 예) "SELECT * FROM T WHERE a IN (?, ?, ?) AND b = 'x'" -> "select * from t where a in (?+) and b = ?"
+    static String fingerprint(String sql) {
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = s.toLowerCase();
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
+        s = IN_LIST.matcher(s).replaceAll("in (?+)");
+        s = VALUES_LIST.matcher(s).replaceAll("values $1+");
+        s = REPEATED_OR.matcher(s).replaceAll("$1 or ...");
+        return s;
+    }
+
+    private String fingerprintOf(String sql) {
+        String cached = fingerprintCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = fingerprint(sql);
+        if (fingerprintCache.size() < MAX_CACHED_SQL) {
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    // 바인딩된 파라미터 중 슬로우 로그에 남길 것 - 값을 남기지 않으면 타입 이름만 보관
+    Object parameterForLog(Object value) {
+        if (logParameterValues) {
+            return value;
+        }
+        return value == null ? "NULL" : value.getClass().getSimpleName();
+    }
+
+    void record(Execution execution) {
+        long totalMicros = (execution.executeNanos + execution.fetchNanos) / 1000;
+        String fingerprint = fingerprintOf(execution.sql);
+        DigestRecorder recorder = digests.get(fingerprint);
+        if (recorder == null) {
+            if (digests.size() >= MAX_FINGERPRINTS) {
+                fingerprint = OTHER_FINGERPRINT;
+            }
+            recorder = digests.computeIfAbsent(fingerprint, k -> new DigestRecorder(execution.sql));
+        }
+        recorder.record(totalMicros, execution.failed, execution.rows);
+
+        if (totalMicros >= slowThresholdMicros) {
+            slowCount.incrementAndGet();
+            writeSlowEntry(execution, totalMicros);
+        }
+    }
+
+    // MySQL 슬로우 로그 형식 - 값 기록을 켠 경우에만 파라미터를 SQL에 채워 넣어서 그대로 다시 실행해 볼 수 있게 함
+    // 기본은 ? 자리를 그대로 두고 "# Parameters:" 줄에 타입만 남김
+    private void writeSlowEntry(Execution execution, long totalMicros) {
+        StringBuilder entry = new StringBuilder();
+        entry.append("# Time: ").append(Instant.ofEpochMilli(execution.startedAt)).append('\n');
+        entry.append("# Thread: ").append(execution.thread).append('\n');
+        entry.append(String.format("# Query_time: %.6f  Lock_time: 0.000000 Rows_sent: %d  Rows_examined: 0%n",
+                totalMicros / 1_000_000.0, execution.rows));
+        entry.append(String.format("# Execute_time: %.6f  Fetch_time: %.6f%s%s%n",
+                execution.executeNanos / 1_000_000_000.0, execution.fetchNanos / 1_000_000_000.0,
+                execution.batchSize > 0 ? "  Batch_size: " + execution.batchSize : "",
+                execution.failed ? "  Error: yes" : ""));
+        entry.append("# Fingerprint: ").append(fingerprintOf(execution.sql)).append('\n');
+        if (!logParameterValues && execution.parameters.length > 0) {
+            entry.append("# Parameters: ");
+            for (int i = 0; i < execution.parameters.length; i++) {
+                entry.append(i > 0 ? ", " : "").append(execution.parameters[i]);
+            }
+            entry.append('\n');
+        }
+        entry.append("SET timestamp=").append(execution.startedAt / 1000).append(";\n");
+        entry.append(logParameterValues ? inlineParameters(execution.sql, execution.parameters) : execution.sql)
+                .append(";\n");
+        synchronized (slowLog) {
+            slowLog.print(entry);
+            slowLog.flush();
+        }
+    }
+
+    // ? 자리에 바인딩된 값을 넣음 (따옴표 안의 ?는 건드리지 않음)
+    static String inlineParameters(String sql, Object[] parameters) {
+        if (parameters == null || parameters.length == 0) {
+            return sql;
+        }
+        StringBuilder sb = new StringBuilder(sql.length() + parameters.length * 8);
+        int index = 0;
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted && index < parameters.length) {
+                sb.append(literal(parameters[index++]));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            return "'<" + bytes.length + " bytes>'";
+        }
+        String text = value.toString();
+        if (text.length() > MAX_PARAM_LENGTH) {
+            text = text.substring(0, MAX_PARAM_LENGTH) + "...";
+        }
+        return "'" + text.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    // SQL 한 번 실행의 기록 - executeQuery는 결과셋을 다 읽거나 닫을 때 완료
+    // parameters: 값 기록을 켜지 않았으면 타입 이름 (parameterForLog)
+    static final class Execution {
+        private final String sql;
+        private final Object[] parameters;
+        private final int batchSize;
+        private final long startedAt = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        private final String thread = Thread.currentThread().getName();
+        private long executeNanos;
+        long fetchNanos;
+        long rows;
+        boolean failed;
+
+        Execution(String sql, Object[] parameters, int batchSize) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.batchSize = batchSize;
+        }
+
+        // execute* 호출이 끝난 시점
+        void executed() {
+            executeNanos = System.nanoTime() - startNanos;
+        }
+    }
+
+    private static final class DigestRecorder {
+        private final String sample;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong totalMicros = new AtomicLong();
+
+        private DigestRecorder(String sample) {
+            this.sample = sample;
+        }
+
+        private void record(long micros, boolean failed, long rowCount) {
+            latency.record(micros);
+            totalMicros.addAndGet(micros);
+            rows.addAndGet(rowCount);
+            if (failed) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private Digest snapshot(String fingerprint) {
+            return new Digest(fingerprint, sample, latency.count(), errors.get(), rows.get(), totalMicros.get(),
+                    latency.meanMicros(), latency.percentileMicros(95), latency.maxMicros());
+        }
+    }
+}
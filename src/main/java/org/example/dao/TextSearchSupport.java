@@ -0,0 +1,137 @@
+package org.example.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+// Name/Address 검색 조건을 SQL로 바꾸는 방식 선택
+// - FULLTEXT: employee_fulltext.sql의 ngram FULLTEXT 색인으로 후보를 좁히고 LIKE로 정확히 확인
+//             (MATCH ... AGAINST가 색인을 타므로 LIKE '%x%'의 전체 테이블 스캔을 피함)
+// - LIKE: 기존 방식 - 색인이 없거나 검색어가 ngram 크기(2)보다 짧을 때 사용
+// - AUTO(기본값): 처음 검색할 때 FULLTEXT 색인이 있는지 확인해서 결정
+public final class TextSearchSupport {
+
+    public enum Mode {
+        AUTO, LIKE, FULLTEXT
+    }
+
+    private static final String NAME_INDEX = "ft_employee_full_name";
+    private static final String ADDRESS_INDEX = "ft_employee_address";
+    private static final int NGRAM_TOKEN_SIZE = 2;   // MySQL ngram_token_size 기본값
+
+    private static volatile Mode mode = parseMode(JDBCConnection.getSetting("DB_TEXT_SEARCH", "auto"));
+    private static volatile Boolean nameIndexed = null;      // null이면 아직 확인 안 함
+    private static volatile Boolean addressIndexed = null;
+
+    private TextSearchSupport() {
+    }
+
+    // DB_TEXT_SEARCH 설정값 (대소문자/앞뒤 공백 무시) - 알 수 없는 값이면 경고만 출력하고 AUTO
+    // 클래스 초기화 중에 예외가 나면 검색 전체가 ExceptionInInitializerError로 막히므로 던지지 않음
+    static Mode parseMode(String value) {
+        String name = value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+        if (name.isEmpty()) {
+            return Mode.AUTO;
+        }
+        try {
+            return Mode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            System.err.println("알 수 없는 DB_TEXT_SEARCH 값 '" + value + "', auto로 사용 (like|fulltext|auto)");
+            return Mode.AUTO;
+        }
+    }
+
+    // 벤치마크 등에서 방식을 강제로 바꿀 때 사용 (AUTO로 돌리면 색인을 다시 확인)
+    public static void setMode(Mode newMode) {
+        mode = newMode;
+        nameIndexed = null;
+        addressIndexed = null;
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    static boolean useFullTextForName(String term) {
+        return term.length() >= NGRAM_TOKEN_SIZE && isIndexed(true);
+    }
+
+    static boolean useFullTextForAddress(String term) {
+        return term.length() >= NGRAM_TOKEN_SIZE && isIndexed(false);
+    }
+
+    // 조건식 하나 (AND/OR/NOT 안에 그대로 넣을 수 있도록 여러 조건이면 괄호로 묶음)
+    static String namePredicate(boolean fullText) {
+        return fullText
+                ? "(MATCH(e.Full_name) AGAINST (? IN BOOLEAN MODE) AND e.Full_name LIKE ?)"
+                : "CONCAT(e.Fname, ' ', e.Minit, '. ', e.Lname) LIKE ?";
+    }
+
+    static String addressPredicate(boolean fullText) {
+        return fullText
+                ? "(MATCH(e.Address) AGAINST (? IN BOOLEAN MODE) AND e.Address LIKE ?)"
+                : "e.Address LIKE ?";
+    }
+
+    static void addParams(List<Object> params, String term, boolean fullText) {
+        if (fullText) {
+            // 구문 검색("...") - 검색어의 ngram이 연속으로 나오는 행만 후보가 됨
+            params.add("\"" + term.replace("\"", "") + "\"");
+        }
+        params.add("%" + term + "%");
+    }
+
+    // 색인이 삭제된 뒤 실행된 MATCH 쿼리의 오류 (ER_FT_MATCHING_KEY_NOT_FOUND) - LIKE로 바꿔서 다시 시도
+    static boolean disableOnMissingIndex(SQLException e) {
+        if (e.getErrorCode() != 1191 || mode == Mode.LIKE) {
+            return false;
+        }
+        mode = Mode.AUTO;
+        nameIndexed = false;
+        addressIndexed = false;
+        return true;
+    }
+
+    private static boolean isIndexed(boolean name) {
+        Mode current = mode;
+        if (current == Mode.LIKE) {
+            return false;
+        }
+        if (current == Mode.FULLTEXT) {
+            return true;
+        }
+        if (nameIndexed == null || addressIndexed == null) {
+            detectIndexes();
+        }
+        return name ? nameIndexed : addressIndexed;
+    }
+
+    private static synchronized void detectIndexes() {
+        if (nameIndexed != null && addressIndexed != null) {
+            return;
+        }
+        boolean name = false;
+        boolean address = false;
+        String sql = """
+                SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'EMPLOYEE' AND INDEX_TYPE = 'FULLTEXT'
+                """;
+        try (Connection conn = JDBCConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                String index = rs.getString(1);
+                name |= NAME_INDEX.equalsIgnoreCase(index);
+                address |= ADDRESS_INDEX.equalsIgnoreCase(index);
+            }
+        } catch (SQLException e) {
+            // 확인할 수 없으면 기존 LIKE 방식 사용
+            System.err.println("FULLTEXT 색인 확인 실패, LIKE 검색 사용: " + e.getMessage());
+        }
+        nameIndexed = name;
+        addressIndexed = address;
+    }
+}
@@ -0,0 +1,530 @@
+package org.example.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.Arrays;
+
+// SqlTrace가 감싼 Statement - execute* 호출 시간과 결과 행 수를 기록하고 나머지 호출은 그대로 넘김
+// 커넥션은 한 번에 한 스레드만 쓰므로 상태도 별도 동기화 없이 사용 (cancel()만 다른 스레드에서 호출됨)
+class TracedStatement implements Statement {
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Statement physical;
+    private final String preparedSql;         // createStatement()로 만든 경우 null
+    private final SqlTrace trace;
+    private final Connection connection;
+    private Object[] parameters = NO_PARAMETERS;
+    private int parameterCount;               // 바인딩된 가장 큰 인덱스 (parameters의 나머지는 여유 공간)
+    private int batchSize;
+    private SqlTrace.Execution pending;       // 결과셋을 아직 다 읽지 않은 실행
+
+    TracedStatement(Statement physical, SqlTrace trace, Connection connection) {
+        this(physical, null, trace, connection);
+    }
+
+    TracedStatement(Statement physical, String preparedSql, SqlTrace trace, Connection connection) {
+        this.physical = physical;
+        this.preparedSql = preparedSql;
+        this.trace = trace;
+        this.connection = connection;
+    }
+
+    // 실행 시작 - 이전 실행의 결과셋은 여기서 완료 처리
+    // Statement.executeBatch()는 SQL 인자가 없음 (addBatch(sql)로 넣은 문장들은 하나로 묶어서 기록)
+    final SqlTrace.Execution start(String sql) {
+        finishPending();
+        String traced = preparedSql != null ? preparedSql : sql != null ? sql : "/* statement batch */";
+        SqlTrace.Execution execution = new SqlTrace.Execution(traced,
+                parameterCount == 0 ? NO_PARAMETERS : Arrays.copyOf(parameters, parameterCount), batchSize);
+        batchSize = 0;
+        return execution;
+    }
+
+    final ResultSet opened(SqlTrace.Execution execution, ResultSet rs) {
+        execution.executed();
+        pending = execution;
+        return new TracedResultSet(rs, execution, this);
+    }
+
+    final void completed(SqlTrace.Execution execution, long rows) {
+        execution.executed();
+        execution.rows = Math.max(0, rows);
+        trace.record(execution);
+    }
+
+    final void failed(SqlTrace.Execution execution) {
+        execution.executed();
+        execution.failed = true;
+        trace.record(execution);
+    }
+
+    // PreparedStatement의 set*(index, value) - 슬로우 로그용으로 값(또는 타입)만 보관
+    final void bind(int index, Object value) {
+        if (index > parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+        }
+        parameters[index - 1] = trace.parameterForLog(value);
+        parameterCount = Math.max(parameterCount, index);
+    }
+
+    final void clearBound() {
+        finishPending();
+        parameters = NO_PARAMETERS;
+        parameterCount = 0;
+    }
+
+    final void countBatch() {
+        batchSize++;
+    }
+
+    final void finish(SqlTrace.Execution execution) {
+        if (pending == execution) {
+            pending = null;
+            trace.record(execution);
+        }
+    }
+
+    private void finishPending() {
+        if (pending != null) {
+            finish(pending);
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long rows = 0;
+        for (int count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    private static long sum(long[] counts) {
+        long rows = 0;
+        for (long count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        ResultSet rs;
+        try {
+            rs = physical.executeQuery(sql);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        return opened(execution, rs);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        int count;
+        try {
+            count = physical.executeUpdate(sql);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        int count;
+        try {
+            count = physical.executeUpdate(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        int count;
+        try {
+            count = physical.executeUpdate(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        int count;
+        try {
+            count = physical.executeUpdate(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        long count;
+        try {
+            count = physical.executeLargeUpdate(sql);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        long count;
+        try {
+            count = physical.executeLargeUpdate(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        long count;
+        try {
+            count = physical.executeLargeUpdate(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        long count;
+        try {
+            count = physical.executeLargeUpdate(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, count);
+        return count;
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        boolean hasResultSet;
+        try {
+            hasResultSet = physical.execute(sql);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, 0);
+        return hasResultSet;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        boolean hasResultSet;
+        try {
+            hasResultSet = physical.execute(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, 0);
+        return hasResultSet;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        boolean hasResultSet;
+        try {
+            hasResultSet = physical.execute(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, 0);
+        return hasResultSet;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        SqlTrace.Execution execution = start(sql);
+        boolean hasResultSet;
+        try {
+            hasResultSet = physical.execute(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, 0);
+        return hasResultSet;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        SqlTrace.Execution execution = start(null);
+        int[] counts;
+        try {
+            counts = physical.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, sum(counts));
+        return counts;
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        SqlTrace.Execution execution = start(null);
+        long[] counts;
+        try {
+            counts = physical.executeLargeBatch();
+        } catch (SQLException | RuntimeException e) {
+            failed(execution);
+            throw e;
+        }
+        completed(execution, sum(counts));
+        return counts;
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        countBatch();
+        physical.addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        batchSize = 0;
+        physical.clearBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        finishPending();
+        physical.close();
+    }
+
+    @Override
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(physical) ? iface.cast(physical) : physical.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(physical) || physical.isWrapperFor(iface);
+    }
+
+    // 이하 추적하지 않는 호출 - 물리 문장에 그대로 위임
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return physical.getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        physical.setMaxFieldSize(max);
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return physical.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        physical.setMaxRows(max);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        physical.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return physical.getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        physical.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        physical.cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return physical.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        physical.clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        physical.setCursorName(name);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return physical.getResultSet();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return physical.getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return physical.getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        physical.setFetchDirection(direction);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return physical.getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        physical.setFetchSize(rows);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return physical.getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return physical.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return physical.getResultSetType();
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return physical.getMoreResults(current);
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return physical.getGeneratedKeys();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return physical.getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return physical.isClosed();
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        physical.setPoolable(poolable);
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return physical.isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        physical.closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return physical.isCloseOnCompletion();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return physical.getLargeUpdateCount();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        physical.setLargeMaxRows(max);
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return physical.getLargeMaxRows();
+    }
+
+    @Override
+    public String enquoteLiteral(String val) throws SQLException {
+        return physical.enquoteLiteral(val);
+    }
+
+    @Override
+    public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+        return physical.enquoteIdentifier(identifier, alwaysQuote);
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String identifier) throws SQLException {
+        return physical.isSimpleIdentifier(identifier);
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String val) throws SQLException {
+        return physical.enquoteNCharLiteral(val);
+    }
+}
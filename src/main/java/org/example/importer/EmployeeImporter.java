@@ -0,0 +1,329 @@
+package org.example.importer;
+
+import org.example.dao.EmployeeDAO;
+import org.example.dao.QueryHandle;
+import org.example.model.Employee;
+import org.example.model.EmployeeValidator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// CSV/JSON 파일에서 직원을 대량으로 추가하는 파이프라인
+// 1. 파일을 스트리밍으로 읽어 블록 단위로 나눔
+// 2. 블록별 파싱/검증을 여러 스레드에서 병렬로 수행 (DBUpdate와 같은 EmployeeValidator 규칙)
+// 3. 검증된 행을 multi-row INSERT로 추가 - 배치마다 하나의 트랜잭션, 소요 시간에 따라 배치 크기 조절
+// 4. 검증/INSERT에 실패한 행은 사유와 함께 reject 파일에 기록 (INSERT는 무결성 제약 위반만 거부, 그 밖의 DB 오류는 가져오기 중단)
+public class EmployeeImporter {
+    // 파일의 컬럼명 (DB 컬럼명과 동일)
+    private static final String[] COLUMNS = {
+            "Fname", "Minit", "Lname", "Ssn", "Bdate", "Address", "Sex", "Salary", "Super_ssn", "Dno"
+    };
+
+    private static final int VALIDATION_BLOCK_SIZE = 1000;   // 검증 스레드 하나가 처리할 레코드 수
+    private static final int INITIAL_BATCH_SIZE = 200;
+    private static final int MIN_BATCH_SIZE = 10;
+    // MySQL 한 문장의 파라미터 제한(65535)을 넘지 않도록
+    private static final int MAX_BATCH_SIZE = Math.min(5000, 65535 / EmployeeDAO.INSERT_COLUMN_COUNT);
+    private static final long TARGET_BATCH_MILLIS = 250;     // 배치 하나가 이 시간 안에 끝나도록 크기 조절
+
+    private final EmployeeDAO employeeDAO;
+    private final int parallelism;
+
+    public EmployeeImporter() {
+        this(new EmployeeDAO(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public EmployeeImporter(EmployeeDAO employeeDAO, int parallelism) {
+        this.employeeDAO = employeeDAO;
+        this.parallelism = parallelism;
+    }
+
+    // 파싱/검증 결과 - employee가 null이면 error에 거부 사유
+    private record ParsedRow(long recordNumber, Map<String, String> raw, Employee employee, String error) {
+    }
+
+    public ImportReport importFile(Path source, Path rejectFile, QueryHandle handle) throws IOException, SQLException {
+        long start = System.currentTimeMillis();
+        ExecutorService validators = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "employee-import-validator");
+            t.setDaemon(true);
+            return t;
+        });
+
+        Session session;
+        try (EmployeeRecordReader reader = EmployeeRecordReader.open(source);
+             RejectWriter rejects = new RejectWriter(rejectFile)) {
+
+            session = new Session(rejects, handle);
+            // 검증이 끝난 순서가 아니라 파일 순서대로 INSERT 하도록 블록 Future를 순서대로 보관
+            Deque<Future<List<ParsedRow>>> inFlight = new ArrayDeque<>();
+            List<Map<String, String>> block = new ArrayList<>(VALIDATION_BLOCK_SIZE);
+            long recordNumber = 0;
+            long blockStart = 1;
+
+            Map<String, String> record;
+            while ((record = reader.next()) != null) {
+                recordNumber++;
+                block.add(record);
+                if (block.size() == VALIDATION_BLOCK_SIZE) {
+                    inFlight.add(submitBlock(validators, block, blockStart));
+                    block = new ArrayList<>(VALIDATION_BLOCK_SIZE);
+                    blockStart = recordNumber + 1;
+
+                    // 검증 결과가 너무 많이 쌓이지 않도록 오래된 블록부터 INSERT
+                    while (inFlight.size() > parallelism * 2) {
+                        session.accept(await(inFlight.poll()));
+                    }
+                    handle.checkCancelled();
+                }
+            }
+            if (!block.isEmpty()) {
+                inFlight.add(submitBlock(validators, block, blockStart));
+            }
+            while (!inFlight.isEmpty()) {
+                session.accept(await(inFlight.poll()));
+            }
+            session.flush(true);
+        } finally {
+            validators.shutdownNow();
+        }
+
+        // 거부된 행이 없으면 빈 reject 파일은 남기지 않음
+        Path rejectPath = rejectFile;
+        if (session.rejected == 0) {
+            Files.deleteIfExists(rejectFile);
+            rejectPath = null;
+        }
+        return new ImportReport(session.total, session.inserted, session.rejected,
+                System.currentTimeMillis() - start, rejectPath);
+    }
+
+    private Future<List<ParsedRow>> submitBlock(ExecutorService validators, List<Map<String, String>> block,
+                                                long firstRecordNumber) {
+        return validators.submit(() -> {
+            List<ParsedRow> rows = new ArrayList<>(block.size());
+            long number = firstRecordNumber;
+            for (Map<String, String> raw : block) {
+                rows.add(parse(number++, raw));
+            }
+            return rows;
+        });
+    }
+
+    private List<ParsedRow> await(Future<List<ParsedRow>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Failed to validate rows: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // 한 레코드를 검증하고 Employee로 변환 (검증 스레드에서 실행)
+    private ParsedRow parse(long recordNumber, Map<String, String> raw) {
+        String[] values = new String[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            String value = raw.get(COLUMNS[i]);
+            values[i] = value == null ? "" : value.trim();
+        }
+
+        EmployeeValidator.Field[] fields = {
+                EmployeeValidator.Field.FIRST_NAME, EmployeeValidator.Field.MINIT,
+                EmployeeValidator.Field.LAST_NAME, EmployeeValidator.Field.SSN,
+                EmployeeValidator.Field.BDATE, null, EmployeeValidator.Field.SEX,
+                EmployeeValidator.Field.SALARY, EmployeeValidator.Field.SUPER_SSN,
+                EmployeeValidator.Field.DNO
+        };
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (fields[i] == null) {
+                continue;  // Address는 검증 규칙 없음
+            }
+            String error = EmployeeValidator.validate(fields[i], values[i]);
+            if (error != null) {
+                return new ParsedRow(recordNumber, raw, null, COLUMNS[i] + ": " + error);
+            }
+        }
+
+        Employee employee = new Employee();
+        employee.setFirstName(values[0]);
+        employee.setMinit(values[1].isEmpty() ? '\0' : values[1].charAt(0));
+        employee.setLastName(values[2]);
+        employee.setSsn(values[3]);
+        if (!values[4].isEmpty()) {
+            try {
+                employee.setBirthDate(java.sql.Date.valueOf(LocalDate.parse(values[4])));
+            } catch (DateTimeParseException e) {
+                return new ParsedRow(recordNumber, raw, null, "Bdate: 존재하지 않는 날짜입니다.");
+            }
+        }
+        employee.setAddress(values[5].isEmpty() ? null : values[5]);
+        employee.setSex(values[6].charAt(0));
+        employee.setSalary(values[7].isEmpty() ? 0 : Double.parseDouble(values[7]));
+        employee.setSupervisorSsn(values[8].isEmpty() ? null : values[8]);
+        employee.setDepartmentNumber(Integer.parseInt(values[9]));
+        return new ParsedRow(recordNumber, raw, employee, null);
+    }
+
+    // 한 번의 import 실행 동안의 INSERT 상태
+    private final class Session {
+        private final RejectWriter rejects;
+        private final QueryHandle handle;
+        private final List<ParsedRow> pending = new ArrayList<>();
+        private int batchSize = INITIAL_BATCH_SIZE;
+        private long total = 0;
+        private long inserted = 0;
+        private long rejected = 0;
+
+        private Session(RejectWriter rejects, QueryHandle handle) {
+            this.rejects = rejects;
+            this.handle = handle;
+        }
+
+        private void accept(List<ParsedRow> rows) throws IOException, SQLException {
+            for (ParsedRow row : rows) {
+                total++;
+                if (row.employee() == null) {
+                    reject(row, row.error());
+                } else {
+                    pending.add(row);
+                }
+            }
+            flush(false);
+        }
+
+        private void flush(boolean all) throws IOException, SQLException {
+            while (pending.size() >= batchSize || (all && !pending.isEmpty())) {
+                int size = Math.min(batchSize, pending.size());
+                List<ParsedRow> batch = new ArrayList<>(pending.subList(0, size));
+                pending.subList(0, size).clear();
+                insertBatch(batch);
+            }
+        }
+
+        private void insertBatch(List<ParsedRow> batch) throws IOException, SQLException {
+            handle.checkCancelled();
+            List<Employee> employees = new ArrayList<>(batch.size());
+            for (ParsedRow row : batch) {
+                employees.add(row.employee());
+            }
+
+            long started = System.nanoTime();
+            try {
+                employeeDAO.addEmployees(employees);
+                countInserted(batch.size());
+                adjustBatchSize(batch.size(), (System.nanoTime() - started) / 1_000_000);
+            } catch (SQLException batchError) {
+                // 연결 끊김, 잠금 시간 초과, 취소 등은 행 데이터 문제가 아니므로 한 행씩 다시 시도하지 않고 중단
+                if (!isIntegrityViolation(batchError)) {
+                    throw batchError;
+                }
+                // 중복 SSN, 외래키 위반 등으로 배치 전체가 롤백된 경우 - 한 행씩 다시 시도해 실패한 행만 거부
+                handle.checkCancelled();
+                for (ParsedRow row : batch) {
+                    try {
+                        employeeDAO.addEmployee(row.employee());
+                        countInserted(1);
+                    } catch (SQLException rowError) {
+                        if (!isIntegrityViolation(rowError)) {
+                            throw rowError;
+                        }
+                        reject(row, rowError.getMessage());
+                    }
+                }
+                batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+            }
+        }
+
+        // SQLState 클래스 23 (무결성 제약 위반: 중복 키, 외래키, NOT NULL 등) - 원인/다음 예외까지 확인
+        private static boolean isIntegrityViolation(SQLException e) {
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof SQLException sql) {
+                    for (SQLException next = sql; next != null; next = next.getNextException()) {
+                        String state = next.getSQLState();
+                        if (state != null && state.startsWith("23")) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        // 배치가 목표 시간보다 빨리 끝나면 크기를 늘리고, 오래 걸리면 줄임
+        private void adjustBatchSize(int size, long elapsedMillis) {
+            if (size < batchSize) {
+                return;  // 마지막 자투리 배치는 기준으로 삼지 않음
+            }
+            if (elapsedMillis < TARGET_BATCH_MILLIS / 2) {
+                batchSize = Math.min(MAX_BATCH_SIZE, batchSize * 2);
+            } else if (elapsedMillis > TARGET_BATCH_MILLIS * 2) {
+                batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+            }
+        }
+
+        private void countInserted(int count) throws SQLException {
+            inserted += count;
+            for (int i = 0; i < count; i++) {
+                handle.rowFetched();  // 진행 상황 표시용
+            }
+        }
+
+        private void reject(ParsedRow row, String reason) throws IOException {
+            rejected++;
+            rejects.write(row.recordNumber(), row.raw(), reason);
+        }
+    }
+
+    // 거부된 행을 원래 컬럼 + 사유 형태의 CSV로 기록
+    private static final class RejectWriter implements AutoCloseable {
+        private final BufferedWriter writer;
+
+        private RejectWriter(Path file) throws IOException {
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write("record_number," + String.join(",", COLUMNS) + ",reject_reason");
+            writer.newLine();
+        }
+
+        private void write(long recordNumber, Map<String, String> raw, String reason) throws IOException {
+            StringBuilder line = new StringBuilder().append(recordNumber);
+            for (String column : COLUMNS) {
+                line.append(',').append(escape(raw.get(column)));
+            }
+            line.append(',').append(escape(reason));
+            writer.write(line.toString());
+            writer.newLine();
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+            return value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
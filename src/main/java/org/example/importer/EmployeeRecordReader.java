@@ -0,0 +1,26 @@
+package org.example.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// 파일에서 직원 레코드를 한 건씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+public interface EmployeeRecordReader extends Closeable {
+
+    // 다음 레코드 (컬럼명 -> 값, 컬럼명은 대소문자 구분 없음), 끝이면 null
+    Map<String, String> next() throws IOException;
+
+    // 확장자로 형식 결정 - .json / .jsonl 은 JSON, 나머지는 CSV
+    static EmployeeRecordReader open(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".json") || name.endsWith(".jsonl")) {
+            return new JsonRecordReader(reader);
+        }
+        return new CsvRecordReader(reader);
+    }
+}
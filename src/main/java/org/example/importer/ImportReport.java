@@ -0,0 +1,12 @@
+package org.example.importer;
+
+import java.nio.file.Path;
+
+// 일괄 추가 결과 요약
+public record ImportReport(long totalRows, long insertedRows, long rejectedRows,
+                           long elapsedMillis, Path rejectFile) {
+
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? insertedRows : insertedRows * 1000.0 / elapsedMillis;
+    }
+}
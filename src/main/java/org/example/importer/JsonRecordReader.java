@@ -0,0 +1,132 @@
+package org.example.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 평평한(flat) JSON 객체를 한 건씩 읽는 리더
+// - 최상위 배열 [ {...}, {...} ] 과 한 줄에 객체 하나인 JSON Lines 형식 모두 지원
+// - 값은 문자열/숫자/true/false/null만 허용 (중첩 객체/배열은 오류)
+public class JsonRecordReader implements EmployeeRecordReader {
+    private final Reader reader;
+    private int pushedBack = -2;   // 한 글자 되돌리기 (-2 = 없음)
+
+    public JsonRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        // 다음 '{' 까지 배열 기호, 쉼표, 공백을 건너뜀
+        int c;
+        do {
+            c = readNonWhitespace();
+            if (c == -1 || c == ']') {
+                return null;
+            }
+        } while (c == '[' || c == ',');
+        if (c != '{') {
+            throw new IOException("Expected '{' but found '" + (char) c + "'");
+        }
+
+        Map<String, String> record = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        c = readNonWhitespace();
+        if (c == '}') {
+            return record;
+        }
+        while (true) {
+            if (c != '"') {
+                throw new IOException("Expected field name");
+            }
+            String key = readString();
+            if (readNonWhitespace() != ':') {
+                throw new IOException("Expected ':' after \"" + key + "\"");
+            }
+            record.put(key, readValue());
+
+            c = readNonWhitespace();
+            if (c == '}') {
+                return record;
+            }
+            if (c != ',') {
+                throw new IOException("Expected ',' or '}' in object");
+            }
+            c = readNonWhitespace();
+        }
+    }
+
+    private String readValue() throws IOException {
+        int c = readNonWhitespace();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '{' || c == '[') {
+            throw new IOException("Nested values are not supported");
+        }
+        StringBuilder literal = new StringBuilder();
+        while (c != -1 && c != ',' && c != '}' && !Character.isWhitespace(c)) {
+            literal.append((char) c);
+            c = read();
+        }
+        pushedBack = c;
+        String value = literal.toString();
+        return "null".equals(value) ? "" : value;
+    }
+
+    private String readString() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IOException("Unterminated string");
+            }
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\') {
+                int e = read();
+                switch (e) {
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case 'r' -> sb.append('\r');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        char[] hex = new char[4];
+                        for (int i = 0; i < 4; i++) {
+                            hex[i] = (char) read();
+                        }
+                        sb.append((char) Integer.parseInt(new String(hex), 16));
+                    }
+                    case -1 -> throw new IOException("Unterminated escape");
+                    default -> sb.append((char) e);   // \" \\ \/
+                }
+            } else {
+                sb.append((char) c);
+            }
+        }
+    }
+
+    private int readNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != -1 && (Character.isWhitespace(c) || c == '\uFEFF'));
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,336 @@
+package org.example.model;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// 직원 목록을 컬럼별 배열로 저장하는 저장소
+// - 행마다 Employee/Vector 객체를 만들지 않고 컬럼마다 원시 타입 배열 하나씩 사용
+// - 이름/성/부서명처럼 반복되는 문자열은 사전(StringDictionary)에 한 번만 저장하고 번호로 참조
+//   (주소는 거의 모두 달라서 문자열 그대로 저장)
+public class EmployeeColumnStore implements EmployeeColumns {
+    public static final int NULL_SSN = -1;
+    public static final int NULL_DATE = Integer.MIN_VALUE;
+    public static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private int size = 0;
+
+    private int[] firstNameIds;       // names 사전의 인덱스
+    private char[] minits;
+    private int[] lastNameIds;
+    private int[] ssns;               // encodeSsn()으로 바꾼 SSN
+    private int[] birthEpochDays;     // 생년월일 (1970-01-01 기준 일수)
+    private String[] addresses;
+    private char[] sexes;
+    private long[] salaryCents;       // 급여 (센트 단위 고정소수점)
+    private int[] supervisorSsns;
+    private int[] departmentNumbers;
+    private int[] departmentNameIds;  // departmentNames 사전의 인덱스
+    private long[] modifiedMillis;
+
+    private final StringDictionary names = new StringDictionary();   // 이름과 성이 함께 사용
+    private final StringDictionary departmentNames = new StringDictionary();
+
+    public EmployeeColumnStore() {
+        this(64);
+    }
+
+    public EmployeeColumnStore(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 16));
+    }
+
+    private void allocate(int capacity) {
+        firstNameIds = new int[capacity];
+        minits = new char[capacity];
+        lastNameIds = new int[capacity];
+        ssns = new int[capacity];
+        birthEpochDays = new int[capacity];
+        addresses = new String[capacity];
+        sexes = new char[capacity];
+        salaryCents = new long[capacity];
+        supervisorSsns = new int[capacity];
+        departmentNumbers = new int[capacity];
+        departmentNameIds = new int[capacity];
+        modifiedMillis = new long[capacity];
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ssns.length) {
+            return;
+        }
+        int capacity = Math.max(required, ssns.length + (ssns.length >> 1));
+        firstNameIds = Arrays.copyOf(firstNameIds, capacity);
+        minits = Arrays.copyOf(minits, capacity);
+        lastNameIds = Arrays.copyOf(lastNameIds, capacity);
+        ssns = Arrays.copyOf(ssns, capacity);
+        birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        sexes = Arrays.copyOf(sexes, capacity);
+        salaryCents = Arrays.copyOf(salaryCents, capacity);
+        supervisorSsns = Arrays.copyOf(supervisorSsns, capacity);
+        departmentNumbers = Arrays.copyOf(departmentNumbers, capacity);
+        departmentNameIds = Arrays.copyOf(departmentNameIds, capacity);
+        modifiedMillis = Arrays.copyOf(modifiedMillis, capacity);
+    }
+
+    public void addAll(List<Employee> employees) {
+        ensureCapacity(size + employees.size());
+        for (Employee employee : employees) {
+            set(size++, employee);
+        }
+    }
+
+    public void add(Employee employee) {
+        ensureCapacity(size + 1);
+        set(size++, employee);
+    }
+
+    // 한 행의 값을 통째로 교체
+    public void replace(int row, Employee employee) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + ", size " + size);
+        }
+        set(row, employee);
+    }
+
+    // 표시된 행들을 지우고 나머지 행을 앞으로 당김 (행 순서 유지)
+    public void removeRows(BitSet rows) {
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if (rows.get(row)) {
+                continue;
+            }
+            if (target != row) {
+                move(row, target);
+            }
+            target++;
+        }
+        Arrays.fill(addresses, target, size, null);
+        size = target;
+    }
+
+    // 행들을 중간에 끼워 넣음 - rows는 끼워 넣은 뒤의 행 번호 (오름차순), employees와 같은 순서
+    // 뒤에서부터 한 번에 당기므로 여러 행을 넣어도 기존 행은 한 번씩만 옮김
+    public void insertRows(int[] rows, List<Employee> employees) {
+        int count = rows.length;
+        ensureCapacity(size + count);
+        int source = size - 1;
+        int next = count - 1;
+        for (int target = size + count - 1; next >= 0; target--) {
+            if (target == rows[next]) {
+                set(target, employees.get(next--));
+            } else {
+                move(source--, target);
+            }
+        }
+        size += count;
+    }
+
+    private void move(int from, int to) {
+        firstNameIds[to] = firstNameIds[from];
+        minits[to] = minits[from];
+        lastNameIds[to] = lastNameIds[from];
+        ssns[to] = ssns[from];
+        birthEpochDays[to] = birthEpochDays[from];
+        addresses[to] = addresses[from];
+        sexes[to] = sexes[from];
+        salaryCents[to] = salaryCents[from];
+        supervisorSsns[to] = supervisorSsns[from];
+        departmentNumbers[to] = departmentNumbers[from];
+        departmentNameIds[to] = departmentNameIds[from];
+        modifiedMillis[to] = modifiedMillis[from];
+    }
+
+    private void set(int row, Employee e) {
+        firstNameIds[row] = names.idOf(e.getFirstName());
+        minits[row] = e.getMinit();
+        lastNameIds[row] = names.idOf(e.getLastName());
+        ssns[row] = encodeSsn(e.getSsn());
+        birthEpochDays[row] = e.getBirthDate() != null
+                ? (int) new java.sql.Date(e.getBirthDate().getTime()).toLocalDate().toEpochDay()
+                : NULL_DATE;
+        addresses[row] = e.getAddress();
+        sexes[row] = e.getSex();
+        salaryCents[row] = Math.round(e.getSalary() * 100);
+        supervisorSsns[row] = encodeSsn(e.getSupervisorSsn());
+        departmentNumbers[row] = e.getDepartmentNumber();
+        departmentNameIds[row] = departmentNames.idOf(e.getDepartmentName());
+        modifiedMillis[row] = e.getModified() != null ? e.getModified().getTime() : NULL_TIMESTAMP;
+    }
+
+    public void clear() {
+        Arrays.fill(addresses, 0, size, null);
+        names.clear();
+        departmentNames.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // === 컬럼 값 접근 ===
+
+    @Override
+    public String getFirstName(int row) {
+        return names.get(firstNameIds[row]);
+    }
+
+    @Override
+    public char getMinit(int row) {
+        return minits[row];
+    }
+
+    @Override
+    public String getLastName(int row) {
+        return names.get(lastNameIds[row]);
+    }
+
+    @Override
+    public int getSsn(int row) {
+        return ssns[row];
+    }
+
+    @Override
+    public int getBirthEpochDay(int row) {
+        return birthEpochDays[row];
+    }
+
+    @Override
+    public String getAddress(int row) {
+        return addresses[row];
+    }
+
+    @Override
+    public char getSex(int row) {
+        return sexes[row];
+    }
+
+    @Override
+    public long getSalaryCents(int row) {
+        return salaryCents[row];
+    }
+
+    @Override
+    public int getSupervisorSsn(int row) {
+        return supervisorSsns[row];
+    }
+
+    @Override
+    public int getDepartmentNumber(int row) {
+        return departmentNumbers[row];
+    }
+
+    @Override
+    public String getDepartmentName(int row) {
+        return departmentNames.get(departmentNameIds[row]);
+    }
+
+    @Override
+    public long getModifiedMillis(int row) {
+        return modifiedMillis[row];
+    }
+
+    // 필요한 경우 한 행을 Employee 객체로 복원
+    @Override
+    public Employee toEmployee(int row) {
+        Employee employee = new Employee();
+        employee.setFirstName(getFirstName(row));
+        employee.setMinit(minits[row]);
+        employee.setLastName(getLastName(row));
+        employee.setSsn(decodeSsn(ssns[row]));
+        if (birthEpochDays[row] != NULL_DATE) {
+            employee.setBirthDate(java.sql.Date.valueOf(java.time.LocalDate.ofEpochDay(birthEpochDays[row])));
+        }
+        employee.setAddress(addresses[row]);
+        employee.setSex(sexes[row]);
+        employee.setSalary(salaryCents[row] / 100.0);
+        employee.setSupervisorSsn(decodeSsn(supervisorSsns[row]));
+        employee.setDepartmentNumber(departmentNumbers[row]);
+        employee.setDepartmentName(getDepartmentName(row));
+        if (modifiedMillis[row] != NULL_TIMESTAMP) {
+            employee.setModified(new Timestamp(modifiedMillis[row]));
+        }
+        return employee;
+    }
+
+    // === SSN 인코딩 (1~9자리 숫자 <-> int) ===
+    // 9자리는 숫자 값 그대로 (0 ~ 999,999,999 - 값 순서가 문자열 순서와 같음)
+    // 그보다 짧은 SSN은 10억 위쪽에 자릿수별 구간을 따로 두어 앞자리 0까지 그대로 복원 ("123"과 "000000123"은 다른 값)
+    // 숫자 1~9자리가 아닌 SSN은 프로세스 전체 사전(otherSsns)에 넣고 -2부터 내려가는 음수 번호로 저장
+    // (DB에 잘못 들어간 값 하나 때문에 목록 전체를 못 읽는 일이 없도록 - 이름 사전과 같은 방식)
+
+    private static final int SHORT_SSN_START = 1_000_000_000;
+    private static final int[] SHORT_SSN_BASE = new int[9];   // 자릿수(1~8)별 구간 시작 값
+    static final int OTHER_SSN_START = -2;
+    private static final StringDictionary otherSsns = new StringDictionary();   // 잠금: otherSsns
+
+    static {
+        int base = SHORT_SSN_START;
+        for (int length = 1, count = 10; length <= 8; length++, count *= 10) {
+            SHORT_SSN_BASE[length] = base;
+            base += count;
+        }
+    }
+
+    public static int encodeSsn(String ssn) {
+        if (ssn == null || ssn.isBlank()) {
+            return NULL_SSN;
+        }
+        String digits = ssn.trim();
+        int length = digits.length();
+        if (length > 9) {
+            return otherSsnCode(ssn);
+        }
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = digits.charAt(i);
+            if (c < '0' || c > '9') {
+                return otherSsnCode(ssn);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return length == 9 ? value : SHORT_SSN_BASE[length] + value;
+    }
+
+    public static String decodeSsn(int ssn) {
+        if (ssn == NULL_SSN) {
+            return null;
+        }
+        if (ssn <= OTHER_SSN_START) {
+            synchronized (otherSsns) {
+                return otherSsns.get(OTHER_SSN_START - ssn);
+            }
+        }
+        int length = 9;
+        if (ssn >= SHORT_SSN_START) {
+            length = 8;
+            while (ssn < SHORT_SSN_BASE[length]) {
+                length--;
+            }
+            ssn -= SHORT_SSN_BASE[length];
+        }
+        String digits = Integer.toString(ssn);
+        return digits.length() >= length ? digits : "0".repeat(length - digits.length()) + digits;
+    }
+
+    private static int otherSsnCode(String ssn) {
+        synchronized (otherSsns) {
+            return OTHER_SSN_START - otherSsns.idOf(ssn);
+        }
+    }
+
+    // 지금까지 번호를 붙인 숫자가 아닌 SSN (번호 순서) - 스냅샷 파일에 함께 저장
+    static List<String> otherSsns() {
+        synchronized (otherSsns) {
+            List<String> values = new ArrayList<>(otherSsns.size());
+            for (int id = 0; id < otherSsns.size(); id++) {
+                values.add(otherSsns.get(id));
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.model;
+
+// 컬럼별로 저장된 직원 목록의 읽기 전용 접근 (행 번호로 컬럼 값을 바로 읽음)
+// - EmployeeColumnStore: 페이지 단위로 불러와 힙에 두는 목록 (추가/교체/삭제 가능)
+// - EmployeeSnapshot: 전체 직원을 힙 밖(direct ByteBuffer)에 두는 읽기 전용 스냅샷
+// 테이블 모델, 빠른 필터 색인, 메모리 그룹 통계는 이 인터페이스만 사용
+// 값의 인코딩은 EmployeeColumnStore와 같음 (SSN은 int, 생년월일은 epoch day, 급여는 센트, 수정 시각은 epoch millis)
+public interface EmployeeColumns {
+
+    int size();
+
+    String getFirstName(int row);
+
+    char getMinit(int row);
+
+    String getLastName(int row);
+
+    int getSsn(int row);
+
+    int getBirthEpochDay(int row);
+
+    String getAddress(int row);
+
+    char getSex(int row);
+
+    long getSalaryCents(int row);
+
+    int getSupervisorSsn(int row);
+
+    int getDepartmentNumber(int row);
+
+    String getDepartmentName(int row);
+
+    long getModifiedMillis(int row);
+
+    Employee toEmployee(int row);
+}
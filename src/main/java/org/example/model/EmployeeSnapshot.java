@@ -0,0 +1,363 @@
+package org.example.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+// 전체 직원(EMPLOYEE ⋈ DEPARTMENT) 스냅샷을 힙 밖(direct ByteBuffer)에 컬럼별로 저장하는 읽기 전용 저장소
+// - 컬럼마다 CHUNK_ROWS행 단위의 direct ByteBuffer를 이어 붙임 (행이 늘어도 기존 데이터를 복사하지 않음)
+// - 행마다 힙에 남는 객체가 없으므로 수백만 명도 힙 크기와 상관없이 보관
+//   (direct 메모리 한도는 -XX:MaxDirectMemorySize, 지정하지 않으면 -Xmx와 같음)
+// - 이름/성은 StringDictionary, 부서명은 부서 번호 -> 부서명 표로 저장
+// - 주소는 UTF-8 바이트를 별도 direct 영역에 이어 쓰고 행에는 위치와 길이만 저장
+// - 한 스레드가 append로 다 채운 뒤에는 읽기만 함 (절대 위치로만 읽으므로 여러 스레드에서 동시에 읽어도 됨)
+// - 버퍼는 리틀 엔디언 - EmployeeSnapshotFile이 그대로 파일에 쓰고, 다음 실행 때 파일을 매핑한 버퍼로 다시 만듦
+public class EmployeeSnapshot implements EmployeeColumns {
+    private static final int CHUNK_BITS = 16;
+    static final int CHUNK_ROWS = 1 << CHUNK_BITS;            // 65536행
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+    private static final int TEXT_CHUNK_BYTES = 1 << 22;       // 주소 영역 한 덩어리 (4MB)
+    private static final long NULL_TEXT = -1;
+
+    private final FixedColumn firstNameIds = new FixedColumn(Integer.BYTES);
+    private final FixedColumn minits = new FixedColumn(Character.BYTES);
+    private final FixedColumn lastNameIds = new FixedColumn(Integer.BYTES);
+    private final FixedColumn ssns = new FixedColumn(Integer.BYTES);
+    private final FixedColumn birthEpochDays = new FixedColumn(Integer.BYTES);
+    private final FixedColumn addressRefs = new FixedColumn(Long.BYTES);     // 덩어리 번호 | 위치 | 길이
+    private final FixedColumn sexes = new FixedColumn(Character.BYTES);
+    private final FixedColumn salaryCents = new FixedColumn(Long.BYTES);
+    private final FixedColumn supervisorSsns = new FixedColumn(Integer.BYTES);
+    private final FixedColumn departmentNumbers = new FixedColumn(Integer.BYTES);
+    private final FixedColumn modifiedMillis = new FixedColumn(Long.BYTES);
+    // 파일에 쓰는 순서 (EmployeeSnapshotFile)
+    private final FixedColumn[] columns = {
+            firstNameIds, minits, lastNameIds, ssns, birthEpochDays, addressRefs,
+            sexes, salaryCents, supervisorSsns, departmentNumbers, modifiedMillis
+    };
+    private final TextArea addresses = new TextArea();
+
+    private final StringDictionary names = new StringDictionary();
+    private final Map<Integer, String> departmentNames;
+    private final long loadedAt;
+    private final boolean mapped;             // 파일을 매핑한 읽기 전용 스냅샷
+    private int size = 0;
+
+    public EmployeeSnapshot(Map<Integer, String> departmentNames) {
+        this(departmentNames, System.currentTimeMillis(), false);
+    }
+
+    private EmployeeSnapshot(Map<Integer, String> departmentNames, long loadedAt, boolean mapped) {
+        this.departmentNames = new HashMap<>(departmentNames);
+        this.loadedAt = loadedAt;
+        this.mapped = mapped;
+    }
+
+    // EmployeeSnapshotFile에서 사용 - 파일을 매핑한 버퍼를 그대로 컬럼으로 사용
+    // columnChunks는 columns 순서, names는 사전 번호 순서
+    static EmployeeSnapshot mapped(Map<Integer, String> departmentNames, List<String> names, long loadedAt, int size,
+                                   List<List<ByteBuffer>> columnChunks, List<ByteBuffer> textChunks) {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(departmentNames, loadedAt, true);
+        for (String name : names) {
+            snapshot.names.idOf(name);
+        }
+        for (int c = 0; c < snapshot.columns.length; c++) {
+            for (ByteBuffer chunk : columnChunks.get(c)) {
+                snapshot.columns[c].chunks.add(chunk.order(ByteOrder.LITTLE_ENDIAN));
+            }
+        }
+        for (ByteBuffer chunk : textChunks) {
+            snapshot.addresses.chunks.add(chunk);
+            snapshot.addresses.usedBytes.add(chunk.capacity());
+        }
+        snapshot.size = size;
+        return snapshot;
+    }
+
+    // 한 행 추가 - 로딩 스레드에서만 호출 (값의 인코딩은 EmployeeColumnStore와 같음)
+    public void append(String firstName, char minit, String lastName, int ssn, int birthEpochDay,
+                       String address, char sex, long salary, int supervisorSsn, int departmentNumber,
+                       long modified) {
+        if (mapped) {
+            throw new IllegalStateException("Mapped snapshot is read-only");
+        }
+        int row = size;
+        if ((row & CHUNK_MASK) == 0) {
+            for (FixedColumn column : columns) {
+                column.addChunk();
+            }
+        }
+        firstNameIds.putInt(row, names.idOf(firstName));
+        minits.putChar(row, minit);
+        lastNameIds.putInt(row, names.idOf(lastName));
+        ssns.putInt(row, ssn);
+        birthEpochDays.putInt(row, birthEpochDay);
+        addressRefs.putLong(row, addresses.append(address));
+        sexes.putChar(row, sex);
+        salaryCents.putLong(row, salary);
+        supervisorSsns.putInt(row, supervisorSsn);
+        departmentNumbers.putInt(row, departmentNumber);
+        modifiedMillis.putLong(row, modified);
+        size = row + 1;
+    }
+
+    // 조건에 맞는 행 번호 - 버퍼를 직접 읽으므로 행마다 객체를 만들지 않음
+    // 예) snapshot.select(row -> snapshot.getDepartmentNumber(row) == 5 && snapshot.getSalaryCents(row) >= 3_000_000)
+    public BitSet select(IntPredicate predicate) {
+        BitSet rows = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(row)) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    // DB에서 읽은 시각 (파일에서 매핑한 스냅샷이면 파일을 만들 때 DB에서 읽은 시각)
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    // 이전 실행에서 저장한 파일을 매핑한 스냅샷인지
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    public Map<Integer, String> getDepartmentNames() {
+        return Collections.unmodifiableMap(departmentNames);
+    }
+
+    // === EmployeeSnapshotFile에서 사용 ===
+
+    int columnCount() {
+        return columns.length;
+    }
+
+    int columnWidth(int column) {
+        return columns[column].width;
+    }
+
+    List<ByteBuffer> columnChunks(int column) {
+        return columns[column].chunks;
+    }
+
+    List<ByteBuffer> textChunks() {
+        return addresses.chunks;
+    }
+
+    // 주소 영역 덩어리마다 실제로 쓴 바이트 수
+    List<Integer> textChunkUsedBytes() {
+        return addresses.usedBytes;
+    }
+
+    StringDictionary names() {
+        return names;
+    }
+
+    // 힙 밖에 할당된(또는 매핑된) 바이트 수 (진단 표시용)
+    public long getOffHeapBytes() {
+        long bytes = addresses.capacity();
+        for (FixedColumn column : columns) {
+            bytes += column.capacity();
+        }
+        return bytes;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getFirstName(int row) {
+        return names.get(firstNameIds.getInt(row));
+    }
+
+    @Override
+    public char getMinit(int row) {
+        return minits.getChar(row);
+    }
+
+    @Override
+    public String getLastName(int row) {
+        return names.get(lastNameIds.getInt(row));
+    }
+
+    @Override
+    public int getSsn(int row) {
+        return ssns.getInt(row);
+    }
+
+    @Override
+    public int getBirthEpochDay(int row) {
+        return birthEpochDays.getInt(row);
+    }
+
+    @Override
+    public String getAddress(int row) {
+        return addresses.get(addressRefs.getLong(row));
+    }
+
+    @Override
+    public char getSex(int row) {
+        return sexes.getChar(row);
+    }
+
+    @Override
+    public long getSalaryCents(int row) {
+        return salaryCents.getLong(row);
+    }
+
+    @Override
+    public int getSupervisorSsn(int row) {
+        return supervisorSsns.getInt(row);
+    }
+
+    @Override
+    public int getDepartmentNumber(int row) {
+        return departmentNumbers.getInt(row);
+    }
+
+    @Override
+    public String getDepartmentName(int row) {
+        return departmentNames.get(departmentNumbers.getInt(row));
+    }
+
+    @Override
+    public long getModifiedMillis(int row) {
+        return modifiedMillis.getLong(row);
+    }
+
+    @Override
+    public Employee toEmployee(int row) {
+        Employee employee = new Employee();
+        employee.setFirstName(getFirstName(row));
+        employee.setMinit(getMinit(row));
+        employee.setLastName(getLastName(row));
+        employee.setSsn(EmployeeColumnStore.decodeSsn(getSsn(row)));
+        int birthEpochDay = getBirthEpochDay(row);
+        if (birthEpochDay != EmployeeColumnStore.NULL_DATE) {
+            employee.setBirthDate(java.sql.Date.valueOf(LocalDate.ofEpochDay(birthEpochDay)));
+        }
+        employee.setAddress(getAddress(row));
+        employee.setSex(getSex(row));
+        employee.setSalary(getSalaryCents(row) / 100.0);
+        employee.setSupervisorSsn(EmployeeColumnStore.decodeSsn(getSupervisorSsn(row)));
+        employee.setDepartmentNumber(getDepartmentNumber(row));
+        employee.setDepartmentName(getDepartmentName(row));
+        long modified = getModifiedMillis(row);
+        if (modified != EmployeeColumnStore.NULL_TIMESTAMP) {
+            employee.setModified(new Timestamp(modified));
+        }
+        return employee;
+    }
+
+    // 고정 길이 컬럼 - CHUNK_ROWS행마다 direct ByteBuffer 하나
+    private static final class FixedColumn {
+        private final int width;
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+
+        private FixedColumn(int width) {
+            this.width = width;
+        }
+
+        private void addChunk() {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_ROWS * width).order(ByteOrder.LITTLE_ENDIAN));
+        }
+
+        private long capacity() {
+            long bytes = 0;
+            for (ByteBuffer chunk : chunks) {
+                bytes += chunk.capacity();
+            }
+            return bytes;
+        }
+
+        private ByteBuffer chunk(int row) {
+            return chunks.get(row >>> CHUNK_BITS);
+        }
+
+        private int offset(int row) {
+            return (row & CHUNK_MASK) * width;
+        }
+
+        private void putInt(int row, int value) {
+            chunk(row).putInt(offset(row), value);
+        }
+
+        private int getInt(int row) {
+            return chunk(row).getInt(offset(row));
+        }
+
+        private void putLong(int row, long value) {
+            chunk(row).putLong(offset(row), value);
+        }
+
+        private long getLong(int row) {
+            return chunk(row).getLong(offset(row));
+        }
+
+        private void putChar(int row, char value) {
+            chunk(row).putChar(offset(row), value);
+        }
+
+        private char getChar(int row) {
+            return chunk(row).getChar(offset(row));
+        }
+    }
+
+    // 가변 길이 문자열 영역 - UTF-8 바이트를 TEXT_CHUNK_BYTES 크기 덩어리에 이어 씀 (문자열이 덩어리를 넘지 않음)
+    // 위치 값은 덩어리 번호(16비트) | 덩어리 안의 위치(32비트) | 바이트 길이(16비트)
+    private static final class TextArea {
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private final List<Integer> usedBytes = new ArrayList<>();
+        private int position = TEXT_CHUNK_BYTES;   // 첫 append에서 덩어리 할당
+
+        private long append(String value) {
+            if (value == null) {
+                return NULL_TEXT;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IllegalArgumentException("Text too long for snapshot: " + bytes.length + " bytes");
+            }
+            if (position + bytes.length > TEXT_CHUNK_BYTES) {
+                chunks.add(ByteBuffer.allocateDirect(TEXT_CHUNK_BYTES));
+                usedBytes.add(0);
+                position = 0;
+            }
+            int chunk = chunks.size() - 1;
+            chunks.get(chunk).put(position, bytes);
+            long ref = ((long) chunk << 48) | ((long) position << 16) | bytes.length;
+            position += bytes.length;
+            usedBytes.set(chunk, position);
+            return ref;
+        }
+
+        private String get(long ref) {
+            if (ref == NULL_TEXT) {
+                return null;
+            }
+            byte[] bytes = new byte[(int) (ref & 0xFFFF)];
+            chunks.get((int) (ref >>> 48)).get((int) ((ref >>> 16) & 0xFFFFFFFFL), bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private long capacity() {
+            long bytes = 0;
+            for (ByteBuffer chunk : chunks) {
+                bytes += chunk.capacity();
+            }
+            return bytes;
+        }
+    }
+}
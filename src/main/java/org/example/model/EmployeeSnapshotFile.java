@@ -0,0 +1,255 @@
+package org.example.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// 전체 직원 스냅샷(EmployeeSnapshot)의 파일 형식 - 다음 실행 때 DB를 읽지 않고 파일을 매핑해서 바로 표시
+//
+// 헤더 (HEADER_BYTES, 리틀 엔디언)
+//   magic(8) version(4) rows(4) loadedAt(8) bodyBytes(8) crc32c(4) reserved(4)
+// 본문 (crc32c는 본문 전체)
+//   metaBytes(4) + 메타 (DataOutput: 원본 DB, 이름 사전, 숫자가 아닌 SSN 사전, 부서 번호 -> 부서명, 주소 영역 덩어리별 길이)
+//   컬럼별 값 (EmployeeSnapshot의 컬럼 순서, 각 rows * 폭 바이트)
+//   주소 영역 덩어리 (UTF-8)
+//
+// - 값은 EmployeeSnapshot의 버퍼 내용 그대로 - 읽을 때 변환 없이 65536행 덩어리마다 읽기 전용으로 매핑
+// - 형식을 바꾸면 VERSION을 올림 (버전이 다르면 열지 않고 DB에서 다시 만듦)
+// - 임시 파일에 다 쓴 뒤 이름을 바꾸므로 쓰다가 중단돼도 이전 파일은 온전함
+public final class EmployeeSnapshotFile {
+    private static final long MAGIC = 0x50414E53504D4545L;   // "EEMPSNAP"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 40;
+
+    private EmployeeSnapshotFile() {
+    }
+
+    // source: 스냅샷을 읽은 DB (다른 DB의 파일을 열지 않도록 함께 저장)
+    public static void write(EmployeeSnapshot snapshot, Path file, String source) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            restrictToOwner(temp);   // SSN/급여가 들어 있으므로 본인만 읽을 수 있게
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                CRC32C crc = new CRC32C();
+                channel.position(HEADER_BYTES);
+
+                byte[] meta = meta(snapshot, source);
+                ByteBuffer metaLength = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(0, meta.length);
+                long body = writeFully(channel, metaLength, crc) + writeFully(channel, ByteBuffer.wrap(meta), crc);
+
+                int rows = snapshot.size();
+                for (int c = 0; c < snapshot.columnCount(); c++) {
+                    List<ByteBuffer> chunks = snapshot.columnChunks(c);
+                    for (int k = 0; k < chunks.size(); k++) {
+                        int chunkRows = Math.min(EmployeeSnapshot.CHUNK_ROWS, rows - k * EmployeeSnapshot.CHUNK_ROWS);
+                        body += writeFully(channel,
+                                chunks.get(k).duplicate().position(0).limit(chunkRows * snapshot.columnWidth(c)), crc);
+                    }
+                }
+                List<ByteBuffer> text = snapshot.textChunks();
+                List<Integer> used = snapshot.textChunkUsedBytes();
+                for (int k = 0; k < text.size(); k++) {
+                    body += writeFully(channel, text.get(k).duplicate().position(0).limit(used.get(k)), crc);
+                }
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                        .putLong(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(rows)
+                        .putLong(snapshot.getLoadedAt())
+                        .putLong(body)
+                        .putInt((int) crc.getValue())
+                        .putInt(0)
+                        .flip();
+                channel.position(0);
+                writeFully(channel, header, null);
+                channel.force(false);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 파일을 매핑해서 스냅샷으로 반환
+    // 형식/버전/길이/체크섬이 맞지 않으면 IOException, 다른 DB의 파일이면 null
+    public static EmployeeSnapshot read(Path file, String source) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getLong() != MAGIC) {
+                throw new IOException("Not an employee snapshot file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " (expected " + VERSION + ")");
+            }
+            int rows = header.getInt();
+            long loadedAt = header.getLong();
+            long bodyBytes = header.getLong();
+            int expectedCrc = header.getInt();
+            if (rows < 0 || channel.size() != HEADER_BYTES + bodyBytes) {
+                throw new IOException("Truncated snapshot file: " + channel.size() + " bytes, expected "
+                        + (HEADER_BYTES + bodyBytes));
+            }
+
+            CRC32C crc = new CRC32C();
+            long position = HEADER_BYTES;
+            ByteBuffer metaLength = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, metaLength, position);
+            crc.update(metaLength.flip());
+            position += Integer.BYTES;
+            int metaBytes = metaLength.getInt(0);
+            if (metaBytes < 0 || position + metaBytes > channel.size()) {
+                throw new IOException("Corrupt snapshot metadata length: " + metaBytes);
+            }
+            ByteBuffer meta = ByteBuffer.allocate(metaBytes);
+            readFully(channel, meta, position);
+            crc.update(meta.flip());
+            position += metaBytes;
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(meta.array()));
+            if (!in.readUTF().equals(source)) {
+                return null;
+            }
+            List<String> names = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                names.add(in.readUTF());
+            }
+            // 숫자가 아닌 SSN의 번호는 프로세스마다 붙이므로 파일과 같은 번호가 나와야 컬럼 값을 그대로 쓸 수 있음
+            int otherSsns = in.readInt();
+            for (int id = 0; id < otherSsns; id++) {
+                String ssn = in.readUTF();
+                if (EmployeeColumnStore.encodeSsn(ssn) != EmployeeColumnStore.OTHER_SSN_START - id) {
+                    throw new IOException("Snapshot SSN codes do not match this process: " + ssn);
+                }
+            }
+            Map<Integer, String> departments = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                departments.put(in.readInt(), in.readUTF());
+            }
+            int[] textUsed = new int[in.readInt()];
+            for (int k = 0; k < textUsed.length; k++) {
+                textUsed[k] = in.readInt();
+            }
+
+            // 컬럼 폭은 빈 스냅샷에서 가져옴 (쓸 때와 같은 순서)
+            EmployeeSnapshot layout = new EmployeeSnapshot(Map.of());
+            List<List<ByteBuffer>> columns = new ArrayList<>();
+            for (int c = 0; c < layout.columnCount(); c++) {
+                List<ByteBuffer> chunks = new ArrayList<>();
+                for (int from = 0; from < rows; from += EmployeeSnapshot.CHUNK_ROWS) {
+                    long bytes = (long) Math.min(EmployeeSnapshot.CHUNK_ROWS, rows - from) * layout.columnWidth(c);
+                    chunks.add(map(channel, position, bytes, crc));
+                    position += bytes;
+                }
+                columns.add(chunks);
+            }
+            List<ByteBuffer> text = new ArrayList<>();
+            for (int used : textUsed) {
+                text.add(map(channel, position, used, crc));
+                position += used;
+            }
+
+            if (position != channel.size()) {
+                throw new IOException("Snapshot layout does not match file length");
+            }
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            return EmployeeSnapshot.mapped(departments, names, loadedAt, rows, columns, text);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt snapshot file: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] meta(EmployeeSnapshot snapshot, String source) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(source);
+        StringDictionary names = snapshot.names();
+        out.writeInt(names.size());
+        for (int id = 0; id < names.size(); id++) {
+            out.writeUTF(names.get(id));
+        }
+        List<String> otherSsns = EmployeeColumnStore.otherSsns();
+        out.writeInt(otherSsns.size());
+        for (String ssn : otherSsns) {
+            out.writeUTF(ssn);
+        }
+        Map<Integer, String> departments = snapshot.getDepartmentNames();
+        out.writeInt(departments.size());
+        for (Map.Entry<Integer, String> department : departments.entrySet()) {
+            out.writeInt(department.getKey());
+            out.writeUTF(department.getValue());
+        }
+        List<Integer> used = snapshot.textChunkUsedBytes();
+        out.writeInt(used.size());
+        for (int bytesUsed : used) {
+            out.writeInt(bytesUsed);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    // 읽기 전용 매핑 - 매핑은 버퍼가 GC될 때 해제되고, 파일이 교체돼도 이전 내용을 계속 가리킴
+    private static ByteBuffer map(FileChannel channel, long position, long bytes, CRC32C crc) throws IOException {
+        if (position + bytes > channel.size()) {
+            throw new IOException("Snapshot section exceeds file length");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes);
+        crc.update(buffer.duplicate());
+        return buffer;
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        if (crc != null) {
+            crc.update(buffer.duplicate());
+        }
+        long written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return written;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of snapshot file");
+            }
+        }
+    }
+
+    private static void restrictToOwner(Path path) {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            // POSIX 권한이 없는 파일 시스템 (Windows 등) - 사용자 폴더 권한에 맡김
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 이름/주소 부분 문자열 검색용 트라이그램(3글자) 색인
+// - 불러온 직원 목록(EmployeeColumnStore 또는 EmployeeSnapshot)에 대해 DB의 LIKE '%x%'와 같은 결과를 메모리에서 바로 계산
+// - 검색어의 트라이그램이 모두 들어 있는 행만 후보로 골라 실제 문자열을 비교하므로 전체를 훑지 않음
+// - 색인에는 행 번호 대신 바뀌지 않는 문서 번호를 넣음 (행이 끼워지거나 지워져도 목록을 고치지 않고 번호 대응표만 갱신)
+// - 뒤에 추가되거나 수정된 행은 다음 검색 때 그 행만 새 문서로 색인하고, 이전 문서는 지운 표시(tombstone)만 남김
+//   지운 문서가 살아 있는 문서보다 많아지면 그때 한 번 처음부터 다시 색인
+public class EmployeeTextIndex {
+
+    public enum Field {
+        NAME, ADDRESS
+    }
+
+    private static final int NONE = -1;                  // 아직 색인하지 않은 행 / 지운 문서
+    private static final int MIN_COMPACT_TOMBSTONES = 1024;
+
+    private final EmployeeColumns store;
+    private final Map<Field, GramTable> postings = new EnumMap<>(Field.class);
+    private int[] docOfRow = new int[0];    // 행 -> 문서 번호 (NONE이면 다음 검색 때 색인)
+    private int trackedRows = 0;            // docOfRow에 반영된 행 수 (그 뒤로 추가된 행은 아직 모름)
+    private int pendingRows = 0;            // docOfRow 중 NONE인 행 수
+    private int[] rowOfDoc = new int[0];    // 문서 번호 -> 행 (NONE이면 지운 문서)
+    private int nextDoc = 0;
+    private int tombstones = 0;
+
+    public EmployeeTextIndex(EmployeeColumns store) {
+        this.store = store;
+        reset();
+    }
+
+    // row 내용이 바뀐 뒤 호출 - 이전 문서를 지우고 다음 검색 때 이 행만 다시 색인
+    public void rowReplaced(int row) {
+        track(store.size());
+        if (row < trackedRows) {
+            forget(row);
+            compactIfNeeded();
+        }
+    }
+
+    // store에서 removed 행들을 지운 뒤 호출 (removed는 지우기 전 행 번호) - 남은 행의 문서 번호는 그대로 당김
+    public void rowsRemoved(BitSet removed) {
+        track(store.size() + removed.cardinality());
+        int target = 0;
+        for (int row = 0; row < trackedRows; row++) {
+            if (removed.get(row)) {
+                forget(row);
+                pendingRows--;
+                continue;
+            }
+            int doc = docOfRow[row];
+            docOfRow[target] = doc;
+            if (doc != NONE) {
+                rowOfDoc[doc] = target;
+            }
+            target++;
+        }
+        trackedRows = target;
+        compactIfNeeded();
+    }
+
+    // store에 행을 끼워 넣은 뒤 호출 (rows는 새 행들의 최종 위치, 오름차순) - 새 행은 다음 검색 때 색인
+    public void rowsInserted(int[] rows) {
+        track(store.size() - rows.length);
+        int[] shifted = new int[Math.max(store.size(), docOfRow.length)];
+        int next = 0;
+        int source = 0;
+        for (int row = 0; row < trackedRows + rows.length; row++) {
+            if (next < rows.length && rows[next] == row) {
+                shifted[row] = NONE;
+                next++;
+                continue;
+            }
+            int doc = docOfRow[source++];
+            shifted[row] = doc;
+            if (doc != NONE) {
+                rowOfDoc[doc] = row;
+            }
+        }
+        docOfRow = shifted;
+        trackedRows += rows.length;
+        pendingRows += rows.length;
+    }
+
+    // text를 포함하는 행 (대소문자 구분 없음, MySQL 기본 collation의 LIKE와 동일)
+    public BitSet search(Field field, String text) {
+        String query = text.toLowerCase(Locale.ROOT);
+        BitSet result = new BitSet(store.size());
+        if (query.isEmpty()) {
+            result.set(0, store.size());
+            return result;
+        }
+        if (query.length() < 3) {
+            // 트라이그램을 만들 수 없는 짧은 검색어는 전체 비교
+            for (int row = 0; row < store.size(); row++) {
+                if (contains(field, row, query)) {
+                    result.set(row);
+                }
+            }
+            return result;
+        }
+
+        catchUp();
+        GramTable table = postings.get(field);
+
+        // 가장 짧은 목록을 기준으로 후보를 고른 뒤 나머지 목록과 교집합
+        long[] grams = trigrams(query);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = table.get(grams[i]);
+            if (lists[i] == null) {
+                return result;
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].docs, lists[0].size);
+        int count = candidates.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            count = intersect(candidates, count, lists[i]);
+        }
+
+        // 트라이그램은 순서를 보장하지 않으므로 실제 문자열로 확인 (지운 문서는 건너뜀)
+        for (int i = 0; i < count; i++) {
+            int row = rowOfDoc[candidates[i]];
+            if (row != NONE && contains(field, row, query)) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    // 아직 색인하지 않은 (추가/수정된) 행을 새 문서로 색인 - 문서 번호가 늘어나는 순서라 목록은 정렬 상태 유지
+    private void catchUp() {
+        track(store.size());
+        if (pendingRows == 0) {
+            return;
+        }
+        if (rowOfDoc.length < nextDoc + pendingRows) {
+            rowOfDoc = Arrays.copyOf(rowOfDoc, Math.max(nextDoc + pendingRows, rowOfDoc.length * 3 / 2));
+        }
+        for (int row = 0; row < trackedRows; row++) {
+            if (docOfRow[row] != NONE) {
+                continue;
+            }
+            int doc = nextDoc++;
+            docOfRow[row] = doc;
+            rowOfDoc[doc] = row;
+            for (Field field : Field.values()) {
+                String value = text(field, row);
+                if (value == null) {
+                    continue;
+                }
+                GramTable table = postings.get(field);
+                String lower = value.toLowerCase(Locale.ROOT);
+                for (int i = 0; i + 2 < lower.length(); i++) {
+                    table.getOrCreate(gram(lower, i)).add(doc);   // 같은 문서의 중복은 Postings.add에서 제거
+                }
+            }
+        }
+        pendingRows = 0;
+    }
+
+    // store 뒤에 추가된 행([trackedRows, rows))을 색인 대기 행으로 등록
+    private void track(int rows) {
+        if (rows <= trackedRows) {
+            return;
+        }
+        if (docOfRow.length < rows) {
+            docOfRow = Arrays.copyOf(docOfRow, Math.max(rows, docOfRow.length * 3 / 2));
+        }
+        Arrays.fill(docOfRow, trackedRows, rows, NONE);
+        pendingRows += rows - trackedRows;
+        trackedRows = rows;
+    }
+
+    // row의 문서를 지운 표시로 바꾸고 색인 대기 상태로 돌림
+    private void forget(int row) {
+        int doc = docOfRow[row];
+        if (doc == NONE) {
+            return;
+        }
+        rowOfDoc[doc] = NONE;
+        docOfRow[row] = NONE;
+        tombstones++;
+        pendingRows++;
+    }
+
+    // 지운 문서가 너무 많으면 목록이 커지고 교집합이 느려지므로 처음부터 다시 색인
+    private void compactIfNeeded() {
+        if (tombstones > Math.max(MIN_COMPACT_TOMBSTONES, nextDoc - tombstones)) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (Field field : Field.values()) {
+            postings.put(field, new GramTable());
+        }
+        Arrays.fill(docOfRow, 0, trackedRows, NONE);
+        pendingRows = trackedRows;
+        rowOfDoc = new int[0];
+        nextDoc = 0;
+        tombstones = 0;
+    }
+
+    private boolean contains(Field field, int row, String lowerQuery) {
+        String value = text(field, row);
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerQuery);
+    }
+
+    // 검색 대상 문자열 - 이름은 DB 검색과 같은 "Fname M. Lname" 형식
+    private String text(Field field, int row) {
+        return switch (field) {
+            case NAME -> store.getFirstName(row) + " " + store.getMinit(row) + ". " + store.getLastName(row);
+            case ADDRESS -> store.getAddress(row);
+        };
+    }
+
+    // 연속된 세 글자를 long 하나로 묶은 값 (중복 제거)
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(text, i);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static long gram(String text, int i) {
+        return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    // 정렬된 candidates[0..count)와 list의 교집합을 candidates 앞쪽에 남기고 개수 반환
+    private static int intersect(int[] candidates, int count, Postings list) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < list.size; i++) {
+            int doc = candidates[i];
+            while (j < list.size && list.docs[j] < doc) {
+                j++;
+            }
+            if (j < list.size && list.docs[j] == doc) {
+                candidates[kept++] = doc;
+            }
+        }
+        return kept;
+    }
+
+    // 트라이그램 -> Postings 해시 테이블 (long 키를 박싱하지 않도록 선형 탐사 방식으로 직접 구현)
+    private static final class GramTable {
+        private long[] keys = new long[1024];
+        private Postings[] values = new Postings[1024];
+        private int size = 0;
+
+        private Postings get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        private Postings getOrCreate(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            Postings created = new Postings();
+            keys[i] = key;
+            values[i] = created;
+            if (++size > keys.length / 2) {
+                resize();
+            }
+            return created;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Postings[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Postings[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = slot(oldKeys[j], mask);
+                    while (values[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+
+    // 트라이그램 하나가 나오는 문서 번호 목록 (번호 순서대로 추가되므로 항상 정렬 상태)
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size = 0;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
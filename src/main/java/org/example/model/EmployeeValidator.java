@@ -0,0 +1,41 @@
+package org.example.model;
+
+// 직원 입력값 검증 규칙 - 직원 추가 화면(DBUpdate)과 일괄 추가(EmployeeImporter)가 함께 사용
+public final class EmployeeValidator {
+    public static final String REQUIRED_MESSAGE = "필수 필드는 반드시 입력되어야 합니다.";
+
+    public enum Field {
+        FIRST_NAME("[a-zA-Z]+", "이름은 영어로 입력해야 합니다.", true),
+        MINIT("[a-zA-Z]", "이니셜은 영어로 입력해야 합니다.", false),
+        LAST_NAME("[a-zA-Z]+", "성은 영어로 입력해야 합니다.", true),
+        SSN("\\d{9}", "SSN은 9자리 숫자여야 합니다.", true),
+        BDATE("\\d{4}-\\d{2}-\\d{2}", "출생일은 YYYY-MM-DD 형식입니다.", false),
+        SEX("[FM]", "성별은 F 또는 M만 입력 가능합니다.", true),
+        SALARY("(\\d{1,8}(\\.\\d{2})?)", "Salary는 소숫점 둘째 자리까지 허용되는 숫자 형식입니다.", false),
+        SUPER_SSN("\\d{9}", "Super_SSN은 9자리 숫자여야 합니다.", false),
+        DNO("\\d{1,2}", "Dno는 1자리 또는 2자리 숫자여야 합니다.", true);
+
+        private final String regEx;
+        private final String errMessage;
+        private final boolean required;
+
+        Field(String regEx, String errMessage, boolean required) {
+            this.regEx = regEx;
+            this.errMessage = errMessage;
+            this.required = required;
+        }
+    }
+
+    private EmployeeValidator() {
+    }
+
+    // 검증을 통과하면 null, 아니면 오류 메시지 반환
+    public static String validate(Field field, String value) {
+        String inputData = value == null ? "" : value.trim();
+
+        if (inputData.isEmpty()) { // 값이 없을 경우
+            return field.required ? REQUIRED_MESSAGE : null;
+        }
+        return inputData.matches(field.regEx) ? null : field.errMessage;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 반복되는 문자열을 한 번만 저장하고 번호(id)로 참조하는 사전
+// 이름/부서명처럼 종류는 적고 행은 많은 컬럼을 int 배열 하나로 저장할 때 사용
+public class StringDictionary {
+    public static final int NULL_ID = -1;
+
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    // 처음 보는 문자열이면 새 번호를 붙임 (null은 NULL_ID)
+    public int idOf(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            values.add(value);
+            ids.put(value, id);
+        }
+        return id;
+    }
+
+    public String get(int id) {
+        return id == NULL_ID ? null : values.get(id);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public void clear() {
+        values.clear();
+        ids.clear();
+    }
+}
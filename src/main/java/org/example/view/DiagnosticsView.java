@@ -0,0 +1,215 @@
+package org.example.view;
+
+import org.example.component.DBQueryRunner;
+import org.example.dao.ConnectionPool;
+import org.example.dao.DaoMetrics;
+import org.example.dao.EmployeeCache;
+import org.example.dao.EmployeeDAO;
+import org.example.dao.EmployeeSummary;
+import org.example.dao.JDBCConnection;
+import org.example.dao.SqlTrace;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.sql.SQLException;
+
+// 작업별 DB 호출 지표(DaoMetrics), SQL 유형별 집계(SqlTrace)와 커넥션 풀/캐시 상태를 1초마다 갱신해서 보여주는 창
+// 어떤 화면 동작이 느린지 운영 중에 바로 확인하기 위한 용도 (같은 값은 JMX로도 조회 가능)
+// 요약 테이블(EMPLOYEE_SUMMARY)이 EMPLOYEE와 맞는지 검사하고 다시 계산하는 관리 기능도 여기서 실행
+public class DiagnosticsView extends JDialog {
+    private static final String[] COLUMNS = {
+            "작업", "호출", "오류", "행 수", "평균(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "최대(ms)"
+    };
+    private static final String[] SQL_COLUMNS = {
+            "SQL 유형", "호출", "오류", "행 수", "총(ms)", "평균(ms)", "p95(ms)", "최대(ms)"
+    };
+
+    private final DefaultTableModel model;
+    private final DefaultTableModel sqlModel;
+    private final JLabel poolLabel;
+    private final JLabel cacheLabel;
+    private final DBQueryRunner summaryRunner;   // 요약 검사/재계산은 EMPLOYEE 전체를 읽으므로 EDT 밖에서 실행
+    private final Timer refreshTimer;
+
+    public DiagnosticsView(Frame parent) {
+        super(parent, "진단 정보", false);
+        setSize(900, 450);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setLocationRelativeTo(parent);
+
+        model = readOnlyModel(COLUMNS);
+        JTable table = new JTable(model);
+        table.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+
+        sqlModel = readOnlyModel(SQL_COLUMNS);
+        JTable sqlTable = new JTable(sqlModel);
+        sqlTable.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        sqlTable.getColumnModel().getColumn(0).setPreferredWidth(400);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        tabs.addTab("작업별", new JScrollPane(table));
+        tabs.addTab("SQL 유형별", new JScrollPane(sqlTable));
+
+        poolLabel = new JLabel();
+        poolLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        cacheLabel = new JLabel();
+        cacheLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+
+        JPanel statusPanel = new JPanel(new GridLayout(2, 1));
+        statusPanel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        statusPanel.add(poolLabel);
+        statusPanel.add(cacheLabel);
+
+        JButton resetButton = new JButton("초기화");
+        resetButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        resetButton.addActionListener(e -> {
+            DaoMetrics.reset();
+            SqlTrace trace = JDBCConnection.getSqlTrace();
+            if (trace != null) {
+                trace.reset();
+            }
+            refresh();
+        });
+        JButton verifySummaryButton = new JButton("요약 검사");
+        verifySummaryButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        verifySummaryButton.addActionListener(e -> verifySummary());
+        JButton rebuildSummaryButton = new JButton("요약 재계산");
+        rebuildSummaryButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        rebuildSummaryButton.addActionListener(e -> rebuildSummary());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(verifySummaryButton);
+        buttonPanel.add(rebuildSummaryButton);
+        buttonPanel.add(resetButton);
+
+        summaryRunner = new DBQueryRunner();
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.add(statusPanel, BorderLayout.CENTER);
+        bottomPanel.add(buttonPanel, BorderLayout.EAST);
+        bottomPanel.add(summaryRunner, BorderLayout.SOUTH);
+
+        add(tabs, BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(1000, e -> refresh());
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                refreshTimer.stop();
+            }
+        });
+        refresh();
+        refreshTimer.start();
+    }
+
+    private void refresh() {
+        model.setRowCount(0);
+        for (DaoMetrics.Stats s : DaoMetrics.getStats()) {
+            model.addRow(new Object[]{
+                    s.operation().getLabel(), s.calls(), s.errors(), s.rows(),
+                    millis(s.meanMicros()), millis(s.p50Micros()), millis(s.p95Micros()),
+                    millis(s.p99Micros()), millis(s.maxMicros())
+            });
+        }
+
+        sqlModel.setRowCount(0);
+        SqlTrace trace = JDBCConnection.getSqlTrace();
+        if (trace != null) {
+            for (SqlTrace.Digest d : trace.getDigests()) {
+                sqlModel.addRow(new Object[]{
+                        d.fingerprint(), d.calls(), d.errors(), d.rows(), millis(d.totalMicros()),
+                        millis(d.meanMicros()), millis(d.p95Micros()), millis(d.maxMicros())
+                });
+            }
+        }
+
+        ConnectionPool.Stats pool = JDBCConnection.getPoolStats();
+        poolLabel.setText(String.format(
+                "커넥션 풀: 사용 %d / 유휴 %d / 대기 %d, 평균 대여 %.1fms, 시간 초과 %d, 문장 캐시 적중률 %.0f%%",
+                pool.active(), pool.idle(), pool.waiters(), pool.avgAcquireMicros() / 1000.0, pool.timeouts(),
+                pool.statementCacheHitRatio() * 100));
+
+        EmployeeCache.Stats cache = EmployeeDAO.getEmployeeCacheStats();
+        cacheLabel.setText(String.format(
+                "직원 캐시: %d / %d건, 적중률 %.0f%%, 검색 SQL 재사용률 %.0f%%, 느린 쿼리 %s",
+                cache.size(), cache.maxEntries(), cache.hitRatio() * 100,
+                EmployeeDAO.getSearchShapeHitRatio() * 100,
+                trace != null ? trace.getSlowQueryCount() + "건" : "추적 안 함"));
+    }
+
+    // 요약 테이블과 EMPLOYEE 집계를 비교 - 어긋난 그룹이 있으면 보여주고 재계산 여부를 물음
+    private void verifySummary() {
+        summaryRunner.submit("요약 테이블 검사",
+                handle -> {
+                    requireSummary();
+                    return EmployeeSummary.verify();
+                },
+                mismatches -> {
+                    if (mismatches.isEmpty()) {
+                        JOptionPane.showMessageDialog(this, "요약 테이블이 EMPLOYEE와 일치합니다.");
+                        return;
+                    }
+                    JTextArea text = new JTextArea(String.join("\n", mismatches), 15, 70);
+                    text.setEditable(false);
+                    int answer = JOptionPane.showConfirmDialog(this,
+                            new Object[]{"어긋난 그룹 " + mismatches.size() + "개 - 요약 테이블을 다시 계산할까요?",
+                                    new JScrollPane(text)},
+                            "요약 테이블 검사", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                    if (answer == JOptionPane.YES_OPTION) {
+                        runRebuild();
+                    }
+                },
+                this::showSummaryError);
+    }
+
+    private void rebuildSummary() {
+        int answer = JOptionPane.showConfirmDialog(this,
+                "EMPLOYEE 전체로 요약 테이블을 다시 계산합니다. 계속할까요?",
+                "요약 재계산", JOptionPane.YES_NO_OPTION);
+        if (answer == JOptionPane.YES_OPTION) {
+            runRebuild();
+        }
+    }
+
+    private void runRebuild() {
+        summaryRunner.submit("요약 테이블 재계산",
+                handle -> {
+                    requireSummary();
+                    EmployeeSummary.rebuild();
+                    return EmployeeSummary.verify();
+                },
+                mismatches -> JOptionPane.showMessageDialog(this, mismatches.isEmpty()
+                        ? "요약 테이블을 다시 계산했습니다."
+                        : "다시 계산했지만 계산 중에 바뀐 그룹이 " + mismatches.size() + "개 있습니다. 다시 검사해 주세요."),
+                this::showSummaryError);
+    }
+
+    private static void requireSummary() throws SQLException {
+        if (!EmployeeSummary.isAvailable()) {
+            throw new SQLException("요약 테이블(EMPLOYEE_SUMMARY)이 없습니다. employee_summary.sql을 먼저 적용하세요.");
+        }
+    }
+
+    private void showSummaryError(SQLException e) {
+        JOptionPane.showMessageDialog(this, "요약 테이블 작업 중 오류가 발생했습니다: " + e.getMessage(),
+                "오류", JOptionPane.ERROR_MESSAGE);
+    }
+
+    private static DefaultTableModel readOnlyModel(String[] columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+}
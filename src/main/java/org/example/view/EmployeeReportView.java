@@ -3,26 +3,36 @@ package org.example.view;
 import org.example.component.DBConditionSearch;
 import org.example.component.DBDelete;
 import org.example.component.DBModify;
+import org.example.component.DBQueryRunner;
 import org.example.component.DBUpdate;
 import org.example.dao.EmployeeDAO;
+import org.example.dao.EmployeePage;
+import org.example.dao.EmployeeSnapshotCache;
+import org.example.dao.JDBCConnection;
+import org.example.importer.EmployeeImporter;
 import org.example.model.Employee;
+import org.example.model.EmployeeSnapshot;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableRowSorter;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
+import java.sql.Timestamp;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.TimeZone;
-import java.util.Vector;
+import java.util.function.Consumer;
 
 
 public class EmployeeReportView extends JFrame {
-    private final SimpleDateFormat dateFormat;
-    private final SimpleDateFormat timestampFormat;
+    private static final ZoneId TIMESTAMP_ZONE = ZoneId.of("Asia/Seoul");  // 수정일시 표시 기준 시간대
     private final String[] attributes = {
             "Name", "Ssn", "Bdate", "Address", "Sex",
             "Salary", "Supervisor", "Department", "Modified"
@@ -34,26 +44,43 @@ public class EmployeeReportView extends JFrame {
     private final DBDelete deletePanel;
     private final DBConditionSearch dbConditionSearch;
     private final DBModify dbModify;
+    private final DBQueryRunner queryRunner;      // 백그라운드 쿼리 실행 및 진행 상황 표시
     private boolean isAdmin = false;  // 로그인한 사용자가 관리자라면 true
     private JButton addAdminButton;
     private JTable resultTable;
-    private DefaultTableModel tableModel;
+    private JScrollPane scrollPane;
+    private AbstractTableModel tableModel;
+    private JTextField nameFilterField;           // 불러온 결과 안에서 이름/주소로 바로 거르는 빠른 필터
+    private JTextField addressFilterField;
 
-    public EmployeeReportView() {
-        // SimpleDateFormat 초기화
-        dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        timestampFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-        timestampFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+    // 스크롤 시 다음 페이지를 이어서 불러오기 위한 상태
+    private EmployeePage.Loader pageLoader;             // 다음 페이지 조회 함수
+    private EmployeePage.Cursor nextPageCursor;         // null이면 더 불러올 페이지 없음
+    private Consumer<List<Employee>> pageAppender;      // 불러온 행을 현재 테이블 모델에 추가
+
+    // 전체 직원 목록의 증분 새로고침 상태 (검색 결과가 표시 중이면 syncModel과 tableModel이 다름)
+    private EmployeeTableModel syncModel;
+    private Timestamp syncWatermark;                    // 마지막으로 반영한 modified 기준 시각
 
-        // 나머지 필드들 초기화
+    // 마지막으로 불러온 전체 직원 스냅샷 - 다른 직원 목록이 표시되면 null (그룹 통계 결과를 보는 동안에는 유지)
+    private EmployeeSnapshot snapshot;
+
+    // 첫 페이지와 그 직전에 읽은 기준 시각
+    private record FirstLoad(Timestamp watermark, EmployeePage page) {
+    }
+
+    public EmployeeReportView() {
+        // 필드들 초기화
         employeeDAO = new EmployeeDAO();
         deletePanel = new DBDelete();
         dbConditionSearch = new DBConditionSearch(this);
         dbModify = new DBModify(this);
+        queryRunner = new DBQueryRunner();
 
         showLoginDialog();
 
         initializeUI();
+        openCachedSnapshot();
     }
 
     public static void main(String[] args) {
@@ -89,7 +116,7 @@ public class EmployeeReportView extends JFrame {
                 "", "NAME", "SSN", "BDATE", "ADDRESS", "SEX",
                 "SALARY", "SUPERVISOR", "DEPARTMENT", "MODIFIED"
         };
-        tableModel = new DefaultTableModel(columnNames, 0) {
+        DefaultTableModel emptyModel = new DefaultTableModel(columnNames, 0) {
             @Override
             public Class<?> getColumnClass(int column) {
                 return column == 0 ? Boolean.class : Object.class;
@@ -100,119 +127,162 @@ public class EmployeeReportView extends JFrame {
                 return column == 0;
             }
         };
-        resultTable.setModel(tableModel);
+        tableModel = emptyModel;
+        resultTable.setModel(emptyModel);
     }
 
     private void loadEmployeeData() {
+        stopPaging();
+
         // 선택된 직원 정보 초기화 (테이블 새로고침 시 선택 상태 리셋)
         selectedEmployeeNames.clear();
         selectedEmployeeSsns.clear();
         deletePanel.updateSelectedEmployees(selectedEmployeeNames, selectedEmployeeSsns);
         dbModify.setSelectedSsns(selectedEmployeeSsns);
 
-        // 현재 선택된 컬럼들의 순서를 보존하기 위한 리스트
+        // 현재 선택된 컬럼 순서대로 표시하는 컬럼형 테이블 모델 생성
+        EmployeeTableModel model = new EmployeeTableModel(getSelectedColumns(), TIMESTAMP_ZONE);
+
+        // 데이터베이스에서 전체 직원 정보 조회 (EDT를 막지 않도록 백그라운드에서 실행)
+        // 첫 페이지만 먼저 보여주고 나머지는 스크롤할 때 이어서 조회
+        queryRunner.submit("직원 목록 조회",
+                handle -> {
+                    Timestamp watermark = employeeDAO.getModifiedWatermark();
+                    return new FirstLoad(watermark,
+                            employeeDAO.getEmployeePage(null, EmployeeDAO.DEFAULT_PAGE_SIZE, handle));
+                },
+                load -> {
+                    showEmployeeData(model, load.page());
+                    syncModel = model;
+                    syncWatermark = load.watermark();
+                },
+                e -> {
+                    // 데이터 로드 중 오류 발생 시 사용자에게 알림
+                    JOptionPane.showMessageDialog(this,
+                            "데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage(),
+                            "에러",
+                            JOptionPane.ERROR_MESSAGE);
+                });
+    }
+
+    // 이전 실행에서 저장한 스냅샷 파일이 있으면 DB를 읽기 전에 바로 표시하고, 백그라운드에서 DB와 비교
+    // (다르면 DB에서 다시 읽은 스냅샷으로 교체)
+    private void openCachedSnapshot() {
+        EmployeeSnapshotCache cache = JDBCConnection.getSnapshotCache();
+        EmployeeSnapshot cached = cache == null ? null : cache.open();
+        if (cached == null) {
+            return;
+        }
+        showSnapshot(cached);
+
+        queryRunner.submit("스냅샷 확인",
+                handle -> cache.revalidate(cached, handle),
+                current -> {
+                    // 그 사이 다른 목록으로 바뀌었으면 버림
+                    if (current != cached && snapshot == cached) {
+                        showSnapshot(current);
+                    }
+                },
+                e -> JOptionPane.showMessageDialog(this,
+                        "저장된 스냅샷을 DB와 비교하는 중 오류가 발생했습니다: " + e.getMessage(),
+                        "에러",
+                        JOptionPane.ERROR_MESSAGE));
+    }
+
+    // 전체 직원을 힙 밖 스냅샷으로 한 번에 읽어서 표시 (읽기 전용 - 증분 새로고침/페이지 로딩 없음)
+    // 추가/수정/삭제 후에는 스냅샷을 다시 읽지 않고 페이지 단위 목록으로 돌아감 (refreshTable)
+    // 스냅샷을 불러온 뒤에는 조건 없는 그룹 통계도 DB 대신 스냅샷에서 계산
+    // 스냅샷 파일을 쓰는 설정이면 다음 실행을 위해 파일도 교체
+    private void loadSnapshot() {
+        EmployeeSnapshotCache cache = JDBCConnection.getSnapshotCache();
+        queryRunner.submit("전체 스냅샷 조회",
+                handle -> cache != null ? cache.load(handle) : employeeDAO.loadSnapshot(handle),
+                this::showSnapshot,
+                e -> JOptionPane.showMessageDialog(this,
+                        "데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage(),
+                        "에러",
+                        JOptionPane.ERROR_MESSAGE));
+    }
+
+    private void showSnapshot(EmployeeSnapshot loaded) {
+        clearSelectedEmployees();
+        // 이전 스냅샷의 버퍼는 참조가 없어진 뒤 GC가 정리 (파일 매핑도 이때 해제)
+        updateTableModel(new EmployeeTableModel(loaded, getSelectedColumns(), TIMESTAMP_ZONE));
+        syncModel = null;
+    }
+
+    // 불러온 전체 직원 스냅샷 (없으면 null)
+    public EmployeeSnapshot getCurrentSnapshot() {
+        return snapshot;
+    }
+
+    private void showEmployeeData(EmployeeTableModel model, EmployeePage firstPage) {
+        model.addEmployees(firstPage.employees());
+
+        // 테이블 모델 업데이트 (체크박스 열 및 컬럼 너비 설정 포함)
+        updateTableModel(model);
+
+        startPaging(firstPage,
+                (cursor, handle) -> employeeDAO.getEmployeePage(cursor, EmployeeDAO.DEFAULT_PAGE_SIZE, handle),
+                model::addEmployees);
+    }
+
+    // 체크된 검색 항목을 화면 순서대로 대문자 컬럼명으로 반환
+    public List<String> getSelectedColumns() {
         List<String> selectedColumns = new ArrayList<>();
         for (JCheckBox checkBox : checkBoxes) {
             if (checkBox.isSelected()) {
                 selectedColumns.add(checkBox.getText().toUpperCase());
             }
         }
+        return selectedColumns;
+    }
 
-        // 체크박스 기능을 포함한 커스텀 테이블 모델 생성
-        DefaultTableModel model = new DefaultTableModel() {
-            @Override
-            public Class<?> getColumnClass(int column) {
-                // 첫 번째 열은 체크박스로 표시
-                return column == 0 ? Boolean.class : Object.class;
-            }
-
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                // 체크박스 열만 편집 가능하도록 설정
-                return column == 0;
-            }
-        };
+    // 첫 페이지를 표시한 뒤 호출 - 이후 스크롤이 끝에 닿으면 loader로 다음 페이지를 불러옴
+    public void startPaging(EmployeePage firstPage, EmployeePage.Loader loader, Consumer<List<Employee>> appender) {
+        pageLoader = loader;
+        nextPageCursor = firstPage.next();
+        pageAppender = appender;
+        SwingUtilities.invokeLater(this::loadNextPageIfNeeded);
+    }
 
-        // 체크박스 열 추가 (첫 번째 열)
-        model.addColumn("");
+    private void stopPaging() {
+        pageLoader = null;
+        nextPageCursor = null;
+        pageAppender = null;
+    }
 
-        // 선택된 컬럼들을 순서대로 추가
-        for (String columnName : selectedColumns) {
-            model.addColumn(columnName);
+    // 스크롤이 바닥 근처이거나 화면이 다 채워지지 않았으면 다음 페이지 조회
+    private void loadNextPageIfNeeded() {
+        if (pageLoader == null || nextPageCursor == null || queryRunner.isRunning()) {
+            return;
+        }
+        BoundedRangeModel scroll = scrollPane.getVerticalScrollBar().getModel();
+        int threshold = resultTable.getRowHeight() * 20;
+        if (scroll.getValue() + scroll.getExtent() < scroll.getMaximum() - threshold) {
+            return;
         }
 
-        try {
-            // 데이터베이스에서 전체 직원 정보 조회
-            List<Employee> employees = employeeDAO.getAllEmployees();
-
-            // 각 직원의 데이터를 행으로 추가
-            for (Employee emp : employees) {
-                Vector<Object> rowData = new Vector<>();
-                rowData.add(false);  // 체크박스 초기값 (미선택)
-
-                // 선택된 컬럼 순서대로 데이터 추가
-                for (String column : selectedColumns) {
-                    switch (column) {
-                        case "NAME" -> rowData.add(emp.getFirstName() + " " +
-                                emp.getMinit() + ". " +
-                                emp.getLastName());
-                        case "SSN" -> rowData.add(emp.getSsn());
-                        case "BDATE" -> rowData.add(emp.getBirthDate() != null ?
-                                dateFormat.format(emp.getBirthDate()) :
-                                "");
-                        case "ADDRESS" -> rowData.add(emp.getAddress());
-                        case "SEX" -> rowData.add(emp.getSex());
-                        case "SALARY" -> rowData.add(String.format("%.2f", emp.getSalary()));
-                        case "SUPERVISOR" -> rowData.add(emp.getSupervisorSsn());
-                        case "DEPARTMENT" -> rowData.add(emp.getDepartmentName());
-                        case "MODIFIED" -> rowData.add(emp.getModified() != null ?
-                                timestampFormat.format(emp.getModified()) :
-                                "");
+        AbstractTableModel targetModel = tableModel;
+        EmployeePage.Loader loader = pageLoader;
+        EmployeePage.Cursor cursor = nextPageCursor;
+        Consumer<List<Employee>> appender = pageAppender;
+
+        queryRunner.submit("다음 페이지 조회",
+                handle -> loader.load(cursor, handle),
+                page -> {
+                    // 그 사이 다른 검색으로 테이블이 바뀌었으면 버림
+                    if (tableModel != targetModel || pageLoader != loader) {
+                        return;
                     }
-                }
-                model.addRow(rowData);
-            }
-
-            // 테이블 모델 업데이트
-            tableModel = model;
-            resultTable.setModel(model);
-            TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(model);
-            resultTable.setRowSorter(sorter);
-
-            // 테이블 컬럼 설정
-            if (resultTable.getColumnCount() > 0) {
-                // 체크박스 열 설정
-                resultTable.getColumnModel().getColumn(0).setMaxWidth(30);  // 체크박스 열 너비를 최소화
-                resultTable.getColumnModel().getColumn(0).setCellEditor(
-                        new DefaultCellEditor(new JCheckBox()));
-
-                // 체크박스 렌더러 설정 (체크박스 중앙 정렬)
-                resultTable.getColumnModel().getColumn(0).setCellRenderer(
-                        new DefaultTableCellRenderer() {
-                            private final JCheckBox checkBox = new JCheckBox();
-
-                            @Override
-                            public Component getTableCellRendererComponent(
-                                    JTable table, Object value,
-                                    boolean isSelected, boolean hasFocus,
-                                    int row, int column) {
-                                checkBox.setSelected(value != null && (Boolean) value);
-                                checkBox.setHorizontalAlignment(JLabel.CENTER);
-                                return checkBox;
-                            }
-                        });
-            }
-
-            // 체크박스 선택 이벤트 리스너 추가
-            addCheckboxListener(model);
-
-        } catch (SQLException e) {
-            // 데이터 로드 중 오류 발생 시 사용자에게 알림
-            JOptionPane.showMessageDialog(this,
-                    "데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage(),
-                    "에러",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+                    appender.accept(page.employees());
+                    nextPageCursor = page.next();
+                    SwingUtilities.invokeLater(this::loadNextPageIfNeeded);
+                },
+                e -> JOptionPane.showMessageDialog(this,
+                        "데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage(),
+                        "에러",
+                        JOptionPane.ERROR_MESSAGE));
     }
 
     private JPanel createTopPanel() {
@@ -228,6 +298,7 @@ public class EmployeeReportView extends JFrame {
         for (String attr : attributes) {
             JCheckBox checkBox = new JCheckBox(attr);
             checkBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+            checkBox.addItemListener(e -> updateVisibleColumns());
             checkBoxes.add(checkBox);
             checkBoxPanel.add(checkBox);
         }
@@ -257,7 +328,7 @@ public class EmployeeReportView extends JFrame {
                 "SALARY", "SUPERVISOR", "DEPARTMENT", "MODIFIED"
         };
 
-        tableModel = new DefaultTableModel(columnNames, 0) {
+        DefaultTableModel emptyModel = new DefaultTableModel(columnNames, 0) {
             @Override
             public Class<?> getColumnClass(int column) {
                 return column == 0 ? Boolean.class : Object.class;
@@ -268,6 +339,7 @@ public class EmployeeReportView extends JFrame {
                 return column == 0;
             }
         };
+        tableModel = emptyModel;
 
         resultTable = new JTable(tableModel);
 
@@ -307,11 +379,59 @@ public class EmployeeReportView extends JFrame {
             }
         });
 
-        JScrollPane scrollPane = new JScrollPane(resultTable);
+        panel.add(createQuickFilterPanel(), BorderLayout.NORTH);
+
+        scrollPane = new JScrollPane(resultTable);
+        scrollPane.getVerticalScrollBar().getModel().addChangeListener(e -> loadNextPageIfNeeded());
         panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(queryRunner, BorderLayout.SOUTH);  // 쿼리 진행 상황 및 취소 버튼
         return panel;
     }
 
+    // 입력할 때마다 DB 조회 없이 현재 테이블에서 이름/주소 부분 문자열로 거름 (트라이그램 색인 사용)
+    private JPanel createQuickFilterPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        nameFilterField = new JTextField(15);
+        addressFilterField = new JTextField(20);
+
+        javax.swing.event.DocumentListener listener = new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) {
+                applyQuickFilter();
+            }
+
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) {
+                applyQuickFilter();
+            }
+
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) {
+                applyQuickFilter();
+            }
+        };
+        nameFilterField.getDocument().addDocumentListener(listener);
+        addressFilterField.getDocument().addDocumentListener(listener);
+
+        JLabel nameLabel = new JLabel("이름 필터");
+        nameLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        JLabel addressLabel = new JLabel("주소 필터");
+        addressLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        panel.add(nameLabel);
+        panel.add(nameFilterField);
+        panel.add(addressLabel);
+        panel.add(addressFilterField);
+        return panel;
+    }
+
+    private void applyQuickFilter() {
+        if (tableModel instanceof EmployeeTableModel model
+                && resultTable.getRowSorter() instanceof TableRowSorter<?> sorter) {
+            model.setTextFilter(nameFilterField.getText(), addressFilterField.getText());
+            sorter.sort();
+        }
+    }
+
     private JPanel createBottomPanel() {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(5, 10, 10, 10));
@@ -346,6 +466,17 @@ public class EmployeeReportView extends JFrame {
         }
         buttonPanel.add(addButton);
 
+        // 파일로 직원 일괄 추가 버튼
+        JButton importButton = new JButton("일괄 추가");
+        importButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        if (isAdmin) {
+            importButton.addActionListener(e -> showImportDialog());
+        } else {
+            importButton.setEnabled(false);
+            importButton.setToolTipText("관리자 권한이 필요합니다");
+        }
+        buttonPanel.add(importButton);
+
         // 관리자 추가 버튼
         addAdminButton = new JButton("관리자 추가");
         addAdminButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
@@ -357,6 +488,18 @@ public class EmployeeReportView extends JFrame {
         }
         buttonPanel.add(addAdminButton);
 
+        // 전체 직원 스냅샷 버튼 (페이지 단위가 아니라 전체를 한 번에 메모리에 올림)
+        JButton snapshotButton = new JButton("전체 스냅샷");
+        snapshotButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        snapshotButton.addActionListener(e -> loadSnapshot());
+        buttonPanel.add(snapshotButton);
+
+        // 진단 정보 버튼 (작업별 DB 호출 지표)
+        JButton diagnosticsButton = new JButton("진단");
+        diagnosticsButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        diagnosticsButton.addActionListener(e -> new DiagnosticsView(this).setVisible(true));
+        buttonPanel.add(diagnosticsButton);
+
         topPanel.add(buttonPanel, BorderLayout.EAST);
         panel.add(topPanel, BorderLayout.NORTH);
 
@@ -379,6 +522,18 @@ public class EmployeeReportView extends JFrame {
         selectedEmployeeNames.clear();
         selectedEmployeeSsns.clear();
 
+        if (tableModel instanceof EmployeeTableModel model) {
+            // 컬럼형 모델은 표시 컬럼과 상관없이 저장소에서 이름/SSN을 바로 읽음
+            BitSet checked = model.getCheckedRows();
+            for (int i = checked.nextSetBit(0); i >= 0; i = checked.nextSetBit(i + 1)) {
+                selectedEmployeeNames.add(model.getDisplayName(i));
+                selectedEmployeeSsns.add(model.getSsn(i));
+            }
+            deletePanel.updateSelectedEmployees(selectedEmployeeNames, selectedEmployeeSsns);
+            dbModify.setSelectedSsns(selectedEmployeeSsns);
+            return;
+        }
+
         for (int i = 0; i < tableModel.getRowCount(); i++) {
             Boolean isSelected = (Boolean) tableModel.getValueAt(i, 0);
             if (Boolean.TRUE.equals(isSelected)) {
@@ -393,12 +548,49 @@ public class EmployeeReportView extends JFrame {
         dbModify.setSelectedSsns(selectedEmployeeSsns);
     }
 
+    // CSV/JSON 파일을 선택해 백그라운드에서 일괄 추가
+    private void showImportDialog() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV / JSON", "csv", "json", "jsonl"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path source = chooser.getSelectedFile().toPath();
+        Path rejectFile = source.resolveSibling(source.getFileName() + ".rejects.csv");
+
+        queryRunner.submit("직원 일괄 추가",
+                handle -> {
+                    try {
+                        return new EmployeeImporter().importFile(source, rejectFile, handle);
+                    } catch (IOException e) {
+                        throw new SQLException("파일을 읽는 중 오류가 발생했습니다: " + e.getMessage(), e);
+                    }
+                },
+                report -> {
+                    String message = String.format(
+                            "총 %d건 중 %d건 추가, %d건 거부 (%.0f건/초)",
+                            report.totalRows(), report.insertedRows(), report.rejectedRows(), report.rowsPerSecond());
+                    if (report.rejectFile() != null) {
+                        message += "\n거부된 행: " + report.rejectFile();
+                    }
+                    JOptionPane.showMessageDialog(this, message, "일괄 추가 완료", JOptionPane.INFORMATION_MESSAGE);
+                    refreshTable();
+                },
+                e -> JOptionPane.showMessageDialog(this,
+                        "일괄 추가 중 오류가 발생했습니다: " + e.getMessage(),
+                        "오류",
+                        JOptionPane.ERROR_MESSAGE));
+    }
+
     private void showAddEmployeeDialog() {
         DBUpdate dialog = new DBUpdate(this);
         dialog.setVisible(true);
     }
 
-    public void updateTableModel(DefaultTableModel newModel) {
+    public void updateTableModel(AbstractTableModel newModel) {
+        // 이전 결과의 페이지 로딩 중단 (페이지 단위 결과라면 호출한 쪽에서 startPaging을 다시 호출)
+        stopPaging();
+
         // 검색으로 테이블 초기화 되었을 때 튜플 체크할 수 있게 업데이트
         if (tableModel != null) {
             for (var listener : tableModel.getTableModelListeners()) {
@@ -408,11 +600,40 @@ public class EmployeeReportView extends JFrame {
 
 
         tableModel = newModel;  // 클래스의 tableModel 필드 업데이트
+        if (newModel instanceof EmployeeTableModel model) {
+            snapshot = model.getColumns() instanceof EmployeeSnapshot loaded ? loaded : null;
+        }
         resultTable.setModel(newModel);
-        TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(newModel);
+        TableRowSorter<AbstractTableModel> sorter = new TableRowSorter<>(newModel);
+        if (newModel instanceof EmployeeTableModel model) {
+            model.setTextFilter(nameFilterField.getText(), addressFilterField.getText());
+            sorter.setRowFilter(new RowFilter<AbstractTableModel, Integer>() {
+                @Override
+                public boolean include(Entry<? extends AbstractTableModel, ? extends Integer> entry) {
+                    return model.isRowVisible(entry.getIdentifier());
+                }
+            });
+        }
         resultTable.setRowSorter(sorter);
 
-        if (newModel.getColumnCount() > 2) {
+        if (hasCheckboxColumn(newModel)) {
+            newModel.addTableModelListener(e -> {
+                if (e.getColumn() == 0) {
+                    updateSelectedEmployees();
+                }
+            });
+        }
+        configureColumns();
+    }
+
+    // 직원 목록이면 첫 열이 체크박스 (그룹 통계 결과에는 없음)
+    private static boolean hasCheckboxColumn(AbstractTableModel model) {
+        return model.getColumnCount() > 1 && model.getColumnClass(0) == Boolean.class;
+    }
+
+    // 체크박스 열 렌더러/에디터와 컬럼별 너비 설정 (컬럼 구조가 바뀔 때마다 다시 적용)
+    private void configureColumns() {
+        if (hasCheckboxColumn(tableModel)) {
             resultTable.getColumnModel().getColumn(0).setMaxWidth(30);
             resultTable.getColumnModel().getColumn(0).setCellEditor(new DefaultCellEditor(new JCheckBox()));
             resultTable.getColumnModel().getColumn(0).setCellRenderer(new DefaultTableCellRenderer() {
@@ -427,14 +648,8 @@ public class EmployeeReportView extends JFrame {
                 }
             });
 
-            newModel.addTableModelListener(e -> {
-                if (e.getColumn() == 0) {
-                    updateSelectedEmployees();
-                }
-            });
-
-            for (int i = 1; i < newModel.getColumnCount(); i++) {
-                String columnName = newModel.getColumnName(i);
+            for (int i = 1; i < tableModel.getColumnCount(); i++) {
+                String columnName = tableModel.getColumnName(i);
                 switch (columnName) {
                     case "NAME" -> resultTable.getColumnModel().getColumn(i).setPreferredWidth(150);
                     case "SSN" -> resultTable.getColumnModel().getColumn(i).setPreferredWidth(100);
@@ -450,12 +665,20 @@ public class EmployeeReportView extends JFrame {
         }
     }
 
+    // 검색 항목 체크박스 변경 시 - 컬럼형 모델이면 데이터를 다시 읽지 않고 컬럼 매핑만 변경
+    private void updateVisibleColumns() {
+        if (tableModel instanceof EmployeeTableModel model) {
+            model.setVisibleColumns(getSelectedColumns());
+            configureColumns();
+        }
+    }
+
     public List<JCheckBox> getCheckBoxes() {
         return checkBoxes;
     }
 
     // 튜플 체크 박스 초기화 후 선택 가능하게 함
-    public void addCheckboxListener(DefaultTableModel model) {
+    public void addCheckboxListener(AbstractTableModel model) {
         model.addTableModelListener(e -> {
             if (e.getColumn() == 0) {
                 updateSelectedEmployees();
@@ -471,11 +694,41 @@ public class EmployeeReportView extends JFrame {
         dbModify.setSelectedSsns(selectedEmployeeSsns);
     }
 
+    // 추가/수정/삭제 후 호출 - 전체 직원 목록이 표시 중이면 바뀐 행만 반영하고, 아니면 처음부터 다시 조회
+    // (스냅샷을 보고 있었으면 한 행 때문에 전체를 다시 읽지 않고 페이지 단위 목록으로 돌아감)
     public void refreshTable() {
-        loadEmployeeData();
+        if (syncModel == null || tableModel != syncModel) {
+            loadEmployeeData();
+            return;
+        }
+
+        EmployeeTableModel model = syncModel;
+        Timestamp since = syncWatermark;
+        EmployeePage.Cursor loadedUpTo = nextPageCursor;   // null이면 모든 페이지를 읽은 상태
+
+        queryRunner.submit("변경 내용 조회",
+                handle -> employeeDAO.getChangesSince(since, loadedUpTo, handle),
+                changes -> {
+                    // 그 사이 다른 검색/새로고침으로 테이블이 바뀌었으면 버림
+                    if (tableModel != model || nextPageCursor != loadedUpTo) {
+                        return;
+                    }
+                    model.applyChanges(changes.upserts(), changes.liveSsns());
+                    syncWatermark = changes.watermark();
+                    updateSelectedEmployees();
+                    SwingUtilities.invokeLater(this::loadNextPageIfNeeded);
+                },
+                e -> JOptionPane.showMessageDialog(this,
+                        "데이터를 불러오는 중 오류가 발생했습니다: " + e.getMessage(),
+                        "에러",
+                        JOptionPane.ERROR_MESSAGE));
     }
 
     public JTable getResultTable() {
         return resultTable;
     }
+
+    public DBQueryRunner getQueryRunner() {
+        return queryRunner;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,354 @@
+package org.example.view;
+
+import org.example.model.Employee;
+import org.example.model.EmployeeColumnStore;
+import org.example.model.EmployeeColumns;
+import org.example.model.EmployeeSnapshot;
+import org.example.model.EmployeeTextIndex;
+
+import javax.swing.table.AbstractTableModel;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 컬럼 저장소(EmployeeColumnStore)를 그대로 읽어 보여주는 테이블 모델
+// - 셀 값은 화면에 그릴 때만 만들어지고, 체크박스 상태는 BitSet 하나로 관리
+// - 표시할 컬럼을 바꿔도 데이터는 다시 만들지 않고 컬럼 매핑만 변경
+// - 전체 직원 스냅샷(EmployeeSnapshot)을 보여줄 때는 읽기 전용 (행 추가/증분 반영 불가)
+public class EmployeeTableModel extends AbstractTableModel {
+
+    // 체크박스 텍스트(대문자)와 같은 이름의 표시 가능한 컬럼
+    public enum Column {
+        NAME, SSN, BDATE, ADDRESS, SEX, SALARY, SUPERVISOR, DEPARTMENT, MODIFIED
+    }
+
+    private final EmployeeColumns data;                // 화면에 보여주는 행 (읽기는 모두 여기서)
+    private final EmployeeColumnStore store;           // 행을 추가/교체할 수 있는 저장소 (스냅샷이면 null)
+    private final BitSet checked = new BitSet();       // 0번 체크박스 열 상태
+    private final DateTimeFormatter timestampFormat;
+    private Column[] visibleColumns;                   // 화면 컬럼(1번부터) -> 데이터 컬럼
+
+    // 빠른 필터 (이름/주소 부분 문자열) - 결과는 필요할 때 색인으로 다시 계산
+    private final EmployeeTextIndex textIndex;
+    private String nameFilter = "";
+    private String addressFilter = "";
+    private BitSet filterMatches;                      // null이면 다시 계산 필요
+
+    public EmployeeTableModel(List<String> columnNames, ZoneId timestampZone) {
+        this(new EmployeeColumnStore(256), columnNames, timestampZone);
+    }
+
+    // 전체 직원 스냅샷을 그대로 보여주는 읽기 전용 모델
+    public EmployeeTableModel(EmployeeSnapshot snapshot, List<String> columnNames, ZoneId timestampZone) {
+        this((EmployeeColumns) snapshot, columnNames, timestampZone);
+    }
+
+    private EmployeeTableModel(EmployeeColumns data, List<String> columnNames, ZoneId timestampZone) {
+        this.data = data;
+        this.store = data instanceof EmployeeColumnStore columnStore ? columnStore : null;
+        this.timestampFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(timestampZone);
+        this.visibleColumns = toColumns(columnNames);
+        this.textIndex = new EmployeeTextIndex(data);
+    }
+
+    private static Column[] toColumns(List<String> columnNames) {
+        List<Column> columns = new ArrayList<>();
+        for (String name : columnNames) {
+            columns.add(Column.valueOf(name.toUpperCase()));
+        }
+        return columns.toArray(new Column[0]);
+    }
+
+    // 체크박스에서 표시 항목을 바꿨을 때 호출 - 행 데이터는 그대로 두고 컬럼 매핑만 교체
+    public void setVisibleColumns(List<String> columnNames) {
+        visibleColumns = toColumns(columnNames);
+        fireTableStructureChanged();
+    }
+
+    public void addEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        checkWritable();
+        int first = data.size();
+        store.addAll(employees);
+        filterMatches = null;   // 색인은 다음 검색 때 추가된 행만 이어서 색인
+        fireTableRowsInserted(first, data.size() - 1);
+    }
+
+    // 증분 새로고침 결과 반영 - 바뀐 행만 교체/추가하고 liveSsns에 없는 행은 제거
+    // (전체 모델을 새로 만들지 않으므로 스크롤 위치와 체크 상태가 유지됨)
+    // 행은 DB 조회와 같은 (Fname, Lname, Ssn) 순서를 유지 - 새 행은 정렬 위치에 넣고, 이름이 바뀐 행은 옮김
+    public void applyChanges(List<Employee> upserts, Set<String> liveSsns) {
+        checkWritable();
+        Map<Integer, Integer> rowBySsn = new HashMap<>(data.size() * 2);
+        for (int row = 0; row < data.size(); row++) {
+            rowBySsn.put(data.getSsn(row), row);
+        }
+
+        List<Employee> inserted = new ArrayList<>();
+        BitSet moved = new BitSet();                  // 정렬 위치가 바뀌어 지웠다가 다시 넣을 행
+        Set<String> checkedMoved = new HashSet<>();   // 옮긴 뒤에도 체크 상태를 유지할 SSN
+        int added = 0;                                // 목록에 없던 직원 수
+        for (Employee employee : upserts) {
+            Integer row = rowBySsn.get(EmployeeColumnStore.encodeSsn(employee.getSsn()));
+            if (row == null) {
+                inserted.add(employee);
+                added++;
+            } else if (compareKey(employee, row) != 0) {
+                moved.set(row);
+                if (checked.get(row)) {
+                    checkedMoved.add(employee.getSsn());
+                }
+                inserted.add(employee);
+            } else {
+                store.replace(row, employee);
+                textIndex.rowReplaced(row);
+                filterMatches = null;
+                fireTableRowsUpdated(row, row);
+            }
+        }
+
+        // 두 조회 사이에 삭제된 행은 추가하지 않음
+        inserted.removeIf(employee -> !liveSsns.contains(employee.getSsn()));
+
+        // 현재 행 + 새 행 수가 liveSsns 크기와 같으면 지워진 행이 없음
+        BitSet removed = moved;
+        if (liveSsns.size() != data.size() + added) {
+            for (int row = 0; row < data.size(); row++) {
+                if (!liveSsns.contains(EmployeeColumnStore.decodeSsn(data.getSsn(row)))) {
+                    removed.set(row);
+                }
+            }
+        }
+        removeRows(removed);
+
+        insertSorted(inserted, checkedMoved);
+    }
+
+    // 행들을 (Fname, Lname, Ssn) 정렬 위치에 끼워 넣음 - 위치는 이진 탐색, 기존 행은 한 번에 당김
+    private void insertSorted(List<Employee> employees, Set<String> checkedSsns) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        List<Employee> sorted = new ArrayList<>(employees);
+        sorted.sort(EmployeeTableModel::compareKey);
+        int[] rows = new int[sorted.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = insertionPoint(sorted.get(i)) + i;   // 앞에 넣은 i개만큼 뒤로 밀림
+        }
+        store.insertRows(rows, sorted);
+        textIndex.rowsInserted(rows);
+        filterMatches = null;
+
+        // 체크 상태도 새 행 번호 기준으로 밀고, 옮긴 행은 원래 체크 상태 유지
+        BitSet shifted = new BitSet();
+        int next = 0;
+        for (int row = 0, source = 0; row < data.size(); row++) {
+            if (next < rows.length && rows[next] == row) {
+                shifted.set(row, checkedSsns.contains(sorted.get(next).getSsn()));
+                next++;
+            } else {
+                shifted.set(row, checked.get(source++));
+            }
+        }
+        checked.clear();
+        checked.or(shifted);
+
+        // 앞쪽 행부터 추가 이벤트를 보내야 뒤쪽 행 번호가 어긋나지 않음
+        for (int row : rows) {
+            fireTableRowsInserted(row, row);
+        }
+    }
+
+    // employee보다 정렬 순서가 앞선 행 수 (같은 키는 없음 - Ssn이 다름)
+    private int insertionPoint(Employee employee) {
+        int low = 0;
+        int high = data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKey(employee, mid) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // DB의 ORDER BY e.Fname, e.Lname, e.Ssn과 같은 순서 (MySQL 기본 collation처럼 이름은 대소문자 구분 없음)
+    private int compareKey(Employee employee, int row) {
+        int c = compareText(employee.getFirstName(), data.getFirstName(row));
+        if (c == 0) {
+            c = compareText(employee.getLastName(), data.getLastName(row));
+        }
+        return c != 0 ? c : employee.getSsn().compareTo(EmployeeColumnStore.decodeSsn(data.getSsn(row)));
+    }
+
+    private static int compareKey(Employee a, Employee b) {
+        int c = compareText(a.getFirstName(), b.getFirstName());
+        if (c == 0) {
+            c = compareText(a.getLastName(), b.getLastName());
+        }
+        return c != 0 ? c : a.getSsn().compareTo(b.getSsn());
+    }
+
+    private static int compareText(String a, String b) {
+        return String.CASE_INSENSITIVE_ORDER.compare(a == null ? "" : a, b == null ? "" : b);
+    }
+
+    public boolean isReadOnly() {
+        return store == null;
+    }
+
+    private void checkWritable() {
+        if (store == null) {
+            throw new IllegalStateException("Snapshot table model is read-only");
+        }
+    }
+
+    private void removeRows(BitSet removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        // 체크 상태도 남은 행 기준으로 당김
+        BitSet remaining = new BitSet();
+        int target = 0;
+        for (int row = 0; row < data.size(); row++) {
+            if (!removed.get(row)) {
+                remaining.set(target++, checked.get(row));
+            }
+        }
+        store.removeRows(removed);
+        textIndex.rowsRemoved(removed);
+        filterMatches = null;
+        checked.clear();
+        checked.or(remaining);
+
+        // 뒤쪽 행부터 삭제 이벤트를 보내야 앞쪽 행 번호가 어긋나지 않음
+        for (int row = removed.length() - 1; row >= 0; row = removed.previousSetBit(row - 1)) {
+            fireTableRowsDeleted(row, row);
+        }
+    }
+
+    // 이름/주소 빠른 필터 설정 (빈 문자열이면 해당 조건 없음, 두 조건은 AND)
+    public void setTextFilter(String name, String address) {
+        nameFilter = name == null ? "" : name.trim();
+        addressFilter = address == null ? "" : address.trim();
+        filterMatches = null;
+    }
+
+    public boolean hasTextFilter() {
+        return !nameFilter.isEmpty() || !addressFilter.isEmpty();
+    }
+
+    // 테이블 RowFilter에서 호출 - 필터 조건에 맞는 행인지
+    public boolean isRowVisible(int row) {
+        if (!hasTextFilter()) {
+            return true;
+        }
+        if (filterMatches == null) {
+            BitSet matches = new BitSet();
+            matches.set(0, data.size());
+            if (!nameFilter.isEmpty()) {
+                matches.and(textIndex.search(EmployeeTextIndex.Field.NAME, nameFilter));
+            }
+            if (!addressFilter.isEmpty()) {
+                matches.and(textIndex.search(EmployeeTextIndex.Field.ADDRESS, addressFilter));
+            }
+            filterMatches = matches;
+        }
+        return filterMatches.get(row);
+    }
+
+    public EmployeeColumns getColumns() {
+        return data;
+    }
+
+    @Override
+    public int getRowCount() {
+        return data.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return visibleColumns.length + 1;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return column == 0 ? "" : visibleColumns[column - 1].name();
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        // 첫 번째 열은 체크박스로 표시
+        return column == 0 ? Boolean.class : Object.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        // 체크박스 열만 편집 가능하도록 설정
+        return column == 0;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (column == 0) {
+            return checked.get(row);
+        }
+        return switch (visibleColumns[column - 1]) {
+            case NAME -> getDisplayName(row);
+            case SSN -> EmployeeColumnStore.decodeSsn(data.getSsn(row));
+            case BDATE -> {
+                int epochDay = data.getBirthEpochDay(row);
+                yield epochDay == EmployeeColumnStore.NULL_DATE ? "" : LocalDate.ofEpochDay(epochDay).toString();
+            }
+            case ADDRESS -> data.getAddress(row);
+            case SEX -> data.getSex(row);
+            case SALARY -> formatCents(data.getSalaryCents(row));
+            case SUPERVISOR -> EmployeeColumnStore.decodeSsn(data.getSupervisorSsn(row));
+            case DEPARTMENT -> data.getDepartmentName(row);
+            case MODIFIED -> {
+                long millis = data.getModifiedMillis(row);
+                yield millis == EmployeeColumnStore.NULL_TIMESTAMP ? "" : timestampFormat.format(Instant.ofEpochMilli(millis));
+            }
+        };
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        if (column == 0) {
+            checked.set(row, Boolean.TRUE.equals(value));
+            fireTableCellUpdated(row, column);
+        }
+    }
+
+    // 이름은 "FirstName M. LastName" 형식으로 표시
+    public String getDisplayName(int row) {
+        return data.getFirstName(row) + " " + data.getMinit(row) + ". " + data.getLastName(row);
+    }
+
+    public String getSsn(int row) {
+        return EmployeeColumnStore.decodeSsn(data.getSsn(row));
+    }
+
+    public BitSet getCheckedRows() {
+        return checked;
+    }
+
+    // 급여는 소수점 둘째자리까지 표시
+    private static String formatCents(long cents) {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-" : "") + (abs / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
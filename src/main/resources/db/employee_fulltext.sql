@@ -0,0 +1,26 @@
+-- Name/Address 검색을 FULLTEXT 색인으로 처리하기 위한 DDL (MySQL 8.0 이상)
+-- 적용하면 EmployeeDAO가 자동으로 감지해서 LIKE '%x%' 대신 MATCH ... AGAINST로 후보를 좁힘
+-- (DB_TEXT_SEARCH=like 로 기존 방식 강제, 색인을 지우면 자동으로 LIKE 방식으로 돌아감)
+
+-- 검색 화면의 이름 표시 형식("Fname M. Lname")과 같은 값을 저장하는 생성 컬럼
+-- STORED 이므로 Fname/Minit/Lname이 바뀌면 MySQL이 함께 갱신
+ALTER TABLE EMPLOYEE
+    ADD COLUMN Full_name VARCHAR(40)
+        GENERATED ALWAYS AS (CONCAT(Fname, ' ', Minit, '. ', Lname)) STORED;
+
+-- 이름 앞부분 검색(LIKE 'x%')과 정렬용 일반 색인
+CREATE INDEX idx_employee_full_name ON EMPLOYEE (Full_name);
+
+-- 부분 문자열 검색용 ngram FULLTEXT 색인 (ngram_token_size 기본값 2)
+CREATE FULLTEXT INDEX ft_employee_full_name ON EMPLOYEE (Full_name) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_employee_address ON EMPLOYEE (Address) WITH PARSER ngram;
+
+-- 참고: InnoDB 기본 불용어(stopword) 목록에 걸리는 ngram은 색인되지 않으므로
+-- LIKE와 결과를 같게 하려면 색인을 만들기 전에 불용어를 끄는 것을 권장
+--   SET GLOBAL innodb_ft_enable_stopword = OFF;
+
+-- 되돌리기
+-- DROP INDEX ft_employee_address ON EMPLOYEE;
+-- DROP INDEX ft_employee_full_name ON EMPLOYEE;
+-- DROP INDEX idx_employee_full_name ON EMPLOYEE;
+-- ALTER TABLE EMPLOYEE DROP COLUMN Full_name;
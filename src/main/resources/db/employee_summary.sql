@@ -0,0 +1,40 @@
+-- 부서/성별/상급자별 인원수와 급여 합계 요약 테이블 (MySQL 8.0 이상)
+-- 적용하면 EmployeeDAO가 자동으로 감지해서 직원 추가/삭제/수정과 같은 트랜잭션에서 변경분만 반영하고,
+-- 검색 조건 없이 성별/부서/상급자 하나로 묶는 그룹 통계는 EMPLOYEE 대신 이 테이블에서 읽음
+-- (Salary_sumsq는 표준편차 계산용, MIN/MAX는 증분으로 유지할 수 없으므로 요약에서 제외하고
+--  아래 (컬럼, Salary) 색인으로 그룹마다 양 끝만 읽음)
+
+CREATE TABLE EMPLOYEE_SUMMARY (
+    Dimension    VARCHAR(10)    NOT NULL,   -- DNO, SEX, SUPER_SSN
+    Group_key    VARCHAR(20)    NOT NULL,   -- 부서 번호, 성별, 상급자 SSN (부서 없음은 0, 성별/상급자 없음은 '')
+    Emp_count    BIGINT         NOT NULL,
+    Salary_sum   DECIMAL(20, 2) NOT NULL,
+    Salary_sumsq DECIMAL(30, 4) NOT NULL,
+    PRIMARY KEY (Dimension, Group_key)
+);
+
+-- 그룹별 최소/최대 급여용 색인 (GROUP BY Dno + MIN/MAX(Salary)가 테이블을 훑지 않고 그룹마다 색인 양 끝만 읽음)
+CREATE INDEX idx_employee_dno_salary ON EMPLOYEE (Dno, Salary);
+CREATE INDEX idx_employee_sex_salary ON EMPLOYEE (Sex, Salary);
+CREATE INDEX idx_employee_super_ssn_salary ON EMPLOYEE (Super_ssn, Salary);
+
+-- 처음 채우기 (EmployeeSummary.rebuild()와 같은 내용)
+-- 이 프로그램을 거치지 않고 EMPLOYEE를 직접 바꿨다면 진단 화면의 "요약 재계산"을 누르거나 다시 실행 ("요약 검사"로 확인 가능)
+START TRANSACTION;
+DELETE FROM EMPLOYEE_SUMMARY;
+INSERT INTO EMPLOYEE_SUMMARY (Dimension, Group_key, Emp_count, Salary_sum, Salary_sumsq)
+    SELECT 'DNO', COALESCE(Dno, 0), COUNT(*), COALESCE(SUM(Salary), 0), COALESCE(SUM(Salary * Salary), 0)
+    FROM EMPLOYEE GROUP BY COALESCE(Dno, 0);
+INSERT INTO EMPLOYEE_SUMMARY (Dimension, Group_key, Emp_count, Salary_sum, Salary_sumsq)
+    SELECT 'SEX', COALESCE(Sex, ''), COUNT(*), COALESCE(SUM(Salary), 0), COALESCE(SUM(Salary * Salary), 0)
+    FROM EMPLOYEE GROUP BY COALESCE(Sex, '');
+INSERT INTO EMPLOYEE_SUMMARY (Dimension, Group_key, Emp_count, Salary_sum, Salary_sumsq)
+    SELECT 'SUPER_SSN', COALESCE(Super_ssn, ''), COUNT(*), COALESCE(SUM(Salary), 0), COALESCE(SUM(Salary * Salary), 0)
+    FROM EMPLOYEE GROUP BY COALESCE(Super_ssn, '');
+COMMIT;
+
+-- 되돌리기 (테이블이 없으면 요약 유지와 요약 조회를 모두 건너뜀)
+-- DROP TABLE EMPLOYEE_SUMMARY;
+-- DROP INDEX idx_employee_dno_salary ON EMPLOYEE;
+-- DROP INDEX idx_employee_sex_salary ON EMPLOYEE;
+-- DROP INDEX idx_employee_super_ssn_salary ON EMPLOYEE;